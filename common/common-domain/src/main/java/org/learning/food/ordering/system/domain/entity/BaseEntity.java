@@ -23,6 +23,6 @@ public abstract class BaseEntity<ID> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Objects.hashCode(id);
     }
 }
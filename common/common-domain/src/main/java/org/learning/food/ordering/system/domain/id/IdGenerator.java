@@ -0,0 +1,17 @@
+package org.learning.food.ordering.system.domain.id;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID generate();
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    static IdGenerator timeOrdered() {
+        return TimeOrderedIdGenerator.INSTANCE;
+    }
+}
@@ -0,0 +1,53 @@
+package org.learning.food.ordering.system.domain.id;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates UUIDv7 identifiers: a 48-bit unix epoch millisecond prefix, a 12-bit per-thread sequence and 62 random
+ * bits. Identifiers from one thread are strictly increasing; identifiers across threads are ordered by millisecond.
+ * <p>
+ * The prefix is predictable and the random bits come from {@link ThreadLocalRandom}, so these identifiers are only
+ * for internal keys and must not be used where an identifier has to be unguessable.
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+    static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator(Clock.systemUTC());
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final int SEQUENCE_SEED_BOUND = 0x800;
+
+    private final Clock clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    public TimeOrderedIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        State current = state.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = clock.millis();
+        if (millis > current.lastMillis) {
+            current.lastMillis = millis;
+            current.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+        } else if (current.sequence < MAX_SEQUENCE) {
+            current.sequence++;
+        } else {
+            current.lastMillis++;
+            current.sequence = 0;
+        }
+        long mostSignificantBits = (current.lastMillis << 16) | VERSION | current.sequence;
+        long leastSignificantBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static final class State {
+        private long lastMillis = Long.MIN_VALUE;
+        private int sequence;
+    }
+}
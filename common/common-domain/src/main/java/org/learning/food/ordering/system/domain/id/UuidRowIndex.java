@@ -0,0 +1,140 @@
+package org.learning.food.ordering.system.domain.id;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Maps UUID keys to the rows of a column store. The key of every row is kept in two primitive columns, and an
+ * open-addressing table with linear probing points from the key hash to the row, so a lookup allocates nothing.
+ * <p>
+ * The table has twice as many slots as there are rows, which keeps the load factor at or below one half. Deletion
+ * shifts later entries of the probe run back into the gap instead of leaving tombstones. Not thread-safe.
+ */
+public final class UuidRowIndex {
+    public static final int NONE = -1;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private int[] table;
+    private int tableMask;
+
+    /**
+     * @param rowCapacity the number of rows, a power of two
+     */
+    public UuidRowIndex(int rowCapacity) {
+        checkCapacity(rowCapacity);
+        mostSignificantBits = new long[rowCapacity];
+        leastSignificantBits = new long[rowCapacity];
+        allocateTable(rowCapacity);
+    }
+
+    public int find(long msb, long lsb) {
+        for (int position = hash(msb, lsb) & tableMask; ; position = (position + 1) & tableMask) {
+            int row = table[position];
+            if (row == NONE) {
+                return NONE;
+            }
+            if (mostSignificantBits[row] == msb && leastSignificantBits[row] == lsb) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Sets the key of an unindexed row and indexes it. The key must not be indexed already.
+     */
+    public void insert(int row, long msb, long lsb) {
+        mostSignificantBits[row] = msb;
+        leastSignificantBits[row] = lsb;
+        insert(row);
+    }
+
+    public void remove(int row) {
+        int gap = positionOf(row);
+        for (int position = (gap + 1) & tableMask; table[position] != NONE; position = (position + 1) & tableMask) {
+            int candidate = table[position];
+            int home = hash(mostSignificantBits[candidate], leastSignificantBits[candidate]) & tableMask;
+            if (((position - home) & tableMask) >= ((position - gap) & tableMask)) {
+                table[gap] = candidate;
+                gap = position;
+            }
+        }
+        table[gap] = NONE;
+    }
+
+    /**
+     * Moves an indexed row to an unindexed one, keeping its key.
+     */
+    public void move(int from, int to) {
+        table[positionOf(from)] = to;
+        mostSignificantBits[to] = mostSignificantBits[from];
+        leastSignificantBits[to] = leastSignificantBits[from];
+    }
+
+    /**
+     * Grows the key columns to {@code rowCapacity} rows and re-indexes the rows that {@code indexed} accepts.
+     */
+    public void resize(int rowCapacity, IntPredicate indexed) {
+        checkCapacity(rowCapacity);
+        int oldCapacity = mostSignificantBits.length;
+        mostSignificantBits = Arrays.copyOf(mostSignificantBits, rowCapacity);
+        leastSignificantBits = Arrays.copyOf(leastSignificantBits, rowCapacity);
+        allocateTable(rowCapacity);
+        for (int row = 0; row < Math.min(oldCapacity, rowCapacity); row++) {
+            if (indexed.test(row)) {
+                insert(row);
+            }
+        }
+    }
+
+    public long mostSignificantBits(int row) {
+        return mostSignificantBits[row];
+    }
+
+    public long leastSignificantBits(int row) {
+        return leastSignificantBits[row];
+    }
+
+    public int rowCapacity() {
+        return mostSignificantBits.length;
+    }
+
+    public long footprintBytes() {
+        return (long) mostSignificantBits.length * 2 * Long.BYTES + (long) table.length * Integer.BYTES;
+    }
+
+    public static int hash(long msb, long lsb) {
+        long hash = msb ^ Long.rotateLeft(lsb, 32);
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (hash ^ (hash >>> 33));
+    }
+
+    private void insert(int row) {
+        int position = hash(mostSignificantBits[row], leastSignificantBits[row]) & tableMask;
+        while (table[position] != NONE) {
+            position = (position + 1) & tableMask;
+        }
+        table[position] = row;
+    }
+
+    private int positionOf(int row) {
+        int position = hash(mostSignificantBits[row], leastSignificantBits[row]) & tableMask;
+        while (table[position] != row) {
+            position = (position + 1) & tableMask;
+        }
+        return position;
+    }
+
+    private void allocateTable(int rowCapacity) {
+        table = new int[rowCapacity * 2];
+        Arrays.fill(table, NONE);
+        tableMask = table.length - 1;
+    }
+
+    private static void checkCapacity(int rowCapacity) {
+        if (rowCapacity < 1 || Integer.bitCount(rowCapacity) != 1 || rowCapacity > 1 << 29) {
+            throw new IllegalArgumentException("Row capacity must be a power of two up to 2^29: " + rowCapacity);
+        }
+    }
+}
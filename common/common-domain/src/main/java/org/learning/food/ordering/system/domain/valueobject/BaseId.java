@@ -5,9 +5,11 @@ import java.util.Objects;
 public abstract class BaseId<T> {
 
     private final T value;
+    private final int hash;
 
     protected BaseId(T value) {
         this.value = value;
+        this.hash = Objects.hashCode(value);
     }
 
     public T getValue() {
@@ -19,11 +21,11 @@ public abstract class BaseId<T> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         BaseId<?> baseId = (BaseId<?>) o;
-        return Objects.equals(value, baseId.value);
+        return hash == baseId.hash && Objects.equals(value, baseId.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
     }
 }
@@ -0,0 +1,68 @@
+package org.learning.food.ordering.system.domain.valueobject;
+
+import org.learning.food.ordering.system.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Money as long minor units at {@link #SCALE} decimal places. Conversions are exact: an amount with more decimal
+ * places, or outside the long range, is never rounded silently. {@link #roundToMinorUnits} is the one rounding
+ * conversion, for storage layouts that mirror the two-decimal price columns.
+ */
+public final class FixedPointMoney {
+    public static final int SCALE = 2;
+    public static final long NOT_MINOR_UNITS = Long.MIN_VALUE;
+
+    private FixedPointMoney() {
+    }
+
+    public static long toMinorUnits(Money money) {
+        long minorUnits = toMinorUnitsOrNone(money);
+        if (minorUnits == NOT_MINOR_UNITS) {
+            throw new DomainException("Amount: " + money.amount() + " cannot be represented with " + SCALE +
+                    " decimal places!");
+        }
+        return minorUnits;
+    }
+
+    /**
+     * Returns {@link #NOT_MINOR_UNITS} instead of throwing, for amounts that are validated later.
+     */
+    public static long toMinorUnitsOrNone(Money money) {
+        if (Objects.isNull(money) || Objects.isNull(money.amount())) {
+            return 0L;
+        }
+        BigDecimal amount = money.amount();
+        if (amount.scale() > SCALE && amount.stripTrailingZeros().scale() > SCALE) {
+            return NOT_MINOR_UNITS;
+        }
+        BigInteger unscaledValue = amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue();
+        return unscaledValue.bitLength() < Long.SIZE ? unscaledValue.longValue() : NOT_MINOR_UNITS;
+    }
+
+    public static long roundToMinorUnits(Money money) {
+        if (Objects.isNull(money) || Objects.isNull(money.amount())) {
+            return 0L;
+        }
+        return money.amount().setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    public static Money toMoney(long minorUnits) {
+        return new Money(BigDecimal.valueOf(minorUnits, SCALE));
+    }
+
+    public static long add(long minorUnits, long other) {
+        return Math.addExact(minorUnits, other);
+    }
+
+    public static long subtract(long minorUnits, long other) {
+        return Math.subtractExact(minorUnits, other);
+    }
+
+    public static long multiply(long minorUnits, int multiplier) {
+        return Math.multiplyExact(minorUnits, multiplier);
+    }
+}
@@ -0,0 +1,41 @@
+package org.learning.food.ordering.system.domain.valueobject;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Bounded, lock-free canonicalizing cache for ids. Every UUID maps to exactly one slot and a miss overwrites that
+ * slot, so the cache never grows and never blocks. Racing misses at worst create equal ids that are not the same
+ * instance, which is harmless because ids compare by value.
+ */
+final class IdInterner<T extends BaseId<UUID>> {
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final Function<UUID, T> factory;
+
+    IdInterner(int capacity, Function<UUID, T> factory) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.factory = factory;
+    }
+
+    T intern(UUID value) {
+        if (value == null) {
+            return factory.apply(null);
+        }
+        int hash = Objects.hashCode(value);
+        int index = (hash ^ hash >>> 16) & mask;
+        T cached = slots.getAcquire(index);
+        if (cached != null && cached.hashCode() == hash && value.equals(cached.getValue())) {
+            return cached;
+        }
+        T id = factory.apply(value);
+        slots.setRelease(index, id);
+        return id;
+    }
+}
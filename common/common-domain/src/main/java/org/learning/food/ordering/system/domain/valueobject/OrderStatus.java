@@ -2,5 +2,32 @@ package org.learning.food.ordering.system.domain.valueobject;
 
 public enum OrderStatus {
 
-    PENDING, PAID, APPROVED, CANCELLING, CANCELLED
+    PENDING, PAID, APPROVED, CANCELLING, CANCELLED;
+
+    private static final OrderStatus[] VALUES = values();
+    private static final int[] ALLOWED_TRANSITIONS = new int[VALUES.length];
+
+    static {
+        allow(PENDING, PAID);
+        allow(PENDING, CANCELLED);
+        allow(PAID, APPROVED);
+        allow(PAID, CANCELLING);
+        allow(CANCELLING, CANCELLED);
+    }
+
+    private static void allow(OrderStatus from, OrderStatus to) {
+        ALLOWED_TRANSITIONS[from.ordinal()] |= 1 << to.ordinal();
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return (ALLOWED_TRANSITIONS[ordinal()] & (1 << target.ordinal())) != 0;
+    }
+
+    public boolean isTerminal() {
+        return ALLOWED_TRANSITIONS[ordinal()] == 0;
+    }
+
+    public static OrderStatus fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
 }
@@ -3,8 +3,17 @@ package org.learning.food.ordering.system.domain.valueobject;
 import java.util.UUID;
 
 public class ProductId extends BaseId<UUID>{
+    private static final IdInterner<ProductId> INTERNER = new IdInterner<>(1 << 16, ProductId::new);
 
     public ProductId(UUID value) {
         super(value);
     }
+
+    /**
+     * Returns a shared instance for frequently repeated product ids; use it where ids are read from requests, messages
+     * or storage.
+     */
+    public static ProductId of(UUID value) {
+        return INTERNER.intern(value);
+    }
 }
@@ -3,7 +3,13 @@ package org.learning.food.ordering.system.domain.valueobject;
 import java.util.UUID;
 
 public class RestaurantId extends BaseId<UUID> {
+    private static final IdInterner<RestaurantId> INTERNER = new IdInterner<>(1 << 12, RestaurantId::new);
+
     public RestaurantId(UUID value) {
         super(value);
     }
+
+    public static RestaurantId of(UUID value) {
+        return INTERNER.intern(value);
+    }
 }
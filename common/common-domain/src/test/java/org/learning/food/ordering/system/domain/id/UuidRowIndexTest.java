@@ -0,0 +1,85 @@
+package org.learning.food.ordering.system.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidRowIndexTest {
+
+    @Test
+    void findsInsertedKeysAndForgetsRemovedOnes() {
+        UuidRowIndex index = new UuidRowIndex(4);
+        index.insert(0, 1L, 2L);
+        index.insert(1, 3L, 4L);
+
+        assertEquals(0, index.find(1L, 2L));
+        assertEquals(1, index.find(3L, 4L));
+        assertEquals(UuidRowIndex.NONE, index.find(1L, 4L));
+
+        index.remove(0);
+        assertEquals(UuidRowIndex.NONE, index.find(1L, 2L));
+        assertEquals(1, index.find(3L, 4L));
+
+        index.move(1, 0);
+        assertEquals(0, index.find(3L, 4L));
+        assertEquals(3L, index.mostSignificantBits(0));
+        assertEquals(4L, index.leastSignificantBits(0));
+    }
+
+    @Test
+    void matchesAHashMapModelUnderRandomInsertsRemovesAndResizes() {
+        Random random = new Random(42);
+        UuidRowIndex index = new UuidRowIndex(16);
+        List<UUID> rows = new ArrayList<>();
+        Map<UUID, Integer> model = new HashMap<>();
+        List<UUID> removed = new ArrayList<>();
+
+        for (int operation = 0; operation < 200_000; operation++) {
+            if (rows.isEmpty() || random.nextInt(100) < 55 && rows.size() < 5_000) {
+                UUID key = new UUID(random.nextLong(), random.nextLong());
+                if (rows.size() == index.rowCapacity()) {
+                    int live = rows.size();
+                    index.resize(index.rowCapacity() * 2, row -> row < live);
+                }
+                index.insert(rows.size(), key.getMostSignificantBits(), key.getLeastSignificantBits());
+                model.put(key, rows.size());
+                rows.add(key);
+            } else {
+                int row = random.nextInt(rows.size());
+                UUID key = rows.get(row);
+                int last = rows.size() - 1;
+                index.remove(row);
+                model.remove(key);
+                removed.add(key);
+                if (row != last) {
+                    UUID moved = rows.get(last);
+                    index.move(last, row);
+                    model.put(moved, row);
+                    rows.set(row, moved);
+                }
+                rows.remove(last);
+            }
+
+            if (operation % 1_000 == 0) {
+                model.forEach((key, row) -> assertEquals(row,
+                        index.find(key.getMostSignificantBits(), key.getLeastSignificantBits())));
+                for (UUID key : removed) {
+                    if (!model.containsKey(key)) {
+                        assertEquals(UuidRowIndex.NONE,
+                                index.find(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+                    }
+                }
+                removed.clear();
+            }
+        }
+    }
+
+    @Test
+    void rejectsRowCapacitiesThatAreNotPowersOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new UuidRowIndex(0));
+        assertThrows(IllegalArgumentException.class, () -> new UuidRowIndex(12));
+        assertThrows(IllegalArgumentException.class, () -> new UuidRowIndex(16).resize(24, row -> true));
+    }
+}
@@ -0,0 +1,48 @@
+package org.learning.food.ordering.system.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointMoneyTest {
+
+    @Test
+    void amountsWithAtMostTwoDecimalPlacesConvertExactly() {
+        assertEquals(1000L, FixedPointMoney.toMinorUnits(money("10")));
+        assertEquals(1000L, FixedPointMoney.toMinorUnits(money("10.000")));
+        assertEquals(-1234L, FixedPointMoney.toMinorUnits(money("-12.34")));
+        assertEquals(100000L, FixedPointMoney.toMinorUnits(money("1E+3")));
+        assertEquals(0L, FixedPointMoney.toMinorUnits(null));
+        assertEquals(money("12.34"), FixedPointMoney.toMoney(1234L));
+    }
+
+    @Test
+    void amountsWithMoreDecimalPlacesAreNeverRounded() {
+        assertThrows(DomainException.class, () -> FixedPointMoney.toMinorUnits(money("10.004")));
+        assertThrows(DomainException.class, () -> FixedPointMoney.toMinorUnits(money("10.005")));
+        assertEquals(FixedPointMoney.NOT_MINOR_UNITS, FixedPointMoney.toMinorUnitsOrNone(money("10.004")));
+        assertEquals(FixedPointMoney.NOT_MINOR_UNITS, FixedPointMoney.toMinorUnitsOrNone(money("0.001")));
+    }
+
+    @Test
+    void amountsOutsideTheLongRangeAreRejected() {
+        assertEquals(Long.MAX_VALUE, FixedPointMoney.toMinorUnits(money("92233720368547758.07")));
+        assertEquals(FixedPointMoney.NOT_MINOR_UNITS, FixedPointMoney.toMinorUnitsOrNone(money("92233720368547758.08")));
+        assertEquals(FixedPointMoney.NOT_MINOR_UNITS,
+                FixedPointMoney.toMinorUnitsOrNone(money("-92233720368547758.08")));
+    }
+
+    @Test
+    void roundToMinorUnitsRoundsHalfEven() {
+        assertEquals(1000L, FixedPointMoney.roundToMinorUnits(money("10.004")));
+        assertEquals(1000L, FixedPointMoney.roundToMinorUnits(money("10.005")));
+        assertEquals(1002L, FixedPointMoney.roundToMinorUnits(money("10.015")));
+    }
+
+    private static Money money(String amount) {
+        return new Money(new BigDecimal(amount));
+    }
+}
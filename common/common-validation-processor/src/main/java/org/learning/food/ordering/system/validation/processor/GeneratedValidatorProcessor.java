@@ -0,0 +1,343 @@
+package org.learning.food.ordering.system.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Record>Validator} next to every record annotated with {@code @GenerateValidator}. The
+ * constraints are read from the record component accessors once, at compile time, and turned into straight-line
+ * checks.
+ */
+@SupportedAnnotationTypes(GeneratedValidatorProcessor.GENERATE_VALIDATOR)
+public class GeneratedValidatorProcessor extends AbstractProcessor {
+    static final String GENERATE_VALIDATOR = "org.learning.food.ordering.system.validation.GenerateValidator";
+
+    private static final String NOT_NULL = "javax.validation.constraints.NotNull";
+    private static final String MIN = "javax.validation.constraints.Min";
+    private static final String MAX = "javax.validation.constraints.Max";
+    private static final String VALID = "javax.validation.Valid";
+    private static final Set<String> INTEGRAL_TYPES = Set.of("java.lang.Long", "java.lang.Integer",
+            "java.lang.Short", "java.lang.Byte");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement generateValidator = processingEnv.getElementUtils().getTypeElement(GENERATE_VALIDATOR);
+        if (generateValidator == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(generateValidator)) {
+            if (element.getKind() != ElementKind.RECORD || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) {
+                error(element, "@GenerateValidator is only supported on top-level records");
+                continue;
+            }
+            try {
+                generate((TypeElement) element);
+            } catch (InvalidConstraintException e) {
+                error(e.element, e.getMessage());
+            } catch (IOException e) {
+                error(element, "Could not write validator: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) throws IOException {
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(record).getQualifiedName().toString();
+        String recordName = record.getQualifiedName().toString();
+        String validatorName = record.getSimpleName() + "Validator";
+
+        ValidatorWriter body = new ValidatorWriter();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            writeComponent(body, component);
+        }
+
+        JavaFileObject sourceFile = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? validatorName : packageName + "." + validatorName, record);
+        try (Writer writer = sourceFile.openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            if (body.usesConstraints()) {
+                writer.write("import org.learning.food.ordering.system.validation.Constraints;\n");
+            }
+            writer.write("import org.learning.food.ordering.system.validation.FieldViolation;\n");
+            writer.write("import org.learning.food.ordering.system.validation.GeneratedValidator;\n\n");
+            writer.write("import java.util.List;\n\n");
+            writer.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+            writer.write("public final class " + validatorName + " implements GeneratedValidator<" + recordName + "> {\n");
+            writer.write("    public static final " + validatorName + " INSTANCE = new " + validatorName + "();\n");
+            writer.write(body.constants());
+            writer.write("\n    private " + validatorName + "() {\n    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public List<FieldViolation> validate(" + recordName + " value) {\n");
+            writer.write("        List<FieldViolation> violations = check(value);\n");
+            writer.write("        return violations == null ? List.of() : violations;\n");
+            writer.write("    }\n\n");
+            writer.write("    /**\n");
+            writer.write("     * Returns the violations of a non-null value, or {@code null} when it is valid.\n");
+            writer.write("     */\n");
+            writer.write("    public static List<FieldViolation> check(" + recordName + " value) {\n");
+            writer.write("        List<FieldViolation> violations = null;\n");
+            writer.write(body.statements());
+            writer.write("        return violations;\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    private void writeComponent(ValidatorWriter body, RecordComponentElement component) {
+        ExecutableElement accessor = component.getAccessor();
+        String name = component.getSimpleName().toString();
+        TypeMirror type = component.asType();
+        boolean primitive = type.getKind().isPrimitive();
+
+        boolean notNull = false;
+        Long min = null;
+        Long max = null;
+        boolean valid = false;
+        for (AnnotationMirror annotation : accessor.getAnnotationMirrors()) {
+            String annotationName = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            switch (annotationName) {
+                case NOT_NULL -> notNull = true;
+                case MIN -> min = longValue(annotation);
+                case MAX -> max = longValue(annotation);
+                case VALID -> valid = true;
+                default -> {
+                }
+            }
+        }
+        if (!notNull && min == null && max == null && !valid) {
+            return;
+        }
+
+        String local = name + "Value";
+        body.line(2, typeName(type) + " " + local + " = value." + name + "();");
+        int depth = 2;
+        if (!primitive) {
+            if (notNull) {
+                body.line(2, "if (" + local + " == null) {");
+                body.violation(3, name, "must not be null");
+                if (min == null && max == null && !valid) {
+                    body.line(2, "}");
+                    return;
+                }
+                body.line(2, "} else {");
+            } else {
+                body.line(2, "if (" + local + " != null) {");
+            }
+            depth = 3;
+        }
+        if (min != null) {
+            body.line(depth, "if (" + belowMin(body, component, local, min) + ") {");
+            body.violation(depth + 1, name, "must be greater than or equal to " + min);
+            body.line(depth, "}");
+        }
+        if (max != null) {
+            body.line(depth, "if (" + exceedsMax(body, component, local, max) + ") {");
+            body.violation(depth + 1, name, "must be less than or equal to " + max);
+            body.line(depth, "}");
+        }
+        if (valid) {
+            writeCascade(body, component, local, depth);
+        }
+        if (!primitive) {
+            body.line(2, "}");
+        }
+    }
+
+    private String belowMin(ValidatorWriter body, RecordComponentElement component, String local, long min) {
+        return switch (numericKind(component)) {
+            case INTEGRAL -> local + " < " + min + "L";
+            case BIG_DECIMAL -> local + ".compareTo(" + body.constant(component, "MIN", "java.math.BigDecimal", min) + ") < 0";
+            case BIG_INTEGER -> local + ".compareTo(" + body.constant(component, "MIN", "java.math.BigInteger", min) + ") < 0";
+            case CHAR_SEQUENCE -> body.constraints("belowMin(" + local + ", " + min + "L)");
+        };
+    }
+
+    private String exceedsMax(ValidatorWriter body, RecordComponentElement component, String local, long max) {
+        return switch (numericKind(component)) {
+            case INTEGRAL -> local + " > " + max + "L";
+            case BIG_DECIMAL -> local + ".compareTo(" + body.constant(component, "MAX", "java.math.BigDecimal", max) + ") > 0";
+            case BIG_INTEGER -> local + ".compareTo(" + body.constant(component, "MAX", "java.math.BigInteger", max) + ") > 0";
+            case CHAR_SEQUENCE -> body.constraints("exceedsMax(" + local + ", " + max + "L)");
+        };
+    }
+
+    private NumericKind numericKind(RecordComponentElement component) {
+        TypeMirror type = component.asType();
+        TypeKind kind = type.getKind();
+        if (kind == TypeKind.LONG || kind == TypeKind.INT || kind == TypeKind.SHORT || kind == TypeKind.BYTE) {
+            return NumericKind.INTEGRAL;
+        }
+        Types types = processingEnv.getTypeUtils();
+        String erasure = types.erasure(type).toString();
+        if (INTEGRAL_TYPES.contains(erasure)) {
+            return NumericKind.INTEGRAL;
+        }
+        if (erasure.equals("java.math.BigDecimal")) {
+            return NumericKind.BIG_DECIMAL;
+        }
+        if (erasure.equals("java.math.BigInteger")) {
+            return NumericKind.BIG_INTEGER;
+        }
+        TypeElement charSequence = processingEnv.getElementUtils().getTypeElement("java.lang.CharSequence");
+        if (types.isAssignable(type, charSequence.asType())) {
+            return NumericKind.CHAR_SEQUENCE;
+        }
+        throw new InvalidConstraintException(component, "@Min and @Max are not supported on " + type);
+    }
+
+    private void writeCascade(ValidatorWriter body, RecordComponentElement component, String local, int depth) {
+        String name = component.getSimpleName().toString();
+        TypeMirror type = component.asType();
+        Types types = processingEnv.getTypeUtils();
+        TypeElement iterable = processingEnv.getElementUtils().getTypeElement("java.lang.Iterable");
+        if (types.isAssignable(types.erasure(type), types.erasure(iterable.asType()))) {
+            TypeMirror elementType = elementType(component, (DeclaredType) type);
+            String index = name + "Index";
+            body.line(depth, "int " + index + " = 0;");
+            body.line(depth, "for (" + typeName(elementType) + " element : " + local + ") {");
+            body.line(depth + 1, "if (element != null) {");
+            body.line(depth + 2, "List<FieldViolation> nested = " + validatorName(component, elementType) + ".check(element);");
+            body.line(depth + 2, "if (nested != null) {");
+            body.line(depth + 3, "violations = FieldViolation.addNested(violations, \"" + name + "[\" + " + index +
+                    " + \"]\", nested);");
+            body.line(depth + 2, "}");
+            body.line(depth + 1, "}");
+            body.line(depth + 1, index + "++;");
+            body.line(depth, "}");
+            return;
+        }
+        String nested = name + "Violations";
+        body.line(depth, "List<FieldViolation> " + nested + " = " + validatorName(component, type) + ".check(" + local + ");");
+        body.line(depth, "if (" + nested + " != null) {");
+        body.line(depth + 1, "violations = FieldViolation.addNested(violations, \"" + name + "\", " + nested + ");");
+        body.line(depth, "}");
+    }
+
+    private TypeMirror elementType(RecordComponentElement component, DeclaredType type) {
+        if (type.getTypeArguments().size() != 1 || type.getTypeArguments().get(0).getKind() != TypeKind.DECLARED) {
+            throw new InvalidConstraintException(component, "@Valid requires a collection with a single record element type");
+        }
+        return type.getTypeArguments().get(0);
+    }
+
+    private String validatorName(RecordComponentElement component, TypeMirror type) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        TypeElement generateValidator = processingEnv.getElementUtils().getTypeElement(GENERATE_VALIDATOR);
+        boolean annotated = element != null && element.getAnnotationMirrors().stream()
+                .anyMatch(annotation -> annotation.getAnnotationType().asElement().equals(generateValidator));
+        if (!annotated) {
+            throw new InvalidConstraintException(component, "@Valid requires " + type + " to be annotated with @GenerateValidator");
+        }
+        return ((TypeElement) element).getQualifiedName() + "Validator";
+    }
+
+    /**
+     * Type names are built from the elements because {@link TypeMirror#toString()} includes type-use annotations
+     * such as {@code @NotNull}.
+     */
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (!(type instanceof DeclaredType declaredType)) {
+            return processingEnv.getTypeUtils().erasure(type).toString();
+        }
+        StringBuilder name = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+        if (!declaredType.getTypeArguments().isEmpty()) {
+            name.append('<');
+            for (int i = 0; i < declaredType.getTypeArguments().size(); i++) {
+                TypeMirror argument = declaredType.getTypeArguments().get(i);
+                name.append(i == 0 ? "" : ", ").append(argument.getKind() == TypeKind.WILDCARD ? "?" : typeName(argument));
+            }
+            name.append('>');
+        }
+        return name.toString();
+    }
+
+    private Long longValue(AnnotationMirror annotation) {
+        for (var entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return ((Number) entry.getValue().getValue()).longValue();
+            }
+        }
+        throw new IllegalStateException("Missing value of " + annotation);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private enum NumericKind {
+        INTEGRAL, BIG_DECIMAL, BIG_INTEGER, CHAR_SEQUENCE
+    }
+
+    private static final class InvalidConstraintException extends RuntimeException {
+        private final transient Element element;
+
+        private InvalidConstraintException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+
+    private static final class ValidatorWriter {
+        private final StringBuilder constants = new StringBuilder();
+        private final StringBuilder statements = new StringBuilder();
+        private boolean usesConstraints;
+
+        void line(int depth, String code) {
+            statements.append("    ".repeat(depth)).append(code).append('\n');
+        }
+
+        void violation(int depth, String path, String message) {
+            line(depth, "violations = FieldViolation.add(violations, \"" + path + "\", \"" + message + "\");");
+        }
+
+        String constant(RecordComponentElement component, String suffix, String type, long value) {
+            String name = component.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+                    .toUpperCase() + "_" + suffix;
+            constants.append("    private static final ").append(type).append(' ').append(name).append(" = ")
+                    .append(type).append(".valueOf(").append(value).append("L);\n");
+            return name;
+        }
+
+        String constraints(String call) {
+            usesConstraints = true;
+            return "Constraints." + call;
+        }
+
+        boolean usesConstraints() {
+            return usesConstraints;
+        }
+
+        String constants() {
+            return constants.toString();
+        }
+
+        String statements() {
+            return statements.toString();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.learning.food.ordering.system.validation;
+
+import java.math.BigDecimal;
+
+/**
+ * Checks used by generated validators where a constraint is not a single comparison. Character sequences are
+ * compared numerically, as Bean Validation does for {@code @Min} and {@code @Max}: a value that is not a number
+ * violates the constraint.
+ */
+public final class Constraints {
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+    private static final int NOT_A_NUMBER = Integer.MAX_VALUE;
+
+    private Constraints() {
+    }
+
+    public static boolean exceedsMax(CharSequence value, long max) {
+        return compareNumeric(value, max) > 0;
+    }
+
+    public static boolean belowMin(CharSequence value, long min) {
+        int comparison = compareNumeric(value, min);
+        return comparison < 0 || comparison == NOT_A_NUMBER;
+    }
+
+    /**
+     * Returns the sign of {@code value - bound}, or {@link #NOT_A_NUMBER} when the value does not parse as a
+     * {@link BigDecimal}. Plain integers of up to 18 digits are compared without parsing into a number object.
+     */
+    private static int compareNumeric(CharSequence value, long bound) {
+        int length = value.length();
+        if (length == 0) {
+            return NOT_A_NUMBER;
+        }
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        boolean plainInteger = length > start && length - start <= MAX_FAST_PATH_DIGITS;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                continue;
+            }
+            if (i < start) {
+                continue;
+            }
+            if (c != '.' && c != 'e' && c != 'E' && c != '+' && c != '-') {
+                return NOT_A_NUMBER;
+            }
+            plainInteger = false;
+        }
+        if (plainInteger) {
+            long parsed = 0L;
+            for (int i = start; i < length; i++) {
+                parsed = parsed * 10 + (value.charAt(i) - '0');
+            }
+            return Long.compare(value.charAt(0) == '-' ? -parsed : parsed, bound);
+        }
+        try {
+            return new BigDecimal(value.toString()).compareTo(BigDecimal.valueOf(bound));
+        } catch (NumberFormatException e) {
+            return NOT_A_NUMBER;
+        }
+    }
+}
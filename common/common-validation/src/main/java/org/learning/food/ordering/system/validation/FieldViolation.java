@@ -0,0 +1,30 @@
+package org.learning.food.ordering.system.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record FieldViolation(String path, String message) {
+
+    @Override
+    public String toString() {
+        return path + ": " + message;
+    }
+
+    /**
+     * Violation lists are created lazily so that a valid value is checked without allocating.
+     */
+    public static List<FieldViolation> add(List<FieldViolation> violations, String path, String message) {
+        List<FieldViolation> target = violations == null ? new ArrayList<>(4) : violations;
+        target.add(new FieldViolation(path, message));
+        return target;
+    }
+
+    public static List<FieldViolation> addNested(List<FieldViolation> violations, String prefix,
+                                                 List<FieldViolation> nestedViolations) {
+        List<FieldViolation> target = violations == null ? new ArrayList<>(nestedViolations.size()) : violations;
+        for (FieldViolation nestedViolation : nestedViolations) {
+            target.add(new FieldViolation(prefix + "." + nestedViolation.path(), nestedViolation.message()));
+        }
+        return target;
+    }
+}
@@ -0,0 +1,16 @@
+package org.learning.food.ordering.system.validation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record for which a {@code <Record>Validator} is generated at compile time. The generated validator checks
+ * the {@code @NotNull}, {@code @Min}, {@code @Max} and {@code @Valid} constraints of the record components with the
+ * same semantics as Bean Validation, without reflection.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator {
+}
@@ -0,0 +1,12 @@
+package org.learning.food.ordering.system.validation;
+
+import java.util.List;
+
+public interface GeneratedValidator<T> {
+
+    List<FieldViolation> validate(T value);
+
+    default boolean isValid(T value) {
+        return validate(value).isEmpty();
+    }
+}
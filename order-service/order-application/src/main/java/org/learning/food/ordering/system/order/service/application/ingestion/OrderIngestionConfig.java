@@ -0,0 +1,5 @@
+package org.learning.food.ordering.system.order.service.application.ingestion;
+
+public record OrderIngestionConfig(int maxItems, int maxTextLength) {
+    public static final OrderIngestionConfig DEFAULT = new OrderIngestionConfig(100, 256);
+}
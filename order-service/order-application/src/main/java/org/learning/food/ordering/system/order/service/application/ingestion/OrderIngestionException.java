@@ -0,0 +1,14 @@
+package org.learning.food.ordering.system.order.service.application.ingestion;
+
+import org.learning.food.ordering.system.domain.exception.DomainException;
+
+public class OrderIngestionException extends DomainException {
+
+    public OrderIngestionException(String message) {
+        super(message);
+    }
+
+    public OrderIngestionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,27 @@
+package org.learning.food.ordering.system.order.service.application.ingestion;
+
+import org.learning.food.ordering.system.order.service.domain.OrderCreateCommandHandler;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class OrderIngestionService {
+    private final OrderCreateCommandHandler orderCreateCommandHandler;
+    private final StreamingOrderReader streamingOrderReader;
+
+    public OrderIngestionService(OrderCreateCommandHandler orderCreateCommandHandler) {
+        this.orderCreateCommandHandler = orderCreateCommandHandler;
+        this.streamingOrderReader = new StreamingOrderReader(OrderIngestionConfig.DEFAULT);
+    }
+
+    public CompletableFuture<CreateOrderResponse> createOrder(InputStream requestBody) {
+        return orderCreateCommandHandler.createOrder(streamingOrderReader.read(requestBody));
+    }
+
+    public CompletableFuture<CreateOrderResponse> createOrder(byte[] requestBody) {
+        return orderCreateCommandHandler.createOrder(streamingOrderReader.read(requestBody));
+    }
+}
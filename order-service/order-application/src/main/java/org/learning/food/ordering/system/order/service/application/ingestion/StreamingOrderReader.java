@@ -0,0 +1,357 @@
+package org.learning.food.ordering.system.order.service.application.ingestion;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.learning.food.ordering.system.domain.valueobject.CustomerId;
+import org.learning.food.ordering.system.domain.valueobject.Money;
+import org.learning.food.ordering.system.domain.valueobject.ProductId;
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads a create order request straight into {@link Order.Builder} and {@link OrderItem.Builder} with a pull parser,
+ * without building the {@code CreateOrderCommand} graph first. The accepted JSON is the one of
+ * {@code CreateOrderCommand}: every field is required, unknown fields are skipped. UUIDs and decimals are parsed from
+ * the parser's character buffer, and a cart is rejected as soon as it grows past {@link OrderIngestionConfig#maxItems()}.
+ */
+public class StreamingOrderReader {
+    private static final int UUID_LENGTH = 36;
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+
+    private static final int CUSTOMER_ID = 1;
+    private static final int RESTAURANT_ID = 1 << 1;
+    private static final int PRICE = 1 << 2;
+    private static final int ITEMS = 1 << 3;
+    private static final int ORDER_ADDRESS = 1 << 4;
+    private static final int ORDER_FIELDS = CUSTOMER_ID | RESTAURANT_ID | PRICE | ITEMS | ORDER_ADDRESS;
+
+    private static final int PRODUCT_ID = 1;
+    private static final int QUANTITY = 1 << 1;
+    private static final int ITEM_PRICE = 1 << 2;
+    private static final int SUBTOTAL = 1 << 3;
+    private static final int ITEM_FIELDS = PRODUCT_ID | QUANTITY | ITEM_PRICE | SUBTOTAL;
+
+    private static final int STREET = 1;
+    private static final int POSTAL_CODE = 1 << 1;
+    private static final int CITY = 1 << 2;
+    private static final int ADDRESS_FIELDS = STREET | POSTAL_CODE | CITY;
+
+    private final OrderIngestionConfig config;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final IdGenerator idGenerator = IdGenerator.timeOrdered();
+
+    public StreamingOrderReader(OrderIngestionConfig config) {
+        this.config = config;
+    }
+
+    public Order read(InputStream requestBody) {
+        try (JsonParser parser = jsonFactory.createParser(requestBody)) {
+            return readOrder(parser);
+        } catch (JsonProcessingException e) {
+            throw new OrderIngestionException("Malformed order request: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new OrderIngestionException("Could not read order request", e);
+        }
+    }
+
+    public Order read(byte[] requestBody) {
+        try (JsonParser parser = jsonFactory.createParser(requestBody)) {
+            return readOrder(parser);
+        } catch (JsonProcessingException e) {
+            throw new OrderIngestionException("Malformed order request: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new OrderIngestionException("Could not read order request", e);
+        }
+    }
+
+    private Order readOrder(JsonParser parser) throws IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT, "request body");
+        Order.Builder order = Order.Builder.builder();
+        int fields = 0;
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "customerId" -> {
+                    order.customerId(new CustomerId(readUuid(parser, token, fieldName)));
+                    fields |= CUSTOMER_ID;
+                }
+                case "restaurantId" -> {
+                    order.restaurantId(RestaurantId.of(readUuid(parser, token, fieldName)));
+                    fields |= RESTAURANT_ID;
+                }
+                case "price" -> {
+                    order.price(new Money(readDecimal(parser, token, fieldName)));
+                    fields |= PRICE;
+                }
+                case "items" -> {
+                    order.items(readItems(parser, token));
+                    fields |= ITEMS;
+                }
+                case "orderAddress" -> {
+                    order.streetAddress(readAddress(parser, token));
+                    fields |= ORDER_ADDRESS;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser.currentToken(), JsonToken.END_OBJECT, "request body");
+        requireFields(fields, ORDER_FIELDS, "", "customerId", "restaurantId", "price", "items", "orderAddress");
+        return order.build();
+    }
+
+    private List<OrderItem> readItems(JsonParser parser, JsonToken token) throws IOException {
+        expect(token, JsonToken.START_ARRAY, "items");
+        List<OrderItem> items = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (items.size() == config.maxItems()) {
+                throw new OrderIngestionException("Order must not contain more than " + config.maxItems() + " items");
+            }
+            items.add(readItem(parser, token, items.size()));
+        }
+        return items;
+    }
+
+    /**
+     * Buffers the item fields and builds the item after its closing brace: {@link OrderItem.Builder#subTotal} derives
+     * the subtotal from the price and quantity set before it, so the builder must not see the JSON key order.
+     */
+    private OrderItem readItem(JsonParser parser, JsonToken token, int index) throws IOException {
+        expect(token, JsonToken.START_OBJECT, "items[" + index + "]");
+        UUID productId = null;
+        int quantity = 0;
+        BigDecimal price = null;
+        BigDecimal subtotal = null;
+        int fields = 0;
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            token = parser.nextToken();
+            switch (fieldName) {
+                case "productId" -> {
+                    productId = readUuid(parser, token, fieldName);
+                    fields |= PRODUCT_ID;
+                }
+                case "quantity" -> {
+                    quantity = readInt(parser, token, fieldName);
+                    fields |= QUANTITY;
+                }
+                case "price" -> {
+                    price = readDecimal(parser, token, fieldName);
+                    fields |= ITEM_PRICE;
+                }
+                case "subtotal" -> {
+                    subtotal = readDecimal(parser, token, fieldName);
+                    fields |= SUBTOTAL;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser.currentToken(), JsonToken.END_OBJECT, "items[" + index + "]");
+        requireFields(fields, ITEM_FIELDS, "items[" + index + "].", "productId", "quantity", "price", "subtotal");
+        return OrderItem.Builder.builder()
+                .product(new Product(ProductId.of(productId), null, null))
+                .price(new Money(price))
+                .quantity(quantity)
+                .subTotal(new Money(subtotal))
+                .build();
+    }
+
+    private StreetAddress readAddress(JsonParser parser, JsonToken token) throws IOException {
+        expect(token, JsonToken.START_OBJECT, "orderAddress");
+        String street = null;
+        String postalCode = null;
+        String city = null;
+        int fields = 0;
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            token = parser.nextToken();
+            switch (fieldName) {
+                case "street" -> {
+                    street = readText(parser, token, fieldName);
+                    fields |= STREET;
+                }
+                case "postalCode" -> {
+                    postalCode = readText(parser, token, fieldName);
+                    fields |= POSTAL_CODE;
+                }
+                case "city" -> {
+                    city = readText(parser, token, fieldName);
+                    fields |= CITY;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser.currentToken(), JsonToken.END_OBJECT, "orderAddress");
+        requireFields(fields, ADDRESS_FIELDS, "orderAddress.", "street", "postalCode", "city");
+        return new StreetAddress(idGenerator.generate(), street, postalCode, city);
+    }
+
+    private String readText(JsonParser parser, JsonToken token, String fieldName) throws IOException {
+        expect(token, JsonToken.VALUE_STRING, fieldName);
+        if (parser.getTextLength() > config.maxTextLength()) {
+            throw new OrderIngestionException(fieldName + " must not be longer than " + config.maxTextLength() +
+                    " characters");
+        }
+        return parser.getText();
+    }
+
+    private UUID readUuid(JsonParser parser, JsonToken token, String fieldName) throws IOException {
+        expect(token, JsonToken.VALUE_STRING, fieldName);
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if (length != UUID_LENGTH || chars[offset + 8] != '-' || chars[offset + 13] != '-' ||
+                chars[offset + 18] != '-' || chars[offset + 23] != '-') {
+            throw invalidValue(fieldName, "UUID");
+        }
+        long mostSignificantBits = hex(chars, offset, 8, fieldName) << 32 |
+                hex(chars, offset + 9, 4, fieldName) << 16 |
+                hex(chars, offset + 14, 4, fieldName);
+        long leastSignificantBits = hex(chars, offset + 19, 4, fieldName) << 48 |
+                hex(chars, offset + 24, 12, fieldName);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static long hex(char[] chars, int offset, int length, String fieldName) {
+        long value = 0L;
+        for (int i = offset; i < offset + length; i++) {
+            char c = chars[i];
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                throw invalidValue(fieldName, "UUID");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    /**
+     * Accepts a JSON number or a numeric string, as Jackson does for {@link BigDecimal} properties. Plain decimals
+     * of up to 18 digits become {@code BigDecimal.valueOf(unscaled, scale)}; anything else goes through the
+     * {@code BigDecimal(char[], int, int)} constructor.
+     */
+    private BigDecimal readDecimal(JsonParser parser, JsonToken token, String fieldName) throws IOException {
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT &&
+                token != JsonToken.VALUE_STRING) {
+            throw unexpectedToken(token, fieldName);
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        int end = offset + length;
+        int i = offset;
+        boolean negative = i < end && chars[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long unscaled = 0L;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9' && digits < MAX_FAST_PATH_DIGITS) {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return parseDecimal(chars, offset, length, fieldName);
+            }
+        }
+        if (digits == 0) {
+            throw invalidValue(fieldName, "decimal");
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private static BigDecimal parseDecimal(char[] chars, int offset, int length, String fieldName) {
+        try {
+            return new BigDecimal(chars, offset, length);
+        } catch (NumberFormatException e) {
+            throw invalidValue(fieldName, "decimal");
+        }
+    }
+
+    private int readInt(JsonParser parser, JsonToken token, String fieldName) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            if (parser.getNumberType() != JsonParser.NumberType.INT) {
+                throw invalidValue(fieldName, "int");
+            }
+            return parser.getIntValue();
+        }
+        expect(token, JsonToken.VALUE_STRING, fieldName);
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        boolean negative = length > 0 && chars[offset] == '-';
+        int start = negative ? offset + 1 : offset;
+        if (start == offset + length) {
+            throw invalidValue(fieldName, "int");
+        }
+        long value = 0L;
+        for (int i = start; i < offset + length; i++) {
+            char c = chars[i];
+            if (c < '0' || c > '9' || (value = value * 10 + (c - '0')) > (long) Integer.MAX_VALUE + 1) {
+                throw invalidValue(fieldName, "int");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw invalidValue(fieldName, "int");
+        }
+        return (int) value;
+    }
+
+    private static void requireFields(int fields, int requiredFields, String path, String... names) {
+        if (fields == requiredFields) {
+            return;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if ((fields & 1 << i) == 0) {
+                throw new OrderIngestionException(path + names[i] + " must not be null");
+            }
+        }
+    }
+
+    private static void expect(JsonToken token, JsonToken expected, String fieldName) {
+        if (token != expected) {
+            throw unexpectedToken(token, fieldName);
+        }
+    }
+
+    private static OrderIngestionException unexpectedToken(JsonToken token, String fieldName) {
+        if (token == null) {
+            return new OrderIngestionException("Unexpected end of order request in " + fieldName);
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return new OrderIngestionException(fieldName + " must not be null");
+        }
+        return new OrderIngestionException("Unexpected " + token + " for " + fieldName);
+    }
+
+    private static OrderIngestionException invalidValue(String fieldName, String type) {
+        return new OrderIngestionException(fieldName + " is not a valid " + type);
+    }
+}
@@ -0,0 +1,108 @@
+package org.learning.food.ordering.system.order.service.application.tracking;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.learning.food.ordering.system.order.service.application.ingestion.OrderIngestionException;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderResult;
+import org.learning.food.ordering.system.order.service.domain.tracking.BulkOrderTrackingHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Bulk tracking over a JSON array of tracking ids. The response is newline-delimited JSON with one object per
+ * distinct tracking id, written while the lookups are still running and flushed every {@value #FLUSH_INTERVAL}
+ * results, so the whole response is never buffered.
+ */
+@Component
+public class BulkOrderTrackingService {
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final BulkOrderTrackingHandler bulkOrderTrackingHandler;
+    private final JsonFactory jsonFactory = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    public BulkOrderTrackingService(BulkOrderTrackingHandler bulkOrderTrackingHandler) {
+        this.bulkOrderTrackingHandler = bulkOrderTrackingHandler;
+    }
+
+    public void trackOrders(InputStream requestBody, OutputStream responseBody) throws IOException {
+        trackOrders(readTrackingIds(requestBody), responseBody);
+    }
+
+    public void trackOrders(Collection<UUID> orderTrackingIds, OutputStream responseBody) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(responseBody)) {
+            generator.setRootValueSeparator(null);
+            int[] written = new int[1];
+            bulkOrderTrackingHandler.trackOrders(orderTrackingIds, result -> {
+                try {
+                    writeResult(generator, result);
+                    if (++written[0] % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private List<UUID> readTrackingIds(InputStream requestBody) {
+        int maxTrackingIds = bulkOrderTrackingHandler.maxTrackingIds();
+        try (JsonParser parser = jsonFactory.createParser(requestBody)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new OrderIngestionException("Tracking request must be a JSON array of tracking ids");
+            }
+            List<UUID> orderTrackingIds = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.VALUE_STRING) {
+                    throw new OrderIngestionException("Tracking id must be a string, found " + token);
+                }
+                if (orderTrackingIds.size() == maxTrackingIds) {
+                    throw new OrderIngestionException("At most " + maxTrackingIds + " orders can be tracked at once");
+                }
+                orderTrackingIds.add(UUID.fromString(parser.getText()));
+            }
+            return orderTrackingIds;
+        } catch (IllegalArgumentException e) {
+            throw new OrderIngestionException("Tracking id is not a valid UUID", e);
+        } catch (JsonProcessingException e) {
+            throw new OrderIngestionException("Malformed tracking request: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new OrderIngestionException("Could not read tracking request", e);
+        }
+    }
+
+    private static void writeResult(JsonGenerator generator, TrackOrderResult result) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("orderTrackingId", result.orderTrackingId().toString());
+        generator.writeBooleanField("found", result.isFound());
+        if (result.isFound()) {
+            TrackOrderQuery trackOrderQuery = result.trackOrderQuery();
+            generator.writeStringField("orderStatus", trackOrderQuery.orderStatus().name());
+            if (Objects.nonNull(trackOrderQuery.failureMessages())) {
+                generator.writeArrayFieldStart("failureMessages");
+                for (String failureMessage : trackOrderQuery.failureMessages()) {
+                    generator.writeString(failureMessage);
+                }
+                generator.writeEndArray();
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,215 @@
+package org.learning.food.ordering.system.order.service.application.ingestion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingOrderReaderTest {
+    private static final String REJECTED = "rejected";
+
+    private static final List<String> DECIMALS = List.of("12.50", "0", "-1.5", "1e3", "1E-5", "\"7.25\"", "\".5\"",
+            "123456789012345678", "1234567890123456789.5", "0.000000000000000000001", "\"abc\"");
+    private static final List<String> QUANTITIES = List.of("1", "0", "-3", "2147483647", "2147483648", "\"5\"",
+            "\"x\"", "null", "2.5");
+    private static final List<String> UUIDS = List.of(
+            quoted(UUID.randomUUID().toString()),
+            quoted(UUID.randomUUID().toString().toUpperCase()),
+            quoted("00000000-0000-0000-0000-000000000000"),
+            quoted("ffffffff-ffff-ffff-ffff-ffffffffffff"),
+            quoted("123e4567-e89b-12d3-a456-426614174000"),
+            quoted("123e4567-e89b-12d3-a456-42661417400g"),
+            quoted("123e4567e89b-12d3-a456-4266141740000"),
+            quoted("123e4567-e89b-12d3-a456-42661417400"),
+            quoted("123e4567e89b12d3a456426614174000"),
+            quoted("not-a-uuid"),
+            quoted(""),
+            "5",
+            "null",
+            "{}");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+    private final StreamingOrderReader reader = new StreamingOrderReader(OrderIngestionConfig.DEFAULT);
+
+    @Test
+    void readsTheSameOrderAsObjectMapperAndOrderDataMapper() {
+        int compared = 0;
+        int accepted = 0;
+        for (String decimal : DECIMALS) {
+            for (String quantity : QUANTITIES) {
+                for (String uuid : UUIDS) {
+                    byte[] request = request(uuid, decimal, quantity).getBytes(StandardCharsets.UTF_8);
+                    String expected = readWithObjectMapper(request);
+                    String actual = readStreaming(request);
+                    if (quantity.equals("2.5")) {
+                        // Jackson truncates a fractional quantity to an int, the reader rejects it.
+                        assertEquals(REJECTED, actual, () -> new String(request, StandardCharsets.UTF_8));
+                    } else {
+                        assertEquals(expected, actual, () -> new String(request, StandardCharsets.UTF_8));
+                    }
+                    compared++;
+                    if (!actual.equals(REJECTED)) {
+                        accepted++;
+                    }
+                }
+            }
+        }
+        assertEquals(1386, compared);
+        assertEquals(250, accepted);
+    }
+
+    @Test
+    void skipsUnknownFieldsAndRequiresEveryKnownOne() {
+        String request = request(quoted(UUID.randomUUID().toString()), "12.50", "2");
+        String withUnknownField = request.replace("{\"customerId\"", "{\"note\":{\"a\":[1,2]},\"customerId\"");
+        String withoutCity = request.replace(",\"city\":\"3\"", "");
+
+        assertEquals(readWithObjectMapper(bytes(request)), readStreaming(bytes(withUnknownField)));
+        OrderIngestionException failure = assertThrows(OrderIngestionException.class,
+                () -> reader.read(bytes(withoutCity)));
+        assertEquals("orderAddress.city must not be null", failure.getMessage());
+    }
+
+    @Test
+    void readsTheSameItemInEveryKeyOrder() {
+        UUID productId = UUID.randomUUID();
+        List<String> itemFields = List.of("\"productId\":\"" + productId + "\"", "\"quantity\":3",
+                "\"price\":12.50", "\"subtotal\":37.50");
+        String canonical = request(quoted(UUID.randomUUID().toString()), "37.50", "3");
+        String expected = readWithObjectMapper(bytes(itemRequest(canonical, itemFields)));
+        assertTrue(expected.contains(productId + " x3 at 12.50 = Money[amount=37.50]"), expected);
+
+        List<List<String>> orders = permutations(itemFields);
+        for (List<String> fields : orders) {
+            String request = itemRequest(canonical, fields);
+            assertEquals(expected, readStreaming(bytes(request)), request);
+        }
+        assertEquals(24, orders.size());
+    }
+
+    @Test
+    void reportsAMissingItemFieldInEveryKeyOrder() {
+        List<String> itemFields = List.of("\"productId\":\"" + UUID.randomUUID() + "\"", "\"quantity\":3",
+                "\"subtotal\":37.50");
+        String canonical = request(quoted(UUID.randomUUID().toString()), "37.50", "3");
+
+        for (List<String> fields : permutations(itemFields)) {
+            String request = itemRequest(canonical, fields);
+            OrderIngestionException failure = assertThrows(OrderIngestionException.class,
+                    () -> reader.read(bytes(request)), request);
+            assertEquals("items[0].price must not be null", failure.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsACartLargerThanMaxItems() {
+        StreamingOrderReader smallCartReader = new StreamingOrderReader(new OrderIngestionConfig(1, 256));
+        String item = "{\"productId\":\"" + UUID.randomUUID() + "\",\"quantity\":1,\"price\":1,\"subtotal\":1}";
+        String request = request(quoted(UUID.randomUUID().toString()), "2", "1")
+                .replaceFirst("\"items\":\\[", "\"items\":[" + item + ",");
+
+        OrderIngestionException failure = assertThrows(OrderIngestionException.class,
+                () -> smallCartReader.read(bytes(request)));
+        assertEquals("Order must not contain more than 1 items", failure.getMessage());
+    }
+
+    private String readWithObjectMapper(byte[] request) {
+        CreateOrderCommand createOrderCommand;
+        try {
+            createOrderCommand = objectMapper.readValue(request, CreateOrderCommand.class);
+        } catch (Exception e) {
+            return REJECTED;
+        }
+        // Jackson leaves a missing or null field as null, where the reader rejects the request.
+        if (hasNullField(createOrderCommand)) {
+            return REJECTED;
+        }
+        return describe(orderDataMapper.createOrderCommandToOrder(createOrderCommand));
+    }
+
+    private String readStreaming(byte[] request) {
+        try {
+            return describe(reader.read(request));
+        } catch (OrderIngestionException e) {
+            return REJECTED;
+        }
+    }
+
+    private static boolean hasNullField(CreateOrderCommand command) {
+        if (Objects.isNull(command.customerId()) || Objects.isNull(command.restaurantId()) ||
+                Objects.isNull(command.price()) || Objects.isNull(command.items()) ||
+                Objects.isNull(command.orderAddress())) {
+            return true;
+        }
+        for (var item : command.items()) {
+            if (Objects.isNull(item.productId()) || Objects.isNull(item.quantity()) || Objects.isNull(item.price()) ||
+                    Objects.isNull(item.subtotal())) {
+                return true;
+            }
+        }
+        return Objects.isNull(command.orderAddress().street()) || Objects.isNull(command.orderAddress().postalCode())
+                || Objects.isNull(command.orderAddress().city());
+    }
+
+    private static String describe(Order order) {
+        List<String> items = new ArrayList<>();
+        for (OrderItem item : order.getItems()) {
+            items.add(item.getProduct().getId().getValue() + " x" + item.getQuantity() + " at " +
+                    item.getPrice().amount() + " = " + item.getSubTotal());
+        }
+        return order.getCustomerId().getValue() + " " + order.getRestaurantId().getValue() + " " +
+                order.getPrice().amount() + " " + items + " " + order.getStreetAddress().street() + ", " +
+                order.getStreetAddress().postalCode() + ", " + order.getStreetAddress().city();
+    }
+
+    private static String request(String uuid, String decimal, String quantity) {
+        return "{\"customerId\":" + uuid + ",\"restaurantId\":\"" + UUID.randomUUID() + "\",\"price\":" + decimal +
+                ",\"items\":[{\"productId\":" + uuid + ",\"quantity\":" + quantity + ",\"price\":" + decimal +
+                ",\"subtotal\":" + decimal + "}]" +
+                ",\"orderAddress\":{\"street\":\"1\",\"postalCode\":\"2\",\"city\":\"3\"}}";
+    }
+
+    /**
+     * Replaces the single item of {@code request} with one made of {@code fields} in the given order.
+     */
+    private static String itemRequest(String request, List<String> fields) {
+        return request.replaceFirst("\"items\":\\[\\{[^}]*}]", "\"items\":[{" + String.join(",", fields) + "}]");
+    }
+
+    private static List<List<String>> permutations(List<String> values) {
+        if (values.isEmpty()) {
+            return List.of(List.of());
+        }
+        List<List<String>> permutations = new ArrayList<>();
+        for (String first : values) {
+            List<String> rest = new ArrayList<>(values);
+            rest.remove(first);
+            for (List<String> permutation : permutations(rest)) {
+                List<String> fields = new ArrayList<>();
+                fields.add(first);
+                fields.addAll(permutation);
+                permutations.add(fields);
+            }
+        }
+        return permutations;
+    }
+
+    private static String quoted(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static byte[] bytes(String request) {
+        return request.getBytes(StandardCharsets.UTF_8);
+    }
+}
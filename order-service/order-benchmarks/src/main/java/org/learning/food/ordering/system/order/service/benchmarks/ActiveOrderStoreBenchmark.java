@@ -0,0 +1,67 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.order.service.dataaccess.order.active.ActiveOrderStore;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActiveOrderStoreBenchmark {
+    private static final int ACTIVE_ORDERS = 10_000;
+
+    @Param({"3", "10"})
+    private int cartSize;
+
+    private Order[] orders;
+    private OrderId[] orderIds;
+    private Map<OrderId, Order> orderMap;
+    private ActiveOrderStore activeOrderStore;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OrderFixtures fixtures = new OrderFixtures(1_000, cartSize);
+        orders = new Order[ACTIVE_ORDERS];
+        orderIds = new OrderId[ACTIVE_ORDERS];
+        orderMap = new HashMap<>();
+        activeOrderStore = new ActiveOrderStore(ACTIVE_ORDERS);
+        for (int i = 0; i < ACTIVE_ORDERS; i++) {
+            Order order = fixtures.newOrder();
+            order.initializeOrder();
+            orders[i] = order;
+            orderIds[i] = order.getId();
+            orderMap.put(order.getId(), order);
+            activeOrderStore.put(order);
+        }
+    }
+
+    @Benchmark
+    public Order lookupMappedOrder() {
+        return orderMap.get(orderIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public Order materializeActiveOrder() {
+        return activeOrderStore.find(orderIds[nextIndex()]).orElseThrow();
+    }
+
+    @Benchmark
+    public boolean putActiveOrder() {
+        return activeOrderStore.put(orders[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == ACTIVE_ORDERS ? 0 : index + 1;
+        return index;
+    }
+}
@@ -0,0 +1,93 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.application.tracking.BulkOrderTrackingService;
+import org.learning.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.tracking.BulkOrderTrackingHandler;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every other stored order is also in the tracking projection, the rest is only found in the database. The request
+ * repeats each tracking id once to exercise de-duplication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkOrderTrackingBenchmark {
+
+    @Param({"100", "1000"})
+    private int trackedOrders;
+
+    private SingleConnectionDataSource dataSource;
+    private OrderRepositoryImpl orderRepository;
+    private OrderTrackingProjection orderTrackingProjection;
+    private BulkOrderTrackingHandler bulkOrderTrackingHandler;
+    private BulkOrderTrackingService bulkOrderTrackingService;
+    private List<UUID> trackingIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:bulk-order-tracking-" + trackedOrders +
+                ";DB_CLOSE_DELAY=-1", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema/order-schema.sql")).execute(dataSource);
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        orderRepository = new OrderRepositoryImpl(jdbcTemplate);
+        orderTrackingProjection = new OrderTrackingProjection(orderRepository);
+        bulkOrderTrackingHandler = new BulkOrderTrackingHandler(orderTrackingProjection, orderRepository);
+        bulkOrderTrackingService = new BulkOrderTrackingService(bulkOrderTrackingHandler);
+
+        OrderFixtures fixtures = new OrderFixtures(100, 3);
+        List<Order> orders = new ArrayList<>(trackedOrders);
+        trackingIds = new ArrayList<>(2 * trackedOrders);
+        for (int i = 0; i < trackedOrders; i++) {
+            Order order = fixtures.newOrder();
+            order.initializeOrder();
+            orders.add(order);
+            if (i % 2 == 0) {
+                orderTrackingProjection.applyAfterCommit(order);
+            }
+            trackingIds.add(order.getTrackingId().getValue());
+        }
+        orderRepository.saveAll(orders);
+        trackingIds.addAll(List.copyOf(trackingIds));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void singleLookups(Blackhole blackhole) {
+        for (UUID trackingId : trackingIds) {
+            orderTrackingProjection.findByTrackingId(new TrackingId(trackingId)).ifPresent(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void bulkLookups(Blackhole blackhole) {
+        bulkOrderTrackingHandler.trackOrders(trackingIds, blackhole::consume);
+    }
+
+    @Benchmark
+    public void bulkNdjson() throws IOException {
+        bulkOrderTrackingService.trackOrders(trackingIds, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,75 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderCommandValidator;
+import org.learning.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import org.learning.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import org.learning.food.ordering.system.validation.FieldViolation;
+import org.openjdk.jmh.annotations.*;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateOrderCommandValidationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int cartSize;
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private CreateOrderCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+
+        SplittableRandom random = new SplittableRandom(42L);
+        List<OrderItem> items = new ArrayList<>(cartSize);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < cartSize; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + random.nextInt(10_000), 2);
+            int quantity = 1 + random.nextInt(5);
+            BigDecimal subtotal = price.multiply(BigDecimal.valueOf(quantity));
+            items.add(new OrderItem(new UUID(random.nextLong(), random.nextLong()), quantity, price, subtotal));
+            total = total.add(subtotal);
+        }
+        // @Max on the address strings is a numeric bound, so a valid address has numeric components.
+        command = new CreateOrderCommand(new UUID(random.nextLong(), random.nextLong()),
+                new UUID(random.nextLong(), random.nextLong()), total, items, new OrderAddress("12", "8", "40"));
+
+        if (!beanValidator.validate(command).isEmpty() || !CreateOrderCommandValidator.INSTANCE.isValid(command)) {
+            throw new IllegalStateException("Benchmark command must be valid");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateOrderCommand>> beanValidation() {
+        return beanValidator.validate(command);
+    }
+
+    @Benchmark
+    public List<FieldViolation> generatedValidator() {
+        return CreateOrderCommandValidator.INSTANCE.validate(command);
+    }
+}
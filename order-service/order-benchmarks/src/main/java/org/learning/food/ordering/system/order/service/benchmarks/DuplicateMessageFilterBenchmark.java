@@ -0,0 +1,89 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import org.learning.food.ordering.system.order.service.messaging.dedup.DuplicateMessageFilter;
+import org.learning.food.ordering.system.order.service.messaging.dedup.DuplicateMessageFilterConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuplicateMessageFilterBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    private DuplicateMessageFilter duplicateMessageFilter;
+    private List<PaymentResponse> processedBatch;
+    private List<PaymentResponse> freshBatch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        duplicateMessageFilter = new DuplicateMessageFilter(new InMemoryProcessedMessageRepository(),
+                DuplicateMessageFilterConfig.DEFAULT);
+        processedBatch = newBatch();
+        duplicateMessageFilter.markProcessed(SagaResponseType.PAYMENT_RESPONSE, processedBatch, PaymentResponse::id);
+        freshBatch = newBatch();
+    }
+
+    @Benchmark
+    public List<PaymentResponse> dropDuplicates() {
+        return duplicateMessageFilter.removeDuplicates(SagaResponseType.PAYMENT_RESPONSE, processedBatch,
+                PaymentResponse::id);
+    }
+
+    @Benchmark
+    public List<PaymentResponse> passFreshMessages() {
+        return duplicateMessageFilter.removeDuplicates(SagaResponseType.PAYMENT_RESPONSE, freshBatch,
+                PaymentResponse::id);
+    }
+
+    private static List<PaymentResponse> newBatch() {
+        List<PaymentResponse> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(PaymentResponse.builder()
+                    .id(UUID.randomUUID().toString())
+                    .orderId(UUID.randomUUID().toString())
+                    .build());
+        }
+        return batch;
+    }
+
+    private static final class InMemoryProcessedMessageRepository implements ProcessedMessageRepository {
+        private final Set<String> processed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Set<String> findProcessed(SagaResponseType messageType, Collection<String> messageIds) {
+            Set<String> found = new HashSet<>();
+            for (String messageId : messageIds) {
+                if (processed.contains(messageType + ":" + messageId)) {
+                    found.add(messageId);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public void saveAll(SagaResponseType messageType, Collection<String> messageIds, OffsetDateTime processedAt) {
+            messageIds.forEach(messageId -> processed.add(messageType + ":" + messageId));
+        }
+
+        @Override
+        public void replayProcessedSince(OffsetDateTime processedAt, BiConsumer<SagaResponseType, String> consumer) {
+        }
+
+        @Override
+        public int deleteProcessedBefore(OffsetDateTime processedAt) {
+            return 0;
+        }
+    }
+}
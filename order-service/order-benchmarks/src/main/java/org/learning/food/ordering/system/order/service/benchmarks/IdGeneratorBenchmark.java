@@ -0,0 +1,29 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class IdGeneratorBenchmark {
+    private final IdGenerator randomIdGenerator = IdGenerator.random();
+    private final IdGenerator timeOrderedIdGenerator = IdGenerator.timeOrdered();
+
+    @Benchmark
+    public UUID randomUuid() {
+        return randomIdGenerator.generate();
+    }
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return timeOrderedIdGenerator.generate();
+    }
+}
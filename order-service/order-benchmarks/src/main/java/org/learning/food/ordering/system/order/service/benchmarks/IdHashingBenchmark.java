@@ -0,0 +1,66 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.domain.valueobject.ProductId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdHashingBenchmark {
+    private static final int MENU_SIZE = 1_000;
+    private static final int CART_SIZE = 100;
+
+    private final Map<ProductId, Integer> menuIndex = new HashMap<>();
+    private final ProductId[] cartProductIds = new ProductId[CART_SIZE];
+    private final UUID[] cartUuids = new UUID[CART_SIZE];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        UUID[] menu = new UUID[MENU_SIZE];
+        for (int i = 0; i < MENU_SIZE; i++) {
+            menu[i] = new UUID(random.nextLong(), random.nextLong());
+            menuIndex.put(new ProductId(menu[i]), i);
+        }
+        for (int i = 0; i < CART_SIZE; i++) {
+            cartUuids[i] = menu[random.nextInt(MENU_SIZE)];
+            cartProductIds[i] = new ProductId(cartUuids[i]);
+        }
+    }
+
+    @Benchmark
+    public int lookupCart() {
+        int sum = 0;
+        for (ProductId productId : cartProductIds) {
+            sum += menuIndex.get(productId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int newProductIds() {
+        int sum = 0;
+        for (UUID uuid : cartUuids) {
+            sum += menuIndex.get(new ProductId(uuid));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int internedProductIds() {
+        int sum = 0;
+        for (UUID uuid : cartUuids) {
+            sum += menuIndex.get(ProductId.of(uuid));
+        }
+        return sum;
+    }
+}
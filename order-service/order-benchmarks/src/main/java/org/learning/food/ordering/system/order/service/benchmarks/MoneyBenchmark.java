@@ -0,0 +1,81 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.domain.valueobject.FixedPointMoney;
+import org.learning.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int cartSize;
+
+    private Money left;
+    private Money right;
+    private int quantity;
+    private Money[] subTotals;
+    private long[] subTotalMinorUnits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        left = new Money(BigDecimal.valueOf(100 + random.nextInt(10_000), 2));
+        right = new Money(BigDecimal.valueOf(100 + random.nextInt(10_000), 2));
+        quantity = 1 + random.nextInt(5);
+        subTotals = new Money[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            subTotals[i] = new Money(BigDecimal.valueOf(100 + random.nextInt(10_000), 2)).multiply(quantity);
+        }
+        subTotalMinorUnits = new long[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            subTotalMinorUnits[i] = FixedPointMoney.toMinorUnits(subTotals[i]);
+        }
+    }
+
+    @Benchmark
+    public Money add() {
+        return left.add(right);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return left.subtract(right);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return left.multiply(quantity);
+    }
+
+    @Benchmark
+    public Money sumCart() {
+        Money total = Money.ZERO;
+        for (Money subTotal : subTotals) {
+            total = total.add(subTotal);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long sumCartMinorUnits() {
+        long total = 0L;
+        for (long subTotal : subTotalMinorUnits) {
+            total = FixedPointMoney.add(total, subTotal);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money roundTripMinorUnits() {
+        return FixedPointMoney.toMoney(FixedPointMoney.toMinorUnits(left));
+    }
+}
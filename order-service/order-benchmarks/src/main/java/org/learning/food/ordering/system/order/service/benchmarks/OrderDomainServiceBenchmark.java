@@ -0,0 +1,49 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.domain.IOrderDomainService;
+import org.learning.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.metrics.InMemoryOrderMetrics;
+import org.learning.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDomainServiceBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int cartSize;
+
+    @Param({"10", "100", "1000", "5000"})
+    private int menuSize;
+
+    @Param({"false", "true"})
+    private boolean metricsEnabled;
+
+    private IOrderDomainService orderDomainService;
+    private OrderFixtures fixtures;
+
+    @Setup(Level.Trial)
+    public void setUpFixtures() {
+        fixtures = new OrderFixtures(menuSize, cartSize);
+        orderDomainService = new OrderDomainServiceImpl(metricsEnabled ?
+                new InMemoryOrderMetrics() : OrderMetrics.disabled());
+    }
+
+    @Benchmark
+    public Order newOrderBaseline() {
+        return fixtures.newOrder();
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(fixtures.newOrder(), fixtures.restaurant());
+    }
+}
@@ -0,0 +1,99 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.dataaccess.eventlog.EventLogOrderRepository;
+import org.learning.food.ordering.system.order.service.dataaccess.eventlog.FsyncPolicy;
+import org.learning.food.ordering.system.order.service.dataaccess.eventlog.OrderEventLog;
+import org.learning.food.ordering.system.order.service.dataaccess.eventlog.OrderEventLogConfig;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderEventLogBenchmark {
+    private static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int REPLAYED_ORDERS = 10_000;
+
+    @Param({"INTERVAL", "OS_DEFAULT"})
+    private FsyncPolicy fsyncPolicy;
+
+    private Path directory;
+    private Path replayDirectory;
+    private EventLogOrderRepository orderRepository;
+    private OrderFixtures fixtures;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("order-event-log");
+        replayDirectory = Files.createTempDirectory("order-event-log-replay");
+        orderRepository = new EventLogOrderRepository(new OrderEventLog(config(directory)));
+        fixtures = new OrderFixtures(100, 3);
+        try (EventLogOrderRepository replayRepository = new EventLogOrderRepository(
+                new OrderEventLog(config(replayDirectory)))) {
+            for (int i = 0; i < REPLAYED_ORDERS; i++) {
+                Order order = newInitializedOrder();
+                replayRepository.save(order);
+                order.pay();
+                replayRepository.save(order);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        orderRepository.close();
+        delete(directory);
+        delete(replayDirectory);
+    }
+
+    @Benchmark
+    public Order saveNewOrder() {
+        return orderRepository.save(newInitializedOrder());
+    }
+
+    @Benchmark
+    public Order saveNewAndPaidOrder() {
+        Order order = orderRepository.save(newInitializedOrder());
+        order.pay();
+        return orderRepository.save(order);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int replay() {
+        try (EventLogOrderRepository replayRepository = new EventLogOrderRepository(
+                new OrderEventLog(config(replayDirectory)))) {
+            return replayRepository.size();
+        }
+    }
+
+    private OrderEventLogConfig config(Path path) {
+        return new OrderEventLogConfig(path, SEGMENT_SIZE, fsyncPolicy, Duration.ofMillis(50));
+    }
+
+    private Order newInitializedOrder() {
+        Order order = fixtures.newOrder();
+        order.initializeOrder();
+        return order;
+    }
+
+    private static void delete(Path path) throws IOException {
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
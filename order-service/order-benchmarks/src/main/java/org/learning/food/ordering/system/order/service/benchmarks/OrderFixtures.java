@@ -0,0 +1,105 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class OrderFixtures {
+    private static final long SEED = 42L;
+    private static final int ID_POOL_SIZE = 1024;
+
+    private final Restaurant restaurant;
+    private final List<Product> menu;
+    private final int[] cartProductIndexes;
+    private final int[] cartQuantities;
+    private final CustomerId customerId;
+    private final StreetAddress streetAddress;
+    private final OrderId[] orderIds = new OrderId[ID_POOL_SIZE];
+    private final TrackingId[] trackingIds = new TrackingId[ID_POOL_SIZE];
+    private int nextId;
+
+    public OrderFixtures(int menuSize, int cartSize) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        menu = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menu.add(new Product(new ProductId(new UUID(random.nextLong(), random.nextLong())), "product-" + i,
+                    new Money(BigDecimal.valueOf(100 + random.nextInt(10_000), 2))));
+        }
+        restaurant = Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(new UUID(random.nextLong(), random.nextLong())))
+                .products(menu)
+                .active(true)
+                .build();
+        cartProductIndexes = new int[cartSize];
+        cartQuantities = new int[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            cartProductIndexes[i] = random.nextInt(menuSize);
+            cartQuantities[i] = 1 + random.nextInt(5);
+        }
+        customerId = new CustomerId(new UUID(random.nextLong(), random.nextLong()));
+        streetAddress = new StreetAddress(new UUID(random.nextLong(), random.nextLong()), "street", "1000AB", "city");
+        for (int i = 0; i < ID_POOL_SIZE; i++) {
+            orderIds[i] = new OrderId(new UUID(random.nextLong(), random.nextLong()));
+            trackingIds[i] = new TrackingId(new UUID(random.nextLong(), random.nextLong()));
+        }
+    }
+
+    public Restaurant restaurant() {
+        return restaurant;
+    }
+
+    public Order newOrder() {
+        return orderBuilder().build();
+    }
+
+    public Order pendingOrder() {
+        return initializedOrder(OrderStatus.PENDING);
+    }
+
+    public Order paidOrder() {
+        return initializedOrder(OrderStatus.PAID);
+    }
+
+    // Ids come from a pool generated up front, so benchmarks do not time UUID.randomUUID().
+    private Order initializedOrder(OrderStatus orderStatus) {
+        int id = nextId;
+        nextId = id + 1 == ID_POOL_SIZE ? 0 : id + 1;
+        return orderBuilder()
+                .orderId(orderIds[id])
+                .trackingId(trackingIds[id])
+                .orderStatus(orderStatus)
+                .build();
+    }
+
+    private Order.Builder orderBuilder() {
+        List<OrderItem> items = new ArrayList<>(cartProductIndexes.length);
+        Money total = Money.ZERO;
+        for (int i = 0; i < cartProductIndexes.length; i++) {
+            Product menuProduct = menu.get(cartProductIndexes[i]);
+            OrderItem orderItem = OrderItem.Builder.builder()
+                    .product(new Product(menuProduct.getId(), null, menuProduct.getPrice()))
+                    .quantity(cartQuantities[i])
+                    .price(menuProduct.getPrice())
+                    .subTotal(null)
+                    .build();
+            items.add(orderItem);
+            total = total.add(orderItem.getSubTotal());
+        }
+        return Order.Builder.builder()
+                .customerId(customerId)
+                .restaurantId(restaurant.getId())
+                .streetAddress(streetAddress)
+                .price(total)
+                .items(items);
+    }
+}
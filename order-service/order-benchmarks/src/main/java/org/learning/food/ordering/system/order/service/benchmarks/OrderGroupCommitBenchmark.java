@@ -0,0 +1,87 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.learning.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import org.learning.food.ordering.system.order.service.dataaccess.outbox.adapter.OrderOutboxRepositoryImpl;
+import org.learning.food.ordering.system.order.service.domain.IOrderDomainService;
+import org.learning.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import org.learning.food.ordering.system.order.service.domain.commit.OrderGroupCommitConfig;
+import org.learning.food.ordering.system.order.service.domain.commit.OrderGroupCommitter;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class OrderGroupCommitBenchmark {
+
+    @Param({"false", "true"})
+    private boolean groupCommit;
+
+    private JdbcConnectionPool dataSource;
+    private OrderRepositoryImpl orderRepository;
+    private OrderOutboxHelper orderOutboxHelper;
+    private TransactionTemplate transactionTemplate;
+    private OrderGroupCommitter orderGroupCommitter;
+    private final IOrderDomainService orderDomainService = new OrderDomainServiceImpl();
+    private final OrderFixtures fixtures = new OrderFixtures(100, 5);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = JdbcConnectionPool.create("jdbc:h2:mem:order-group-commit-" + groupCommit + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        dataSource.setMaxConnections(32);
+        new ResourceDatabasePopulator(new ClassPathResource("schema/order-schema.sql")).execute(dataSource);
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        OrderOutboxRepositoryImpl orderOutboxRepository = new OrderOutboxRepositoryImpl(jdbcTemplate);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        orderRepository = new OrderRepositoryImpl(jdbcTemplate);
+        OrderTrackingProjection orderTrackingProjection = new OrderTrackingProjection(orderRepository);
+        orderOutboxHelper = new OrderOutboxHelper(orderOutboxRepository, objectMapper, orderTrackingProjection);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (groupCommit) {
+            orderGroupCommitter = new OrderGroupCommitter(orderRepository, orderOutboxRepository, orderOutboxHelper,
+                    orderTrackingProjection, transactionManager,
+                    new OrderGroupCommitConfig(256, Duration.ofMillis(1), 8192));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (orderGroupCommitter != null) {
+            orderGroupCommitter.close();
+        }
+        dataSource.dispose();
+    }
+
+    @Benchmark
+    public OrderCreatedEvent createOrder() {
+        OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(fixtures.newOrder(),
+                fixtures.restaurant());
+        if (groupCommit) {
+            return orderGroupCommitter.commit(orderCreatedEvent).join();
+        }
+        return transactionTemplate.execute(status -> {
+            orderRepository.save(orderCreatedEvent.getOrder());
+            orderOutboxHelper.saveOrderEvent(orderCreatedEvent);
+            return orderCreatedEvent;
+        });
+    }
+}
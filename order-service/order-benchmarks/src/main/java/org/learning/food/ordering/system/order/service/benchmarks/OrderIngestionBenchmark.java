@@ -0,0 +1,64 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.learning.food.ordering.system.order.service.application.ingestion.OrderIngestionConfig;
+import org.learning.food.ordering.system.order.service.application.ingestion.StreamingOrderReader;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderIngestionBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int cartSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+    private final StreamingOrderReader streamingOrderReader = new StreamingOrderReader(OrderIngestionConfig.DEFAULT);
+    private byte[] requestBody;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        StringBuilder items = new StringBuilder();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < cartSize; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + random.nextInt(10_000), 2);
+            int quantity = 1 + random.nextInt(5);
+            BigDecimal subtotal = price.multiply(BigDecimal.valueOf(quantity));
+            total = total.add(subtotal);
+            items.append(i == 0 ? "" : ",").append("{\"productId\":\"")
+                    .append(new UUID(random.nextLong(), random.nextLong())).append("\",\"quantity\":").append(quantity)
+                    .append(",\"price\":").append(price).append(",\"subtotal\":").append(subtotal).append('}');
+        }
+        requestBody = ("{\"customerId\":\"" + new UUID(random.nextLong(), random.nextLong()) +
+                "\",\"restaurantId\":\"" + new UUID(random.nextLong(), random.nextLong()) +
+                "\",\"price\":" + total + ",\"items\":[" + items +
+                "],\"orderAddress\":{\"street\":\"street\",\"postalCode\":\"1000AB\",\"city\":\"city\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Order commandThenMapper() throws IOException {
+        return orderDataMapper.createOrderCommandToOrder(objectMapper.readValue(requestBody, CreateOrderCommand.class));
+    }
+
+    @Benchmark
+    public Order streamingReader() {
+        return streamingOrderReader.read(requestBody);
+    }
+}
@@ -0,0 +1,92 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.learning.food.ordering.system.order.service.dataaccess.outbox.adapter.OrderOutboxRepositoryImpl;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import org.learning.food.ordering.system.order.service.messaging.outbox.OrderOutboxRelay;
+import org.learning.food.ordering.system.order.service.messaging.outbox.OrderOutboxRelayConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderOutboxRelayBenchmark {
+    static final int EVENTS_PER_INVOCATION = 1_000;
+    private static final String PAYLOAD = "{\"orderId\":\"0186f0a4-7d3e-7a3c-9b1e-7f0c5e2a1b3c\"," +
+            "\"orderStatus\":\"PENDING\",\"price\":125.50}";
+
+    @Param({"100", "500"})
+    private int batchSize;
+
+    @Param({"16", "64"})
+    private int concurrency;
+
+    private final IdGenerator idGenerator = IdGenerator.timeOrdered();
+    private SingleConnectionDataSource dataSource;
+    private ExecutorService brokerExecutor;
+    private OrderOutboxRepositoryImpl orderOutboxRepository;
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:order-outbox;DB_CLOSE_DELAY=-1", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema/order-schema.sql")).execute(dataSource);
+        brokerExecutor = Executors.newFixedThreadPool(4);
+        orderOutboxRepository = new OrderOutboxRepositoryImpl(new NamedParameterJdbcTemplate(dataSource));
+        orderOutboxRelay = new OrderOutboxRelay(orderOutboxRepository,
+                message -> CompletableFuture.runAsync(() -> { }, brokerExecutor),
+                new OrderOutboxRelayConfig(batchSize, Duration.ofMillis(100), concurrency),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        orderOutboxRelay.close();
+        brokerExecutor.shutdown();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public int appendAndRelay() {
+        orderOutboxRepository.saveAll(newMessages());
+        return orderOutboxRelay.relayPending();
+    }
+
+    private List<OrderOutboxMessage> newMessages() {
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC);
+        List<OrderOutboxMessage> messages = new ArrayList<>(EVENTS_PER_INVOCATION);
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            messages.add(OrderOutboxMessage.builder()
+                    .id(idGenerator.generate())
+                    .orderId(idGenerator.generate())
+                    .eventType(OrderOutboxEventType.ORDER_CREATED)
+                    .payload(PAYLOAD)
+                    .createdAt(createdAt)
+                    .outboxStatus(OutboxStatus.STARTED)
+                    .build());
+        }
+        return messages;
+    }
+}
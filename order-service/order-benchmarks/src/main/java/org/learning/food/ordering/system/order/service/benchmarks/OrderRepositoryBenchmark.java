@@ -0,0 +1,69 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderRepositoryBenchmark {
+    private static final int STORED_ORDERS = 1_000;
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private SingleConnectionDataSource dataSource;
+    private OrderRepositoryImpl orderRepository;
+    private OrderFixtures fixtures;
+    private List<Order> storedOrders;
+    private int nextStoredOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:order-repository-" + itemCount +
+                ";DB_CLOSE_DELAY=-1", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema/order-schema.sql")).execute(dataSource);
+        orderRepository = new OrderRepositoryImpl(new NamedParameterJdbcTemplate(dataSource));
+        fixtures = new OrderFixtures(Math.max(100, itemCount), itemCount);
+        storedOrders = new ArrayList<>(STORED_ORDERS);
+        for (int i = 0; i < STORED_ORDERS; i++) {
+            storedOrders.add(newInitializedOrder());
+        }
+        orderRepository.saveAll(storedOrders);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public Order saveNewOrder() {
+        return orderRepository.save(newInitializedOrder());
+    }
+
+    @Benchmark
+    public Optional<Order> findById() {
+        Order order = storedOrders.get(nextStoredOrder++ % STORED_ORDERS);
+        return orderRepository.findById(order.getId());
+    }
+
+    private Order newInitializedOrder() {
+        Order order = fixtures.newOrder();
+        order.initializeOrder();
+        return order;
+    }
+}
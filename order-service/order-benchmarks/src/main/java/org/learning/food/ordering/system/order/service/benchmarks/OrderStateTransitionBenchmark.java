@@ -0,0 +1,52 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.domain.IOrderDomainService;
+import org.learning.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import org.learning.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderStateTransitionBenchmark {
+    private static final List<String> FAILURE_MESSAGES = List.of("Payment could not be completed!", "");
+
+    @Param({"1", "10", "200"})
+    private int cartSize;
+
+    private final IOrderDomainService orderDomainService = new OrderDomainServiceImpl();
+    private OrderFixtures fixtures;
+
+    @Setup(Level.Trial)
+    public void setUpFixtures() {
+        fixtures = new OrderFixtures(cartSize, cartSize);
+    }
+
+    @Benchmark
+    public Order pendingOrderBaseline() {
+        return fixtures.pendingOrder();
+    }
+
+    @Benchmark
+    public OrderPaidEvent payOrder() {
+        return orderDomainService.payOrder(fixtures.pendingOrder());
+    }
+
+    @Benchmark
+    public Order paidOrderBaseline() {
+        return fixtures.paidOrder();
+    }
+
+    @Benchmark
+    public OrderCancelledEvent cancelOrderPayment() {
+        return orderDomainService.cancelOrderPayment(fixtures.paidOrder(), FAILURE_MESSAGES);
+    }
+}
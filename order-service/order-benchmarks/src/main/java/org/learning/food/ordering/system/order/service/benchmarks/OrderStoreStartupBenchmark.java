@@ -0,0 +1,88 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.dataaccess.eventlog.*;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class OrderStoreStartupBenchmark {
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int EVENTS_AFTER_SNAPSHOT = 10_000;
+
+    @Param({"1000000"})
+    private int activeOrders;
+
+    @Param({"true", "false"})
+    private boolean useSnapshot;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("order-store-startup");
+        OrderFixtures fixtures = new OrderFixtures(100, 3);
+        try (EventLogOrderRepository orderRepository = new EventLogOrderRepository(
+                new OrderEventLog(logConfig()), snapshotConfig())) {
+            for (int i = 0; i < activeOrders; i++) {
+                Order order = fixtures.newOrder();
+                order.initializeOrder();
+                orderRepository.save(order);
+                if (i % 2 == 0) {
+                    order.pay();
+                    orderRepository.save(order);
+                }
+            }
+        }
+        try (EventLogOrderRepository orderRepository = new EventLogOrderRepository(
+                new OrderEventLog(logConfig()))) {
+            for (int i = 0; i < EVENTS_AFTER_SNAPSHOT; i++) {
+                Order order = fixtures.newOrder();
+                order.initializeOrder();
+                orderRepository.save(order);
+            }
+        }
+        if (!useSnapshot) {
+            try (Stream<Path> paths = Files.list(directory)) {
+                for (Path snapshot : paths.filter(path -> path.toString().endsWith(".snapshot")).toList()) {
+                    Files.delete(snapshot);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public OrderStoreStartupReport startUp() {
+        return new EventLogOrderRepository(new OrderEventLog(logConfig()), useSnapshot ? snapshotConfig() : null)
+                .startupReport();
+    }
+
+    private OrderEventLogConfig logConfig() {
+        return new OrderEventLogConfig(directory, SEGMENT_SIZE, FsyncPolicy.OS_DEFAULT, Duration.ofMillis(50));
+    }
+
+    private OrderSnapshotConfig snapshotConfig() {
+        return new OrderSnapshotConfig(directory, Duration.ZERO, 2);
+    }
+}
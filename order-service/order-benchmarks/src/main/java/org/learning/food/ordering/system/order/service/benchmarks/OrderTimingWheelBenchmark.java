@@ -0,0 +1,51 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.timeout.OrderTimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTimingWheelBenchmark {
+    private static final int TIMEOUT_TICKS = 9_000;
+
+    @Param({"1000000"})
+    private int pendingTimers;
+
+    private OrderTimingWheel orderTimingWheel;
+    private OrderId[] orderIds;
+    private int nextOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderTimingWheel = new OrderTimingWheel(pendingTimers, 0L);
+        orderIds = new OrderId[pendingTimers];
+        for (int i = 0; i < pendingTimers; i++) {
+            orderIds[i] = new OrderId(UUID.randomUUID());
+            orderTimingWheel.schedule(orderIds[i], OrderStatus.PENDING, 1 + i % TIMEOUT_TICKS);
+        }
+    }
+
+    @Benchmark
+    public void reschedule() {
+        OrderId orderId = orderIds[nextOrder++ % pendingTimers];
+        orderTimingWheel.schedule(orderId, OrderStatus.CANCELLING,
+                1 + ThreadLocalRandom.current().nextInt(TIMEOUT_TICKS));
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        OrderId orderId = new OrderId(UUID.randomUUID());
+        orderTimingWheel.schedule(orderId, OrderStatus.PENDING, TIMEOUT_TICKS);
+        return orderTimingWheel.cancel(orderId);
+    }
+}
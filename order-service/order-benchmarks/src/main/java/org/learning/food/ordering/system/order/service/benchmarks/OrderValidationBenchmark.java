@@ -0,0 +1,31 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderValidationBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int cartSize;
+
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = new OrderFixtures(cartSize, cartSize).newOrder();
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        order.validateOrder();
+        return order;
+    }
+}
@@ -0,0 +1,71 @@
+package org.learning.food.ordering.system.order.service.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.learning.food.ordering.system.domain.valueobject.PaymentStatus;
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+import org.learning.food.ordering.system.order.service.messaging.codec.SagaResponseCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SagaResponseCodecBenchmark {
+    private final SagaResponseCodec sagaResponseCodec = new SagaResponseCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private PaymentResponse paymentResponse;
+    private ByteBuffer binaryPaymentResponse;
+    private byte[] jsonPaymentResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        paymentResponse = PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .paymentId(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .price(new BigDecimal("125.50"))
+                .createdAt(Instant.now())
+                .paymentStatus(PaymentStatus.FAILED)
+                .failureMessages(FailureMessages.of(List.of("Customer has not enough credit for payment!")))
+                .build();
+        binaryPaymentResponse = sagaResponseCodec.encode(paymentResponse);
+        jsonPaymentResponse = objectMapper.writeValueAsBytes(paymentResponse);
+        System.out.printf("PaymentResponse size: binary %d bytes, json %d bytes%n",
+                binaryPaymentResponse.remaining(), jsonPaymentResponse.length);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBinary() {
+        return sagaResponseCodec.encode(paymentResponse);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(paymentResponse);
+    }
+
+    @Benchmark
+    public PaymentResponse decodeBinary() {
+        return sagaResponseCodec.decodePaymentResponse(binaryPaymentResponse.duplicate());
+    }
+
+    @Benchmark
+    public PaymentResponse decodeJson() throws Exception {
+        return objectMapper.readValue(jsonPaymentResponse, PaymentResponse.class);
+    }
+}
@@ -0,0 +1,57 @@
+package org.learning.food.ordering.system.order.service.container.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+import org.learning.food.ordering.system.order.service.domain.metrics.InMemoryOrderMetrics;
+import org.learning.food.ordering.system.order.service.domain.metrics.LatencyHistogram;
+import org.learning.food.ordering.system.order.service.domain.metrics.OrderTransition;
+
+import java.util.Locale;
+
+public class OrderMetricsMeterBinder implements MeterBinder {
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final InMemoryOrderMetrics orderMetrics;
+
+    public OrderMetricsMeterBinder(InMemoryOrderMetrics orderMetrics) {
+        this.orderMetrics = orderMetrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (OrderTransition transition : OrderTransition.values()) {
+            FunctionCounter.builder("order.transitions", orderMetrics, metrics -> metrics.transitionCount(transition))
+                    .tag("transition", tagValue(transition))
+                    .register(registry);
+        }
+        for (OrderFailureReason reason : OrderFailureReason.values()) {
+            FunctionCounter.builder("order.failures", orderMetrics, metrics -> metrics.failureCount(reason))
+                    .tag("reason", tagValue(reason))
+                    .register(registry);
+        }
+
+        LatencyHistogram initiationLatency = orderMetrics.initiationLatency();
+        FunctionCounter.builder("order.initiation.latency.count", initiationLatency, LatencyHistogram::count)
+                .register(registry);
+        Gauge.builder("order.initiation.latency.max", initiationLatency, LatencyHistogram::max)
+                .baseUnit("nanoseconds")
+                .register(registry);
+        Gauge.builder("order.initiation.latency.mean", initiationLatency, LatencyHistogram::mean)
+                .baseUnit("nanoseconds")
+                .register(registry);
+        for (double percentile : PERCENTILES) {
+            Gauge.builder("order.initiation.latency", initiationLatency,
+                            histogram -> histogram.valueAtPercentile(percentile))
+                    .tag("percentile", Double.toString(percentile / 100.0))
+                    .baseUnit("nanoseconds")
+                    .register(registry);
+        }
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,355 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderVersionConflictException;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link OrderRepository} backed by an {@link OrderEventLog}. A new order is logged as an ORDER_CREATED snapshot and
+ * each later save as an ORDER_STATUS_CHANGED delta; all orders are kept in memory and rebuilt by replay on start-up.
+ * Loaded orders are copies, so callers never share state with the committed view.
+ * <p>
+ * With snapshots configured, the non-terminal orders are periodically written to a snapshot file tagged with the log
+ * position it covers, and start-up loads the latest snapshot and replays only the log after that position. Orders
+ * that were already terminal when the snapshot was taken are not loaded again; the snapshot keeps only the log
+ * position of their ORDER_CREATED record, and a read of such an order replays its records from there.
+ */
+@Slf4j
+public class EventLogOrderRepository implements OrderRepository, AutoCloseable {
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final OrderEventLog orderEventLog;
+    private final OrderSnapshotStore snapshotStore;
+    private final ScheduledExecutorService snapshotScheduler;
+    private final Map<OrderId, Order> committedOrders = new ConcurrentHashMap<>();
+    private final Map<OrderId, LogPosition> createdPositions = new ConcurrentHashMap<>();
+    private final Map<OrderId, LogPosition> terminalOrderPositions = new ConcurrentHashMap<>();
+    private final Object snapshotLock = new Object();
+    private final OrderStoreStartupReport startupReport;
+    private ByteBuffer encodeBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private LogPosition lastSnapshotPosition;
+
+    public EventLogOrderRepository(OrderEventLog orderEventLog) {
+        this(orderEventLog, null);
+    }
+
+    public EventLogOrderRepository(OrderEventLog orderEventLog, OrderSnapshotConfig snapshotConfig) {
+        this.orderEventLog = orderEventLog;
+        this.snapshotStore = Objects.isNull(snapshotConfig) ? null : new OrderSnapshotStore(snapshotConfig);
+        startupReport = load();
+        if (!Objects.isNull(snapshotConfig) && snapshotConfig.interval().compareTo(Duration.ZERO) > 0) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "order-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = snapshotConfig.interval().toNanos();
+            snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot, intervalNanos, intervalNanos,
+                    TimeUnit.NANOSECONDS);
+        } else {
+            snapshotScheduler = null;
+        }
+    }
+
+    @Override
+    public Order save(Order order) {
+        saveAll(List.of(order));
+        return order;
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Order> orders) {
+        checkVersions(orders);
+        for (Order order : orders) {
+            Order committedOrder = committedOrders.get(order.getId());
+            long version = order.getVersion();
+            OrderStatus orderStatus = order.getOrderStatus();
+            List<String> failureMessages = order.getFailureMessages();
+            if (Objects.isNull(committedOrder)) {
+                LogPosition createdPosition = append(buffer -> OrderEventCodec.encodeCreated(order, version, buffer));
+                recordCreated(order.getId(), createdPosition);
+            } else {
+                if (committedOrder.getVersion() == version) {
+                    continue;
+                }
+                List<String> appendedFailureMessages = appendedFailureMessages(committedOrder.getFailureMessages(),
+                        failureMessages);
+                append(buffer -> OrderEventCodec.encodeStatusChanged(order.getId(), version, orderStatus,
+                        appendedFailureMessages, buffer));
+            }
+            committedOrders.put(order.getId(), copyOf(order, orderStatus, version, failureMessages));
+            order.markPersisted(version);
+        }
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        Order committedOrder = committedOrders.get(orderId);
+        if (!Objects.isNull(committedOrder)) {
+            return Optional.of(copyOf(committedOrder));
+        }
+        return Optional.ofNullable(terminalOrderPositions.get(orderId)).map(position -> loadFromLog(orderId, position));
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<OrderId> orderIds) {
+        List<Order> orders = new ArrayList<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            Order committedOrder = committedOrders.get(orderId);
+            if (!Objects.isNull(committedOrder)) {
+                orders.add(copyOf(committedOrder));
+                continue;
+            }
+            LogPosition terminalOrderPosition = terminalOrderPositions.get(orderId);
+            if (!Objects.isNull(terminalOrderPosition)) {
+                orders.add(loadFromLog(orderId, terminalOrderPosition));
+            }
+        }
+        return orders;
+    }
+
+    @Override
+    public List<Order> findAllByStatus(Collection<OrderStatus> orderStatuses) {
+        List<Order> orders = new ArrayList<>();
+        for (Order committedOrder : committedOrders.values()) {
+            if (orderStatuses.contains(committedOrder.getOrderStatus())) {
+                orders.add(copyOf(committedOrder));
+            }
+        }
+        if (orderStatuses.stream().anyMatch(OrderStatus::isTerminal)) {
+            terminalOrderPositions.forEach((orderId, createdPosition) -> {
+                Order order = loadFromLog(orderId, createdPosition);
+                if (orderStatuses.contains(order.getOrderStatus())) {
+                    orders.add(order);
+                }
+            });
+        }
+        return orders;
+    }
+
+    public int size() {
+        return committedOrders.size() + terminalOrderPositions.size();
+    }
+
+    public OrderStoreStartupReport startupReport() {
+        return startupReport;
+    }
+
+    public Optional<OrderSnapshot> snapshot() {
+        if (Objects.isNull(snapshotStore)) {
+            return Optional.empty();
+        }
+        synchronized (snapshotLock) {
+            LogPosition position;
+            List<Order> activeOrders = new ArrayList<>();
+            Map<OrderId, LogPosition> terminalOrders = new HashMap<>(terminalOrderPositions);
+            synchronized (this) {
+                position = orderEventLog.position();
+                if (position.equals(lastSnapshotPosition)) {
+                    return Optional.empty();
+                }
+                for (Order order : committedOrders.values()) {
+                    if (order.getOrderStatus().isTerminal()) {
+                        terminalOrders.put(order.getId(), createdPositions.get(order.getId()));
+                    } else {
+                        activeOrders.add(order);
+                    }
+                }
+            }
+            long startNanos = System.nanoTime();
+            OrderSnapshot orderSnapshot = snapshotStore.write(position, activeOrders, createdPositions,
+                    terminalOrders);
+            lastSnapshotPosition = position;
+            log.info("Order snapshot {} is written with {} orders and {} terminal order positions in {} ms",
+                    orderSnapshot.path().getFileName(), orderSnapshot.orderCount(),
+                    orderSnapshot.terminalOrderCount(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return Optional.of(orderSnapshot);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!Objects.isNull(snapshotScheduler)) {
+            snapshotScheduler.shutdown();
+        }
+        try {
+            snapshot();
+        } finally {
+            orderEventLog.close();
+        }
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("Order snapshot could not be written", e);
+        }
+    }
+
+    private OrderStoreStartupReport load() {
+        long startNanos = System.nanoTime();
+        LogPosition from = LogPosition.START;
+        int snapshotOrders = 0;
+        if (!Objects.isNull(snapshotStore)) {
+            Optional<OrderSnapshot> orderSnapshot = snapshotStore.loadLatest((order, createdPosition) -> {
+                committedOrders.put(order.getId(), order);
+                createdPositions.put(order.getId(), createdPosition);
+            }, terminalOrderPositions::put);
+            if (orderSnapshot.isPresent()) {
+                from = orderSnapshot.get().position();
+                snapshotOrders = orderSnapshot.get().orderCount();
+                lastSnapshotPosition = from;
+            }
+        }
+        long snapshotLoadedNanos = System.nanoTime();
+        long replayedRecords = orderEventLog.scan(from, this::apply);
+        long replayedNanos = System.nanoTime();
+        OrderStoreStartupReport report = new OrderStoreStartupReport(
+                Duration.ofNanos(snapshotLoadedNanos - startNanos), snapshotOrders,
+                Duration.ofNanos(replayedNanos - snapshotLoadedNanos), replayedRecords, committedOrders.size());
+        log.info("Order store is loaded with {} orders in {} ms: snapshot load {} ms ({} orders), " +
+                        "log replay {} ms ({} records)", report.loadedOrders(), report.total().toMillis(),
+                report.snapshotLoad().toMillis(), report.snapshotOrders(), report.logReplay().toMillis(),
+                report.replayedRecords());
+        return report;
+    }
+
+    private boolean apply(long segmentNumber, int offset, ByteBuffer body) {
+        if (OrderEventCodec.recordType(body) == OrderEventCodec.ORDER_CREATED) {
+            Order order = OrderEventCodec.decodeCreated(body);
+            committedOrders.put(order.getId(), order);
+            recordCreated(order.getId(), new LogPosition(segmentNumber, offset));
+            return true;
+        }
+        OrderEventCodec.StatusChange statusChange = OrderEventCodec.decodeStatusChanged(body);
+        Order committedOrder = committedOrders.get(statusChange.orderId());
+        if (Objects.isNull(committedOrder)) {
+            log.warn("Order event log has a status change for unknown order with id: {}",
+                    statusChange.orderId().getValue());
+            return true;
+        }
+        committedOrders.put(statusChange.orderId(), applyStatusChange(committedOrder, statusChange));
+        return true;
+    }
+
+    /**
+     * Rebuilds a terminal order that is not kept in memory by replaying the log from its ORDER_CREATED record until
+     * the order reaches its terminal status.
+     */
+    private Order loadFromLog(OrderId orderId, LogPosition createdPosition) {
+        Order[] order = new Order[1];
+        orderEventLog.scan(createdPosition, (segmentNumber, offset, body) -> {
+            if (!OrderEventCodec.hasOrderId(body, orderId)) {
+                return true;
+            }
+            order[0] = OrderEventCodec.recordType(body) == OrderEventCodec.ORDER_CREATED ?
+                    OrderEventCodec.decodeCreated(body) :
+                    applyStatusChange(order[0], OrderEventCodec.decodeStatusChanged(body));
+            return !order[0].getOrderStatus().isTerminal();
+        });
+        if (Objects.isNull(order[0]) || !order[0].getOrderStatus().isTerminal()) {
+            throw new OrderEventLogException("Terminal order with id: " + orderId.getValue() +
+                    " could not be rebuilt from the order event log at " + createdPosition);
+        }
+        return order[0];
+    }
+
+    private void recordCreated(OrderId orderId, LogPosition createdPosition) {
+        if (!Objects.isNull(snapshotStore)) {
+            createdPositions.put(orderId, createdPosition);
+        }
+    }
+
+    /**
+     * Checks every order before anything is appended, so a conflict leaves no part of the batch in the log.
+     */
+    private void checkVersions(Collection<Order> orders) {
+        Set<OrderId> checkedOrderIds = new HashSet<>();
+        for (Order order : orders) {
+            if (!checkedOrderIds.add(order.getId())) {
+                continue;
+            }
+            Order committedOrder = committedOrders.get(order.getId());
+            boolean conflict = Objects.isNull(committedOrder) ? order.isPersisted() :
+                    committedOrder.getVersion() != order.getPersistedVersion();
+            if (conflict) {
+                throw new OrderVersionConflictException(order.getId(), order.getPersistedVersion());
+            }
+        }
+    }
+
+    private LogPosition append(Consumer<ByteBuffer> encoder) {
+        while (true) {
+            encodeBuffer.clear();
+            try {
+                encoder.accept(encodeBuffer);
+                break;
+            } catch (BufferOverflowException e) {
+                encodeBuffer = ByteBuffer.allocate(encodeBuffer.capacity() * 2);
+            }
+        }
+        encodeBuffer.flip();
+        return orderEventLog.append(encodeBuffer);
+    }
+
+    private Order copyOf(Order order) {
+        return copyOf(order, order.getOrderStatus(), order.getVersion(), order.getFailureMessages());
+    }
+
+    private static Order copyOf(Order order, OrderStatus orderStatus, long version, List<String> failureMessages) {
+        return Order.Builder.builder()
+                .orderId(order.getId())
+                .customerId(order.getCustomerId())
+                .restaurantId(order.getRestaurantId())
+                .trackingId(order.getTrackingId())
+                .price(order.getPrice())
+                .streetAddress(order.getStreetAddress())
+                .items(order.getItems())
+                .orderStatus(orderStatus)
+                .failureMessages(failureMessages)
+                .version(version)
+                .build();
+    }
+
+    private static Order applyStatusChange(Order order, OrderEventCodec.StatusChange statusChange) {
+        return copyOf(order, statusChange.orderStatus(), statusChange.version(),
+                mergeFailureMessages(order.getFailureMessages(), statusChange.appendedFailureMessages()));
+    }
+
+    private static List<String> appendedFailureMessages(List<String> committedFailureMessages,
+                                                        List<String> failureMessages) {
+        if (Objects.isNull(failureMessages)) {
+            return null;
+        }
+        int committedCount = Objects.isNull(committedFailureMessages) ? 0 : committedFailureMessages.size();
+        return failureMessages.subList(Math.min(committedCount, failureMessages.size()), failureMessages.size());
+    }
+
+    private static List<String> mergeFailureMessages(List<String> committedFailureMessages,
+                                                     List<String> appendedFailureMessages) {
+        if (Objects.isNull(appendedFailureMessages)) {
+            return committedFailureMessages;
+        }
+        if (Objects.isNull(committedFailureMessages)) {
+            return appendedFailureMessages;
+        }
+        List<String> failureMessages = new ArrayList<>(committedFailureMessages);
+        failureMessages.addAll(appendedFailureMessages);
+        return List.copyOf(failureMessages);
+    }
+}
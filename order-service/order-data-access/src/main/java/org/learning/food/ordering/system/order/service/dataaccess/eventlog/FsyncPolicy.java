@@ -0,0 +1,7 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+public enum FsyncPolicy {
+    EVERY_APPEND,
+    INTERVAL,
+    OS_DEFAULT
+}
@@ -0,0 +1,11 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+public record LogPosition(long segmentNumber, int offset) implements Comparable<LogPosition> {
+    public static final LogPosition START = new LogPosition(0L, 0);
+
+    @Override
+    public int compareTo(LogPosition other) {
+        int bySegment = Long.compare(segmentNumber, other.segmentNumber);
+        return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+    }
+}
@@ -0,0 +1,172 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.roundToMinorUnits;
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.toMinorUnits;
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.toMoney;
+
+/**
+ * ORDER_CREATED carries a full snapshot of the order; ORDER_STATUS_CHANGED carries the new status, the new version
+ * and only the failure messages appended since the previous record. Amounts are stored as minor units; item prices
+ * are rounded to two decimal places like the price columns of the relational schema.
+ */
+final class OrderEventCodec {
+    static final byte ORDER_CREATED = 1;
+    static final byte ORDER_STATUS_CHANGED = 2;
+    private static final int NO_FAILURE_MESSAGES = -1;
+
+    private OrderEventCodec() {
+    }
+
+    static void encodeCreated(Order order, long version, ByteBuffer buffer) {
+        buffer.put(ORDER_CREATED);
+        putUuid(buffer, order.getId().getValue());
+        buffer.putLong(version);
+        buffer.put((byte) order.getOrderStatus().ordinal());
+        putUuid(buffer, order.getCustomerId().getValue());
+        putUuid(buffer, order.getRestaurantId().getValue());
+        putUuid(buffer, order.getTrackingId().getValue());
+        buffer.putLong(toMinorUnits(order.getPrice()));
+        StreetAddress streetAddress = order.getStreetAddress();
+        putUuid(buffer, streetAddress.id());
+        putString(buffer, streetAddress.street());
+        putString(buffer, streetAddress.postalCode());
+        putString(buffer, streetAddress.city());
+        buffer.putInt(order.getItems().size());
+        for (OrderItem orderItem : order.getItems()) {
+            buffer.putLong(orderItem.getId().getValue());
+            putUuid(buffer, orderItem.getProduct().getId().getValue());
+            buffer.putInt(orderItem.getQuantity());
+            buffer.putLong(roundToMinorUnits(orderItem.getPrice()));
+        }
+        putStrings(buffer, order.getFailureMessages());
+    }
+
+    static void encodeStatusChanged(OrderId orderId, long version, OrderStatus orderStatus,
+                                    List<String> appendedFailureMessages, ByteBuffer buffer) {
+        buffer.put(ORDER_STATUS_CHANGED);
+        putUuid(buffer, orderId.getValue());
+        buffer.putLong(version);
+        buffer.put((byte) orderStatus.ordinal());
+        putStrings(buffer, appendedFailureMessages);
+    }
+
+    static byte recordType(ByteBuffer body) {
+        return body.get(body.position());
+    }
+
+    static boolean hasOrderId(ByteBuffer body, OrderId orderId) {
+        UUID uuid = orderId.getValue();
+        int position = body.position() + 1;
+        return body.getLong(position) == uuid.getMostSignificantBits() &&
+                body.getLong(position + Long.BYTES) == uuid.getLeastSignificantBits();
+    }
+
+    static Order decodeCreated(ByteBuffer body) {
+        body.get();
+        OrderId orderId = new OrderId(getUuid(body));
+        long version = body.getLong();
+        OrderStatus orderStatus = OrderStatus.fromOrdinal(body.get());
+        CustomerId customerId = new CustomerId(getUuid(body));
+        RestaurantId restaurantId = RestaurantId.of(getUuid(body));
+        TrackingId trackingId = new TrackingId(getUuid(body));
+        Money price = toMoney(body.getLong());
+        StreetAddress streetAddress = new StreetAddress(getUuid(body), getString(body), getString(body),
+                getString(body));
+        int itemCount = body.getInt();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            OrderItemId orderItemId = new OrderItemId(body.getLong());
+            ProductId productId = ProductId.of(getUuid(body));
+            int quantity = body.getInt();
+            Money itemPrice = toMoney(body.getLong());
+            items.add(OrderItem.Builder.builder()
+                    .orderItemId(orderItemId)
+                    .orderId(orderId)
+                    .product(new Product(productId, null, itemPrice))
+                    .quantity(quantity)
+                    .price(itemPrice)
+                    .subTotal(itemPrice.multiply(quantity))
+                    .build());
+        }
+        return Order.Builder.builder()
+                .orderId(orderId)
+                .customerId(customerId)
+                .restaurantId(restaurantId)
+                .trackingId(trackingId)
+                .price(price)
+                .streetAddress(streetAddress)
+                .items(items)
+                .orderStatus(orderStatus)
+                .failureMessages(getStrings(body))
+                .version(version)
+                .build();
+    }
+
+    static StatusChange decodeStatusChanged(ByteBuffer body) {
+        body.get();
+        return new StatusChange(new OrderId(getUuid(body)), body.getLong(), OrderStatus.fromOrdinal(body.get()),
+                getStrings(body));
+    }
+
+    record StatusChange(OrderId orderId, long version, OrderStatus orderStatus, List<String> appendedFailureMessages) {
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putStrings(ByteBuffer buffer, List<String> values) {
+        if (Objects.isNull(values)) {
+            buffer.putInt(NO_FAILURE_MESSAGES);
+            return;
+        }
+        buffer.putInt(values.size());
+        for (String value : values) {
+            putString(buffer, value);
+        }
+    }
+
+    private static List<String> getStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count == NO_FAILURE_MESSAGES) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getString(buffer));
+        }
+        return List.copyOf(values);
+    }
+}
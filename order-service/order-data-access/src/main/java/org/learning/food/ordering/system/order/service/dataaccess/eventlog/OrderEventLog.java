@@ -0,0 +1,227 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of records in fixed-size memory-mapped segment files named by segment number.
+ * A record is {@code int length, int crc32c, byte[length] body}; a zero length marks the unwritten tail of a
+ * segment. On open the last segment is scanned and anything after the first torn or corrupt record is zeroed.
+ */
+@Slf4j
+public class OrderEventLog implements AutoCloseable {
+    static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final OrderEventLogConfig config;
+    private final CRC32C crc = new CRC32C();
+    private final ScheduledExecutorService fsyncScheduler;
+    private long segmentNumber;
+    private MappedByteBuffer segment;
+    private boolean dirty;
+
+    public OrderEventLog(OrderEventLogConfig config) {
+        this.config = config;
+        try {
+            Files.createDirectories(config.directory());
+            List<Path> segments = segments();
+            segmentNumber = segments.isEmpty() ? 0 : segmentNumber(segments.get(segments.size() - 1));
+            segment = map(segmentNumber);
+            segment.position(recover(segment));
+        } catch (IOException e) {
+            throw new OrderEventLogException("Could not open order event log in " + config.directory(), e);
+        }
+        if (config.fsyncPolicy() == FsyncPolicy.INTERVAL) {
+            fsyncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "order-event-log-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = config.fsyncInterval().toNanos();
+            fsyncScheduler.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        } else {
+            fsyncScheduler = null;
+        }
+    }
+
+    /**
+     * Appends a record and returns the position it starts at.
+     */
+    public synchronized LogPosition append(ByteBuffer body) {
+        int length = body.remaining();
+        if (length == 0 || RECORD_HEADER_SIZE + length > config.segmentSize()) {
+            throw new OrderEventLogException("Order event record of " + length + " bytes does not fit in a segment");
+        }
+        if (segment.remaining() < RECORD_HEADER_SIZE + length) {
+            roll();
+        }
+        LogPosition position = new LogPosition(segmentNumber, segment.position());
+        crc.reset();
+        crc.update(body.duplicate());
+        segment.putInt(length);
+        segment.putInt((int) crc.getValue());
+        segment.put(body);
+        dirty = true;
+        if (config.fsyncPolicy() == FsyncPolicy.EVERY_APPEND) {
+            flush();
+        }
+        return position;
+    }
+
+    public synchronized LogPosition position() {
+        return new LogPosition(segmentNumber, segment.position());
+    }
+
+    public void replay(Consumer<ByteBuffer> consumer) {
+        replay(LogPosition.START, consumer);
+    }
+
+    public long replay(LogPosition from, Consumer<ByteBuffer> consumer) {
+        return scan(from, (segmentNumber, offset, body) -> {
+            consumer.accept(body);
+            return true;
+        });
+    }
+
+    /**
+     * Visits the records from the given position on, with the position of each record, until the visitor returns
+     * false. Returns the number of visited records.
+     */
+    public long scan(LogPosition from, RecordVisitor visitor) {
+        List<Path> segments;
+        try {
+            segments = segments();
+        } catch (IOException e) {
+            throw new OrderEventLogException("Could not list order event log segments", e);
+        }
+        long[] records = new long[1];
+        boolean[] stopped = new boolean[1];
+        RecordVisitor countingVisitor = (segmentNumber, offset, body) -> {
+            records[0]++;
+            stopped[0] = !visitor.visit(segmentNumber, offset, body);
+            return !stopped[0];
+        };
+        for (Path path : segments) {
+            if (stopped[0]) {
+                break;
+            }
+            long number = segmentNumber(path);
+            if (number < from.segmentNumber()) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (number == from.segmentNumber()) {
+                    buffer.position(from.offset());
+                }
+                forEachRecord(number, buffer, countingVisitor);
+            } catch (IOException e) {
+                throw new OrderEventLogException("Could not replay order event log segment " + path, e);
+            }
+        }
+        return records[0];
+    }
+
+    public synchronized void flush() {
+        if (dirty) {
+            segment.force();
+            dirty = false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdown();
+        }
+        flush();
+    }
+
+    private int forEachRecord(long number, ByteBuffer buffer, RecordVisitor visitor) {
+        CRC32C recordCrc = new CRC32C();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                return start;
+            }
+            ByteBuffer body = buffer.slice(buffer.position(), length);
+            recordCrc.reset();
+            recordCrc.update(body.duplicate());
+            if ((int) recordCrc.getValue() != expectedCrc) {
+                log.warn("Order event record at offset {} has a CRC mismatch, the log is truncated there", start);
+                return start;
+            }
+            buffer.position(buffer.position() + length);
+            if (!visitor.visit(number, start, body)) {
+                break;
+            }
+        }
+        return buffer.position();
+    }
+
+    private int recover(MappedByteBuffer buffer) {
+        int end = forEachRecord(segmentNumber, buffer.duplicate(), (number, offset, body) -> true);
+        for (int position = end; position < buffer.limit(); position++) {
+            if (buffer.get(position) != 0) {
+                for (int zero = end; zero < buffer.limit(); zero++) {
+                    buffer.put(zero, (byte) 0);
+                }
+                buffer.force();
+                log.warn("Order event log segment {} is truncated at offset {}", segmentNumber, end);
+                break;
+            }
+        }
+        return end;
+    }
+
+    private void roll() {
+        segment.force();
+        segmentNumber++;
+        try {
+            segment = map(segmentNumber);
+        } catch (IOException e) {
+            throw new OrderEventLogException("Could not create order event log segment " + segmentNumber, e);
+        }
+        log.info("Order event log rolled to segment {}", segmentNumber);
+    }
+
+    private MappedByteBuffer map(long number) throws IOException {
+        Path path = config.directory().resolve("%020d%s".formatted(number, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, config.segmentSize());
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> paths = Files.list(config.directory())) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordVisitor {
+        boolean visit(long segmentNumber, int offset, ByteBuffer body);
+    }
+
+    private static long segmentNumber(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+}
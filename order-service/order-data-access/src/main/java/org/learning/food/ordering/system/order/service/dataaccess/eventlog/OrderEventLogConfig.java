@@ -0,0 +1,12 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record OrderEventLogConfig(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    public static OrderEventLogConfig of(Path directory) {
+        return new OrderEventLogConfig(directory, DEFAULT_SEGMENT_SIZE, FsyncPolicy.INTERVAL, Duration.ofMillis(50));
+    }
+}
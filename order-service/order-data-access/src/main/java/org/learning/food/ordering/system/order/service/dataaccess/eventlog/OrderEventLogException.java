@@ -0,0 +1,14 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import org.learning.food.ordering.system.domain.exception.DomainException;
+
+public class OrderEventLogException extends DomainException {
+
+    public OrderEventLogException(String message) {
+        super(message);
+    }
+
+    public OrderEventLogException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
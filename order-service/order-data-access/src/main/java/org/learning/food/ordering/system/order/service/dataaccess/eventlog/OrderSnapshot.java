@@ -0,0 +1,6 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import java.nio.file.Path;
+
+public record OrderSnapshot(Path path, LogPosition position, int orderCount, int terminalOrderCount) {
+}
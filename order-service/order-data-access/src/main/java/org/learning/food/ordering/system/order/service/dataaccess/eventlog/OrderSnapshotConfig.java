@@ -0,0 +1,11 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record OrderSnapshotConfig(Path directory, Duration interval, int retainedSnapshots) {
+
+    public static OrderSnapshotConfig of(Path directory) {
+        return new OrderSnapshotConfig(directory, Duration.ofMinutes(5), 2);
+    }
+}
@@ -0,0 +1,241 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot files of order aggregates, each tagged with the event log position it covers. A file is
+ * {@code int magic, int format, long segment, int offset, int count}, then
+ * {@code long createdSegment, int createdOffset, int length, body} per order in the ORDER_CREATED layout, then
+ * {@code int terminalCount} and {@code long idMsb, long idLsb, long createdSegment, int createdOffset} per terminal
+ * order, then a CRC32C of everything before it. The created position is where the order's ORDER_CREATED record
+ * starts in the log. Files are written under a temporary name and moved into place, so a crash never leaves a
+ * half-written snapshot that looks complete.
+ */
+@Slf4j
+class OrderSnapshotStore {
+    private static final int MAGIC = 0x4F534E50;
+    private static final int FORMAT_VERSION = 2;
+    private static final int TERMINAL_ORDER_SIZE = Long.BYTES * 3 + Integer.BYTES;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final int INITIAL_ENCODE_BUFFER_SIZE = 4096;
+
+    private final OrderSnapshotConfig config;
+
+    OrderSnapshotStore(OrderSnapshotConfig config) {
+        this.config = config;
+        try {
+            Files.createDirectories(config.directory());
+        } catch (IOException e) {
+            throw new OrderEventLogException("Could not create order snapshot directory " + config.directory(), e);
+        }
+    }
+
+    OrderSnapshotConfig config() {
+        return config;
+    }
+
+    OrderSnapshot write(LogPosition position, Collection<Order> orders, Map<OrderId, LogPosition> createdPositions,
+                        Map<OrderId, LogPosition> terminalOrders) {
+        Path path = config.directory().resolve("%020d-%010d%s".formatted(position.segmentNumber(), position.offset(),
+                SNAPSHOT_SUFFIX));
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SnapshotWriter writer = new SnapshotWriter(channel);
+            writer.writeHeader(position, orders.size());
+            for (Order order : orders) {
+                writer.writeOrder(order, createdPositions.get(order.getId()));
+            }
+            writer.writeTerminalOrders(terminalOrders);
+            writer.finish();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new OrderEventLogException("Could not write order snapshot " + path, e);
+        }
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new OrderEventLogException("Could not publish order snapshot " + path, e);
+        }
+        deleteExpiredSnapshots();
+        return new OrderSnapshot(path, position, orders.size(), terminalOrders.size());
+    }
+
+    Optional<OrderSnapshot> loadLatest(BiConsumer<Order, LogPosition> orderConsumer,
+                                       BiConsumer<OrderId, LogPosition> terminalOrderConsumer) {
+        List<Path> snapshots = snapshots();
+        for (int index = snapshots.size() - 1; index >= 0; index--) {
+            Path path = snapshots.get(index);
+            try {
+                return Optional.of(load(path, orderConsumer, terminalOrderConsumer));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Order snapshot {} could not be loaded, trying an older one: {}", path, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private OrderSnapshot load(Path path, BiConsumer<Order, LogPosition> orderConsumer,
+                               BiConsumer<OrderId, LogPosition> terminalOrderConsumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int contentSize = buffer.limit() - Integer.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, contentSize));
+            if ((int) crc.getValue() != buffer.getInt(contentSize)) {
+                throw new OrderEventLogException("Order snapshot " + path + " has a CRC mismatch");
+            }
+            buffer.limit(contentSize);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new OrderEventLogException("Order snapshot " + path + " has an unknown format");
+            }
+            LogPosition position = new LogPosition(buffer.getLong(), buffer.getInt());
+            int orderCount = buffer.getInt();
+            for (int i = 0; i < orderCount; i++) {
+                LogPosition createdPosition = new LogPosition(buffer.getLong(), buffer.getInt());
+                int length = buffer.getInt();
+                orderConsumer.accept(OrderEventCodec.decodeCreated(buffer.slice(buffer.position(), length)),
+                        createdPosition);
+                buffer.position(buffer.position() + length);
+            }
+            int terminalOrderCount = buffer.getInt();
+            for (int i = 0; i < terminalOrderCount; i++) {
+                terminalOrderConsumer.accept(new OrderId(new UUID(buffer.getLong(), buffer.getLong())),
+                        new LogPosition(buffer.getLong(), buffer.getInt()));
+            }
+            return new OrderSnapshot(path, position, orderCount, terminalOrderCount);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new OrderEventLogException("Order snapshot " + path + " is truncated", e);
+        }
+    }
+
+    private void deleteExpiredSnapshots() {
+        List<Path> snapshots = snapshots();
+        for (int index = 0; index < snapshots.size() - config.retainedSnapshots(); index++) {
+            try {
+                Files.deleteIfExists(snapshots.get(index));
+            } catch (IOException e) {
+                log.warn("Order snapshot {} could not be deleted: {}", snapshots.get(index), e.getMessage());
+            }
+        }
+    }
+
+    private List<Path> snapshots() {
+        try (Stream<Path> paths = Files.list(config.directory())) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new OrderEventLogException("Could not list order snapshots in " + config.directory(), e);
+        }
+    }
+
+    private static final class SnapshotWriter {
+        private final FileChannel channel;
+        private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        private final CRC32C crc = new CRC32C();
+        private ByteBuffer encodeBuffer = ByteBuffer.allocate(INITIAL_ENCODE_BUFFER_SIZE);
+
+        private SnapshotWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void writeHeader(LogPosition position, int orderCount) {
+            writeBuffer.putInt(MAGIC);
+            writeBuffer.putInt(FORMAT_VERSION);
+            writeBuffer.putLong(position.segmentNumber());
+            writeBuffer.putInt(position.offset());
+            writeBuffer.putInt(orderCount);
+        }
+
+        private void writeOrder(Order order, LogPosition createdPosition) throws IOException {
+            while (true) {
+                encodeBuffer.clear();
+                try {
+                    OrderEventCodec.encodeCreated(order, order.getVersion(), encodeBuffer);
+                    break;
+                } catch (BufferOverflowException e) {
+                    encodeBuffer = ByteBuffer.allocate(encodeBuffer.capacity() * 2);
+                }
+            }
+            encodeBuffer.flip();
+            if (writeBuffer.remaining() < Long.BYTES + Integer.BYTES * 2) {
+                drain();
+            }
+            writeBuffer.putLong(createdPosition.segmentNumber());
+            writeBuffer.putInt(createdPosition.offset());
+            writeBuffer.putInt(encodeBuffer.remaining());
+            while (encodeBuffer.hasRemaining()) {
+                if (!writeBuffer.hasRemaining()) {
+                    drain();
+                }
+                int chunk = Math.min(writeBuffer.remaining(), encodeBuffer.remaining());
+                writeBuffer.put(writeBuffer.position(), encodeBuffer, encodeBuffer.position(), chunk);
+                writeBuffer.position(writeBuffer.position() + chunk);
+                encodeBuffer.position(encodeBuffer.position() + chunk);
+            }
+        }
+
+        private void writeTerminalOrders(Map<OrderId, LogPosition> terminalOrders) throws IOException {
+            if (writeBuffer.remaining() < Integer.BYTES) {
+                drain();
+            }
+            writeBuffer.putInt(terminalOrders.size());
+            for (Map.Entry<OrderId, LogPosition> terminalOrder : terminalOrders.entrySet()) {
+                if (writeBuffer.remaining() < TERMINAL_ORDER_SIZE) {
+                    drain();
+                }
+                UUID orderId = terminalOrder.getKey().getValue();
+                writeBuffer.putLong(orderId.getMostSignificantBits());
+                writeBuffer.putLong(orderId.getLeastSignificantBits());
+                writeBuffer.putLong(terminalOrder.getValue().segmentNumber());
+                writeBuffer.putInt(terminalOrder.getValue().offset());
+            }
+        }
+
+        private void finish() throws IOException {
+            if (writeBuffer.remaining() < Integer.BYTES) {
+                drain();
+            }
+            crc.update(writeBuffer.duplicate().flip());
+            writeBuffer.putInt((int) crc.getValue());
+            writeBuffer.flip();
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        }
+
+        private void drain() throws IOException {
+            writeBuffer.flip();
+            crc.update(writeBuffer.duplicate());
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+            writeBuffer.clear();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import java.time.Duration;
+
+public record OrderStoreStartupReport(Duration snapshotLoad, int snapshotOrders, Duration logReplay,
+                                     long replayedRecords, int loadedOrders) {
+
+    public Duration total() {
+        return snapshotLoad.plus(logReplay);
+    }
+}
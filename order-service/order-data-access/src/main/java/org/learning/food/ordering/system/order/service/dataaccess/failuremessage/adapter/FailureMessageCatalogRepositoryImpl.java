@@ -0,0 +1,54 @@
+package org.learning.food.ordering.system.order.service.dataaccess.failuremessage.adapter;
+
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.FailureMessageCatalogRepository;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class FailureMessageCatalogRepositoryImpl implements FailureMessageCatalogRepository {
+    private static final String SELECT_ALL_SQL = "SELECT code, message FROM failure_message_catalog";
+    private static final String SELECT_MESSAGE_SQL = "SELECT message FROM failure_message_catalog WHERE code = :code";
+    private static final String SELECT_CODE_SQL = "SELECT code FROM failure_message_catalog WHERE message = :message";
+    private static final String INSERT_IF_ABSENT_SQL = "MERGE INTO failure_message_catalog AS target " +
+            "USING (VALUES (:message)) AS source (message) ON target.message = source.message " +
+            "WHEN NOT MATCHED THEN INSERT (message) VALUES (source.message)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public FailureMessageCatalogRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<Integer, String> findAll() {
+        Map<Integer, String> messagesByCode = new HashMap<>();
+        jdbcTemplate.getJdbcTemplate().query(SELECT_ALL_SQL, (RowCallbackHandler) resultSet ->
+                messagesByCode.put(resultSet.getInt("code"), resultSet.getString("message")));
+        return messagesByCode;
+    }
+
+    @Override
+    public Optional<String> findByCode(int code) {
+        List<String> messages = jdbcTemplate.queryForList(SELECT_MESSAGE_SQL, new MapSqlParameterSource("code", code),
+                String.class);
+        return messages.stream().findFirst();
+    }
+
+    @Override
+    public int register(String message) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("message", message);
+        List<Integer> codes = jdbcTemplate.queryForList(SELECT_CODE_SQL, parameters, Integer.class);
+        if (!codes.isEmpty()) {
+            return codes.get(0);
+        }
+        jdbcTemplate.update(INSERT_IF_ABSENT_SQL, parameters);
+        return jdbcTemplate.queryForObject(SELECT_CODE_SQL, parameters, Integer.class);
+    }
+}
@@ -0,0 +1,368 @@
+package org.learning.food.ordering.system.order.service.dataaccess.order.active;
+
+import org.learning.food.ordering.system.domain.id.UuidRowIndex;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+import org.learning.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.roundToMinorUnits;
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.toMinorUnits;
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.toMoney;
+
+/**
+ * In-memory store of non-terminal orders kept in parallel primitive columns: ids as UUID halves, amounts as minor
+ * units and the status as a byte, with the items of all orders in a shared set of item columns. Orders are packed
+ * densely (removal moves the last order into the gap) and a {@link UuidRowIndex} maps the order id to its row.
+ * <p>
+ * {@link #find} materializes a new {@link Order} the same way the order event log decodes one: products carry only
+ * their id and price, and item subtotals are derived from price and quantity. Storing an order with a terminal status
+ * removes it. All methods are synchronized.
+ */
+public class ActiveOrderStore {
+    private static final int NONE = UuidRowIndex.NONE;
+    private static final int MIN_CAPACITY = 16;
+
+    private int size;
+
+    private UuidRowIndex orderIndex;
+    private long[] customerIdMsb;
+    private long[] customerIdLsb;
+    private long[] restaurantIdMsb;
+    private long[] restaurantIdLsb;
+    private long[] trackingIdMsb;
+    private long[] trackingIdLsb;
+    private long[] addressIdMsb;
+    private long[] addressIdLsb;
+    private String[] streets;
+    private String[] postalCodes;
+    private String[] cities;
+    private long[] prices;
+    private long[] versions;
+    private byte[] statuses;
+    private FailureMessages[] failureMessages;
+    private int[] itemOffsets;
+    private int[] itemCounts;
+
+    private int itemsUsed;
+    private int liveItems;
+    private long[] itemIds;
+    private long[] productIdMsb;
+    private long[] productIdLsb;
+    private int[] quantities;
+    private long[] itemPrices;
+
+    public ActiveOrderStore(int initialCapacity) {
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(initialCapacity, 1) - 1) << 1);
+        allocateOrders(capacity);
+        allocateItems(capacity);
+    }
+
+    /**
+     * Stores a copy of the order, or removes it when its status is terminal.
+     *
+     * @return whether the order is kept in the store
+     */
+    public synchronized boolean put(Order order) {
+        UUID id = order.getId().getValue();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int row = rowOf(msb, lsb);
+        if (order.getOrderStatus().isTerminal()) {
+            if (row != NONE) {
+                removeRow(row);
+            }
+            return false;
+        }
+
+        List<OrderItem> items = order.getItems();
+        if (row == NONE) {
+            if (size == orderIndex.rowCapacity()) {
+                growOrders();
+            }
+            row = size++;
+            orderIndex.insert(row, msb, lsb);
+            itemCounts[row] = 0;
+        }
+        if (itemCounts[row] != items.size()) {
+            liveItems -= itemCounts[row];
+            itemCounts[row] = 0;
+            reserveItems(items.size());
+            itemOffsets[row] = itemsUsed;
+            itemCounts[row] = items.size();
+            itemsUsed += items.size();
+            liveItems += items.size();
+        }
+        writeOrder(row, order);
+        writeItems(itemOffsets[row], items);
+        return true;
+    }
+
+    /**
+     * Applies a status change to a stored order without rewriting its items; a terminal status removes the order.
+     *
+     * @return whether the order was found in the store
+     */
+    public synchronized boolean updateStatus(OrderId orderId, OrderStatus orderStatus, long version,
+                                             List<String> orderFailureMessages) {
+        int row = rowOf(orderId);
+        if (row == NONE) {
+            return false;
+        }
+        if (orderStatus.isTerminal()) {
+            removeRow(row);
+        } else {
+            statuses[row] = (byte) orderStatus.ordinal();
+            versions[row] = version;
+            failureMessages[row] = failureMessagesOf(orderFailureMessages);
+        }
+        return true;
+    }
+
+    public synchronized Optional<Order> find(OrderId orderId) {
+        int row = rowOf(orderId);
+        return row == NONE ? Optional.empty() : Optional.of(materialize(row));
+    }
+
+    public synchronized boolean contains(OrderId orderId) {
+        return rowOf(orderId) != NONE;
+    }
+
+    public synchronized boolean remove(OrderId orderId) {
+        int row = rowOf(orderId);
+        if (row == NONE) {
+            return false;
+        }
+        removeRow(row);
+        return true;
+    }
+
+    public synchronized void forEach(Consumer<Order> consumer) {
+        for (int row = 0; row < size; row++) {
+            consumer.accept(materialize(row));
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Bytes held by the column arrays and the index, assuming compressed references and excluding the address strings
+     * and failure messages they refer to.
+     */
+    public synchronized long footprintBytes() {
+        long orderCapacity = orderIndex.rowCapacity();
+        long itemCapacity = itemIds.length;
+        return orderCapacity * (10L * Long.BYTES + 2L * Integer.BYTES + Byte.BYTES + 4L * Integer.BYTES)
+                + itemCapacity * (4L * Long.BYTES + Integer.BYTES)
+                + orderIndex.footprintBytes();
+    }
+
+    private void writeOrder(int row, Order order) {
+        UUID customerId = order.getCustomerId().getValue();
+        customerIdMsb[row] = customerId.getMostSignificantBits();
+        customerIdLsb[row] = customerId.getLeastSignificantBits();
+        UUID restaurantId = order.getRestaurantId().getValue();
+        restaurantIdMsb[row] = restaurantId.getMostSignificantBits();
+        restaurantIdLsb[row] = restaurantId.getLeastSignificantBits();
+        UUID trackingId = order.getTrackingId().getValue();
+        trackingIdMsb[row] = trackingId.getMostSignificantBits();
+        trackingIdLsb[row] = trackingId.getLeastSignificantBits();
+        StreetAddress streetAddress = order.getStreetAddress();
+        addressIdMsb[row] = streetAddress.id().getMostSignificantBits();
+        addressIdLsb[row] = streetAddress.id().getLeastSignificantBits();
+        streets[row] = streetAddress.street();
+        postalCodes[row] = streetAddress.postalCode();
+        cities[row] = streetAddress.city();
+        prices[row] = toMinorUnits(order.getPrice());
+        versions[row] = order.getVersion();
+        statuses[row] = (byte) order.getOrderStatus().ordinal();
+        failureMessages[row] = failureMessagesOf(order.getFailureMessages());
+    }
+
+    private void writeItems(int offset, List<OrderItem> items) {
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem orderItem = items.get(i);
+            UUID productId = orderItem.getProduct().getId().getValue();
+            int item = offset + i;
+            itemIds[item] = orderItem.getId().getValue();
+            productIdMsb[item] = productId.getMostSignificantBits();
+            productIdLsb[item] = productId.getLeastSignificantBits();
+            quantities[item] = orderItem.getQuantity();
+            itemPrices[item] = roundToMinorUnits(orderItem.getPrice());
+        }
+    }
+
+    private Order materialize(int row) {
+        OrderId orderId = new OrderId(new UUID(orderIndex.mostSignificantBits(row),
+                orderIndex.leastSignificantBits(row)));
+        int offset = itemOffsets[row];
+        int itemCount = itemCounts[row];
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int item = offset; item < offset + itemCount; item++) {
+            Money itemPrice = toMoney(itemPrices[item]);
+            int quantity = quantities[item];
+            items.add(OrderItem.Builder.builder()
+                    .orderItemId(new OrderItemId(itemIds[item]))
+                    .orderId(orderId)
+                    .product(new Product(ProductId.of(new UUID(productIdMsb[item], productIdLsb[item])), null,
+                            itemPrice))
+                    .quantity(quantity)
+                    .price(itemPrice)
+                    .subTotal(itemPrice.multiply(quantity))
+                    .build());
+        }
+        return Order.Builder.builder()
+                .orderId(orderId)
+                .customerId(new CustomerId(new UUID(customerIdMsb[row], customerIdLsb[row])))
+                .restaurantId(RestaurantId.of(new UUID(restaurantIdMsb[row], restaurantIdLsb[row])))
+                .trackingId(new TrackingId(new UUID(trackingIdMsb[row], trackingIdLsb[row])))
+                .price(toMoney(prices[row]))
+                .streetAddress(new StreetAddress(new UUID(addressIdMsb[row], addressIdLsb[row]), streets[row],
+                        postalCodes[row], cities[row]))
+                .items(items)
+                .orderStatus(OrderStatus.fromOrdinal(statuses[row]))
+                .failureMessages(failureMessages[row])
+                .version(versions[row])
+                .build();
+    }
+
+    private void removeRow(int row) {
+        orderIndex.remove(row);
+        liveItems -= itemCounts[row];
+        int last = --size;
+        if (row != last) {
+            orderIndex.move(last, row);
+            moveOrder(last, row);
+        }
+        streets[last] = null;
+        postalCodes[last] = null;
+        cities[last] = null;
+        failureMessages[last] = null;
+    }
+
+    private void moveOrder(int from, int to) {
+        customerIdMsb[to] = customerIdMsb[from];
+        customerIdLsb[to] = customerIdLsb[from];
+        restaurantIdMsb[to] = restaurantIdMsb[from];
+        restaurantIdLsb[to] = restaurantIdLsb[from];
+        trackingIdMsb[to] = trackingIdMsb[from];
+        trackingIdLsb[to] = trackingIdLsb[from];
+        addressIdMsb[to] = addressIdMsb[from];
+        addressIdLsb[to] = addressIdLsb[from];
+        streets[to] = streets[from];
+        postalCodes[to] = postalCodes[from];
+        cities[to] = cities[from];
+        prices[to] = prices[from];
+        versions[to] = versions[from];
+        statuses[to] = statuses[from];
+        failureMessages[to] = failureMessages[from];
+        itemOffsets[to] = itemOffsets[from];
+        itemCounts[to] = itemCounts[from];
+    }
+
+    // Items of removed orders are reclaimed when the space runs out: the live ranges are copied to the front of new
+    // columns, which double in size only while less than a quarter of the current ones would be free afterwards.
+    private void reserveItems(int count) {
+        if (itemsUsed + count <= itemIds.length) {
+            return;
+        }
+        long required = (long) liveItems + count;
+        int capacity = itemIds.length;
+        while (required > capacity - (capacity >> 2)) {
+            capacity *= 2;
+        }
+        long[] oldItemIds = itemIds;
+        long[] oldProductIdMsb = productIdMsb;
+        long[] oldProductIdLsb = productIdLsb;
+        int[] oldQuantities = quantities;
+        long[] oldItemPrices = itemPrices;
+        allocateItems(capacity);
+        int used = 0;
+        for (int row = 0; row < size; row++) {
+            int offset = itemOffsets[row];
+            int itemCount = itemCounts[row];
+            System.arraycopy(oldItemIds, offset, itemIds, used, itemCount);
+            System.arraycopy(oldProductIdMsb, offset, productIdMsb, used, itemCount);
+            System.arraycopy(oldProductIdLsb, offset, productIdLsb, used, itemCount);
+            System.arraycopy(oldQuantities, offset, quantities, used, itemCount);
+            System.arraycopy(oldItemPrices, offset, itemPrices, used, itemCount);
+            itemOffsets[row] = used;
+            used += itemCount;
+        }
+        itemsUsed = used;
+    }
+
+    private void allocateOrders(int capacity) {
+        orderIndex = new UuidRowIndex(capacity);
+        customerIdMsb = new long[capacity];
+        customerIdLsb = new long[capacity];
+        restaurantIdMsb = new long[capacity];
+        restaurantIdLsb = new long[capacity];
+        trackingIdMsb = new long[capacity];
+        trackingIdLsb = new long[capacity];
+        addressIdMsb = new long[capacity];
+        addressIdLsb = new long[capacity];
+        streets = new String[capacity];
+        postalCodes = new String[capacity];
+        cities = new String[capacity];
+        prices = new long[capacity];
+        versions = new long[capacity];
+        statuses = new byte[capacity];
+        failureMessages = new FailureMessages[capacity];
+        itemOffsets = new int[capacity];
+        itemCounts = new int[capacity];
+    }
+
+    private void allocateItems(int capacity) {
+        itemIds = new long[capacity];
+        productIdMsb = new long[capacity];
+        productIdLsb = new long[capacity];
+        quantities = new int[capacity];
+        itemPrices = new long[capacity];
+    }
+
+    private void growOrders() {
+        int newCapacity = orderIndex.rowCapacity() * 2;
+        customerIdMsb = Arrays.copyOf(customerIdMsb, newCapacity);
+        customerIdLsb = Arrays.copyOf(customerIdLsb, newCapacity);
+        restaurantIdMsb = Arrays.copyOf(restaurantIdMsb, newCapacity);
+        restaurantIdLsb = Arrays.copyOf(restaurantIdLsb, newCapacity);
+        trackingIdMsb = Arrays.copyOf(trackingIdMsb, newCapacity);
+        trackingIdLsb = Arrays.copyOf(trackingIdLsb, newCapacity);
+        addressIdMsb = Arrays.copyOf(addressIdMsb, newCapacity);
+        addressIdLsb = Arrays.copyOf(addressIdLsb, newCapacity);
+        streets = Arrays.copyOf(streets, newCapacity);
+        postalCodes = Arrays.copyOf(postalCodes, newCapacity);
+        cities = Arrays.copyOf(cities, newCapacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+        statuses = Arrays.copyOf(statuses, newCapacity);
+        failureMessages = Arrays.copyOf(failureMessages, newCapacity);
+        itemOffsets = Arrays.copyOf(itemOffsets, newCapacity);
+        itemCounts = Arrays.copyOf(itemCounts, newCapacity);
+        int liveRows = size;
+        orderIndex.resize(newCapacity, row -> row < liveRows);
+    }
+
+    private int rowOf(OrderId orderId) {
+        UUID id = orderId.getValue();
+        return rowOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    private int rowOf(long msb, long lsb) {
+        return orderIndex.find(msb, lsb);
+    }
+
+    private static FailureMessages failureMessagesOf(List<String> values) {
+        return Objects.isNull(values) ? null : FailureMessages.of(values);
+    }
+}
@@ -0,0 +1,415 @@
+package org.learning.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderVersionConflictException;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+import org.learning.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Multi-row item inserts and IN lists use a handful of fixed sizes, so only a few distinct SQL texts exist and the
+ * driver/pool statement cache can reuse their prepared statements.
+ * <p>
+ * Failure messages are stored as catalog codes, one unsigned varint per message holding {@code code + 1}. A zero
+ * marks a free-text message, taken in order from the {@code failure_messages} column.
+ */
+@Component
+public class OrderRepositoryImpl implements OrderRepository, OrderTrackingRepository {
+    private static final String INSERT_ORDER_SQL = "INSERT INTO orders (id, customer_id, restaurant_id, tracking_id, " +
+            "price, order_status, failure_message_codes, failure_messages, version, address_id, street, postal_code, " +
+            "city) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ORDER_SQL = "UPDATE orders SET order_status = ?, failure_message_codes = ?, " +
+            "failure_messages = ?, version = ? WHERE id = ? AND version = ?";
+    private static final String SELECT_ORDER_ROWS_SQL = "SELECT o.id, o.customer_id, o.restaurant_id, o.tracking_id, " +
+            "o.price, o.order_status, o.failure_message_codes, o.failure_messages, o.version, o.address_id, o.street, o.postal_code, o.city, " +
+            "i.id AS item_id, i.product_id, i.price AS item_price, i.quantity, i.sub_total " +
+            "FROM orders o LEFT JOIN order_items i ON i.order_id = o.id ";
+    private static final String SELECT_ORDERS_SQL = SELECT_ORDER_ROWS_SQL + "WHERE o.id IN (%s) ORDER BY o.id, i.id";
+    private static final String SELECT_ORDERS_BY_STATUS_SQL = SELECT_ORDER_ROWS_SQL +
+            "WHERE o.order_status IN (%s) ORDER BY o.id, i.id";
+    private static final String SELECT_TRACKING_SQL = "SELECT tracking_id, order_status, failure_message_codes, " +
+            "failure_messages FROM orders WHERE tracking_id IN (%s)";
+    private static final String SELECT_TRACKING_BY_STATUS_SQL = "SELECT tracking_id, order_status, " +
+            "failure_message_codes, failure_messages FROM orders WHERE order_status IN (%s)";
+    private static final int SCAN_FETCH_SIZE = 1_000;
+    private static final String INSERT_ITEMS_SQL = "INSERT INTO order_items " +
+            "(id, order_id, product_id, price, quantity, sub_total) VALUES ";
+    private static final String ITEM_VALUES = "(?, ?, ?, ?, ?, ?)";
+    private static final String FAILURE_MESSAGE_SEPARATOR = "\u001F";
+    private static final int[] ITEM_CHUNK_SIZES = {64, 16, 4, 1};
+    private static final int[] ID_CHUNK_SIZES = {1, 4, 16, 64, 256};
+    private static final Map<Integer, String> INSERT_ITEMS_SQL_BY_CHUNK_SIZE = new HashMap<>();
+    private static final Map<Integer, String> SELECT_ORDERS_SQL_BY_CHUNK_SIZE = new HashMap<>();
+    private static final Map<Integer, String> SELECT_TRACKING_SQL_BY_CHUNK_SIZE = new HashMap<>();
+
+    static {
+        for (int chunkSize : ITEM_CHUNK_SIZES) {
+            INSERT_ITEMS_SQL_BY_CHUNK_SIZE.put(chunkSize,
+                    INSERT_ITEMS_SQL + String.join(", ", Collections.nCopies(chunkSize, ITEM_VALUES)));
+        }
+        for (int chunkSize : ID_CHUNK_SIZES) {
+            String placeholders = String.join(", ", Collections.nCopies(chunkSize, "?"));
+            SELECT_ORDERS_SQL_BY_CHUNK_SIZE.put(chunkSize, SELECT_ORDERS_SQL.formatted(placeholders));
+            SELECT_TRACKING_SQL_BY_CHUNK_SIZE.put(chunkSize, SELECT_TRACKING_SQL.formatted(placeholders));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate.getJdbcTemplate();
+    }
+
+    @Override
+    public Order save(Order order) {
+        saveAll(List.of(order));
+        return order;
+    }
+
+    @Override
+    public void saveAll(Collection<Order> orders) {
+        List<Order> newOrders = new ArrayList<>();
+        List<Order> persistedOrders = new ArrayList<>();
+        for (Order order : orders) {
+            (order.isPersisted() ? persistedOrders : newOrders).add(order);
+        }
+        long[] newVersions = versions(newOrders);
+        long[] persistedVersions = versions(persistedOrders);
+
+        insertOrders(newOrders, newVersions);
+        updateOrders(persistedOrders, persistedVersions);
+
+        for (int i = 0; i < newOrders.size(); i++) {
+            newOrders.get(i).markPersisted(newVersions[i]);
+        }
+        for (int i = 0; i < persistedOrders.size(); i++) {
+            persistedOrders.get(i).markPersisted(persistedVersions[i]);
+        }
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        List<Order> orders = findAllById(List.of(orderId));
+        return orders.isEmpty() ? Optional.empty() : Optional.of(orders.get(0));
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            ids.add(orderId.getValue());
+        }
+        int largestChunkSize = ID_CHUNK_SIZES[ID_CHUNK_SIZES.length - 1];
+        List<Order> orders = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += largestChunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + largestChunkSize, ids.size()));
+            int chunkSize = paddedChunkSize(chunk.size());
+            orders.addAll(jdbcTemplate.query(SELECT_ORDERS_SQL_BY_CHUNK_SIZE.get(chunkSize),
+                    preparedStatement -> setPaddedIds(preparedStatement, chunk, chunkSize), this::extractOrders));
+        }
+        return orders;
+    }
+
+    @Override
+    public List<Order> findAllByStatus(Collection<OrderStatus> orderStatuses) {
+        if (orderStatuses.isEmpty()) {
+            return List.of();
+        }
+        List<OrderStatus> statuses = List.copyOf(orderStatuses);
+        return jdbcTemplate.query(SELECT_ORDERS_BY_STATUS_SQL.formatted(
+                String.join(", ", Collections.nCopies(statuses.size(), "?"))), preparedStatement -> {
+            for (int i = 0; i < statuses.size(); i++) {
+                preparedStatement.setString(i + 1, statuses.get(i).name());
+            }
+        }, this::extractOrders);
+    }
+
+    @Override
+    public void findAllByTrackingId(Collection<UUID> trackingIds, Consumer<TrackOrderQuery> consumer) {
+        if (trackingIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = trackingIds instanceof List<UUID> list ? list : new ArrayList<>(trackingIds);
+        int largestChunkSize = ID_CHUNK_SIZES[ID_CHUNK_SIZES.length - 1];
+        RowCallbackHandler rowCallbackHandler = toTrackOrderQueries(consumer);
+        for (int from = 0; from < ids.size(); from += largestChunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + largestChunkSize, ids.size()));
+            int chunkSize = paddedChunkSize(chunk.size());
+            jdbcTemplate.query(SELECT_TRACKING_SQL_BY_CHUNK_SIZE.get(chunkSize),
+                    preparedStatement -> setPaddedIds(preparedStatement, chunk, chunkSize), rowCallbackHandler);
+        }
+    }
+
+    @Override
+    public void findAllByOrderStatus(Collection<OrderStatus> orderStatuses, Consumer<TrackOrderQuery> consumer) {
+        if (orderStatuses.isEmpty()) {
+            return;
+        }
+        List<OrderStatus> statuses = List.copyOf(orderStatuses);
+        String sql = SELECT_TRACKING_BY_STATUS_SQL.formatted(
+                String.join(", ", Collections.nCopies(statuses.size(), "?")));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            preparedStatement.setFetchSize(SCAN_FETCH_SIZE);
+            for (int i = 0; i < statuses.size(); i++) {
+                preparedStatement.setString(i + 1, statuses.get(i).name());
+            }
+            return preparedStatement;
+        }, toTrackOrderQueries(consumer));
+    }
+
+    private void insertOrders(List<Order> orders, long[] versions) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int index) throws SQLException {
+                Order order = orders.get(index);
+                StreetAddress streetAddress = order.getStreetAddress();
+                preparedStatement.setObject(1, order.getId().getValue());
+                preparedStatement.setObject(2, order.getCustomerId().getValue());
+                preparedStatement.setObject(3, order.getRestaurantId().getValue());
+                preparedStatement.setObject(4, order.getTrackingId().getValue());
+                preparedStatement.setBigDecimal(5, order.getPrice().amount());
+                preparedStatement.setString(6, order.getOrderStatus().name());
+                preparedStatement.setBytes(7, failureMessageCodes(order.getFailureMessages()));
+                preparedStatement.setString(8, freeTextFailureMessages(order.getFailureMessages()));
+                preparedStatement.setLong(9, versions[index]);
+                preparedStatement.setObject(10, streetAddress.id());
+                preparedStatement.setString(11, streetAddress.street());
+                preparedStatement.setString(12, streetAddress.postalCode());
+                preparedStatement.setString(13, streetAddress.city());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return orders.size();
+            }
+        });
+
+        List<OrderItem> items = new ArrayList<>();
+        for (Order order : orders) {
+            items.addAll(order.getItems());
+        }
+        insertItems(items);
+    }
+
+    private void insertItems(List<OrderItem> items) {
+        int offset = 0;
+        for (int chunkSize : ITEM_CHUNK_SIZES) {
+            int chunkCount = (items.size() - offset) / chunkSize;
+            if (chunkCount == 0) {
+                continue;
+            }
+            int firstItem = offset;
+            jdbcTemplate.batchUpdate(INSERT_ITEMS_SQL_BY_CHUNK_SIZE.get(chunkSize), new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement preparedStatement, int index) throws SQLException {
+                    int parameterIndex = 1;
+                    int chunkStart = firstItem + index * chunkSize;
+                    for (int i = chunkStart; i < chunkStart + chunkSize; i++) {
+                        OrderItem orderItem = items.get(i);
+                        preparedStatement.setLong(parameterIndex++, orderItem.getId().getValue());
+                        preparedStatement.setObject(parameterIndex++, orderItem.getOrderId().getValue());
+                        preparedStatement.setObject(parameterIndex++, orderItem.getProduct().getId().getValue());
+                        preparedStatement.setBigDecimal(parameterIndex++, orderItem.getPrice().amount());
+                        preparedStatement.setInt(parameterIndex++, orderItem.getQuantity());
+                        preparedStatement.setBigDecimal(parameterIndex++, orderItem.getSubTotal().amount());
+                    }
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return chunkCount;
+                }
+            });
+            offset += chunkCount * chunkSize;
+        }
+    }
+
+    private void updateOrders(List<Order> orders, long[] versions) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int index) throws SQLException {
+                Order order = orders.get(index);
+                preparedStatement.setString(1, order.getOrderStatus().name());
+                preparedStatement.setBytes(2, failureMessageCodes(order.getFailureMessages()));
+                preparedStatement.setString(3, freeTextFailureMessages(order.getFailureMessages()));
+                preparedStatement.setLong(4, versions[index]);
+                preparedStatement.setObject(5, order.getId().getValue());
+                preparedStatement.setLong(6, order.getPersistedVersion());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return orders.size();
+            }
+        });
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                Order order = orders.get(i);
+                throw new OrderVersionConflictException(order.getId(), order.getPersistedVersion());
+            }
+        }
+    }
+
+    private List<Order> extractOrders(ResultSet resultSet) throws SQLException {
+        List<Order> orders = new ArrayList<>();
+        Order.Builder orderBuilder = null;
+        List<OrderItem> items = null;
+        UUID currentOrderId = null;
+        while (resultSet.next()) {
+            UUID orderId = resultSet.getObject("id", UUID.class);
+            if (!orderId.equals(currentOrderId)) {
+                if (orderBuilder != null) {
+                    orders.add(orderBuilder.items(items).build());
+                }
+                currentOrderId = orderId;
+                orderBuilder = toOrderBuilder(resultSet, orderId);
+                items = new ArrayList<>();
+            }
+            long itemId = resultSet.getLong("item_id");
+            if (!resultSet.wasNull()) {
+                items.add(toOrderItem(resultSet, orderId, itemId));
+            }
+        }
+        if (orderBuilder != null) {
+            orders.add(orderBuilder.items(items).build());
+        }
+        return orders;
+    }
+
+    private Order.Builder toOrderBuilder(ResultSet resultSet, UUID orderId) throws SQLException {
+        return Order.Builder.builder()
+                .orderId(new OrderId(orderId))
+                .customerId(new CustomerId(resultSet.getObject("customer_id", UUID.class)))
+                .restaurantId(RestaurantId.of(resultSet.getObject("restaurant_id", UUID.class)))
+                .trackingId(new TrackingId(resultSet.getObject("tracking_id", UUID.class)))
+                .price(new Money(resultSet.getBigDecimal("price")))
+                .orderStatus(OrderStatus.valueOf(resultSet.getString("order_status")))
+                .failureMessages(toFailureMessages(resultSet.getBytes("failure_message_codes"),
+                        resultSet.getString("failure_messages")))
+                .version(resultSet.getLong("version"))
+                .streetAddress(new StreetAddress(resultSet.getObject("address_id", UUID.class),
+                        resultSet.getString("street"), resultSet.getString("postal_code"),
+                        resultSet.getString("city")));
+    }
+
+    private OrderItem toOrderItem(ResultSet resultSet, UUID orderId, long itemId) throws SQLException {
+        Money price = new Money(resultSet.getBigDecimal("item_price"));
+        return OrderItem.Builder.builder()
+                .orderItemId(new OrderItemId(itemId))
+                .orderId(new OrderId(orderId))
+                .product(new Product(ProductId.of(resultSet.getObject("product_id", UUID.class)), null, price))
+                .quantity(resultSet.getInt("quantity"))
+                .price(price)
+                .subTotal(new Money(resultSet.getBigDecimal("sub_total")))
+                .build();
+    }
+
+    private static RowCallbackHandler toTrackOrderQueries(Consumer<TrackOrderQuery> consumer) {
+        return resultSet -> consumer.accept(new TrackOrderQuery(
+                resultSet.getObject("tracking_id", UUID.class),
+                OrderStatus.valueOf(resultSet.getString("order_status")),
+                toFailureMessages(resultSet.getBytes("failure_message_codes"),
+                        resultSet.getString("failure_messages"))));
+    }
+
+    private static long[] versions(List<Order> orders) {
+        long[] versions = new long[orders.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = orders.get(i).getVersion();
+        }
+        return versions;
+    }
+
+    // Padding repeats the last id, so a padded IN list matches the same rows as the unpadded one.
+    private static void setPaddedIds(PreparedStatement preparedStatement, List<UUID> ids, int chunkSize)
+            throws SQLException {
+        for (int i = 0; i < chunkSize; i++) {
+            preparedStatement.setObject(i + 1, ids.get(Math.min(i, ids.size() - 1)));
+        }
+    }
+
+    private static int paddedChunkSize(int size) {
+        for (int chunkSize : ID_CHUNK_SIZES) {
+            if (chunkSize >= size) {
+                return chunkSize;
+            }
+        }
+        throw new IllegalArgumentException("Id chunk of " + size + " exceeds the largest chunk size");
+    }
+
+    private static byte[] failureMessageCodes(FailureMessages failureMessages) {
+        if (Objects.isNull(failureMessages) || failureMessages.isEmpty()) {
+            return null;
+        }
+        int[] codes = failureMessages.codes();
+        byte[] encoded = new byte[codes.length * 5];
+        int length = 0;
+        for (int code : codes) {
+            int value = code >= 0 ? code + 1 : 0;
+            while ((value & ~0x7F) != 0) {
+                encoded[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            encoded[length++] = (byte) value;
+        }
+        return Arrays.copyOf(encoded, length);
+    }
+
+    private static String freeTextFailureMessages(FailureMessages failureMessages) {
+        if (Objects.isNull(failureMessages) || failureMessages.overflowMessages().isEmpty()) {
+            return null;
+        }
+        return String.join(FAILURE_MESSAGE_SEPARATOR, failureMessages.overflowMessages());
+    }
+
+    private static FailureMessages toFailureMessages(byte[] encodedCodes, String freeTextFailureMessages) {
+        List<String> freeText = Objects.isNull(freeTextFailureMessages) ? List.of() :
+                List.of(freeTextFailureMessages.split(FAILURE_MESSAGE_SEPARATOR, -1));
+        if (Objects.isNull(encodedCodes)) {
+            return freeText.isEmpty() ? null : FailureMessages.of(freeText);
+        }
+        int[] codes = new int[encodedCodes.length];
+        int size = 0;
+        int freeTextIndex = 0;
+        for (int position = 0; position < encodedCodes.length; ) {
+            int value = 0;
+            int shift = 0;
+            byte encoded;
+            do {
+                encoded = encodedCodes[position++];
+                value |= (encoded & 0x7F) << shift;
+                shift += 7;
+            } while (encoded < 0);
+            codes[size++] = value == 0 ? -1 - freeTextIndex++ : value - 1;
+        }
+        return FailureMessages.fromCodes(Arrays.copyOf(codes, size), freeText);
+    }
+}
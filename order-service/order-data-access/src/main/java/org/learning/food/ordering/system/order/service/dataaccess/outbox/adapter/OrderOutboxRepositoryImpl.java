@@ -0,0 +1,93 @@
+package org.learning.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+    private static final String INSERT_SQL = "INSERT INTO order_outbox " +
+            "(id, order_id, event_type, payload, created_at, processed_at, outbox_status) " +
+            "VALUES (:id, :orderId, :eventType, :payload, :createdAt, :processedAt, :outboxStatus)";
+    // Rows are claimed with SKIP LOCKED so concurrent relays never publish the same message, and a message is only
+    // claimed once no older message of the same order is still in that status, so a relay cannot overtake a message
+    // another relay has locked.
+    private static final String SELECT_BY_STATUS_SQL = "SELECT id, order_id, event_type, payload, created_at, " +
+            "processed_at, outbox_status FROM order_outbox message WHERE outbox_status = :outboxStatus " +
+            "AND NOT EXISTS (SELECT 1 FROM order_outbox earlier WHERE earlier.order_id = message.order_id " +
+            "AND earlier.outbox_status = :outboxStatus AND (earlier.created_at < message.created_at " +
+            "OR (earlier.created_at = message.created_at AND earlier.id < message.id))) " +
+            "ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED";
+    private static final String UPDATE_STATUS_SQL = "UPDATE order_outbox " +
+            "SET outbox_status = :outboxStatus, processed_at = :processedAt WHERE id IN (:ids)";
+    private static final RowMapper<OrderOutboxMessage> ROW_MAPPER = (resultSet, rowNum) -> OrderOutboxMessage.builder()
+            .id(resultSet.getObject("id", UUID.class))
+            .orderId(resultSet.getObject("order_id", UUID.class))
+            .eventType(OrderOutboxEventType.valueOf(resultSet.getString("event_type")))
+            .payload(resultSet.getString("payload"))
+            .createdAt(resultSet.getObject("created_at", OffsetDateTime.class))
+            .processedAt(resultSet.getObject("processed_at", OffsetDateTime.class))
+            .outboxStatus(OutboxStatus.valueOf(resultSet.getString("outbox_status")))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrderOutboxRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(OrderOutboxMessage orderOutboxMessage) {
+        jdbcTemplate.update(INSERT_SQL, toParameters(orderOutboxMessage));
+    }
+
+    @Override
+    public void saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        if (orderOutboxMessages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, orderOutboxMessages.stream()
+                .map(this::toParameters)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit) {
+        return jdbcTemplate.query(SELECT_BY_STATUS_SQL, new MapSqlParameterSource()
+                .addValue("outboxStatus", outboxStatus.name())
+                .addValue("limit", limit), ROW_MAPPER);
+    }
+
+    @Override
+    public int updateOutboxStatus(Collection<UUID> ids, OutboxStatus outboxStatus, OffsetDateTime processedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(UPDATE_STATUS_SQL, new MapSqlParameterSource()
+                .addValue("outboxStatus", outboxStatus.name())
+                .addValue("processedAt", processedAt)
+                .addValue("ids", ids));
+    }
+
+    private SqlParameterSource toParameters(OrderOutboxMessage orderOutboxMessage) {
+        return new MapSqlParameterSource()
+                .addValue("id", orderOutboxMessage.id())
+                .addValue("orderId", orderOutboxMessage.orderId())
+                .addValue("eventType", orderOutboxMessage.eventType().name())
+                .addValue("payload", orderOutboxMessage.payload())
+                .addValue("createdAt", orderOutboxMessage.createdAt())
+                .addValue("processedAt", orderOutboxMessage.processedAt())
+                .addValue("outboxStatus", orderOutboxMessage.outboxStatus().name());
+    }
+}
@@ -0,0 +1,82 @@
+package org.learning.food.ordering.system.order.service.dataaccess.processedmessage.adapter;
+
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+@Component
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+    private static final String SELECT_PROCESSED_SQL = "SELECT message_id FROM processed_message " +
+            "WHERE message_type = :messageType AND message_id IN (:messageIds)";
+    private static final String INSERT_IF_ABSENT_SQL = "MERGE INTO processed_message AS target " +
+            "USING (VALUES (:messageType, :messageId, :processedAt)) " +
+            "AS source (message_type, message_id, processed_at) " +
+            "ON target.message_type = source.message_type AND target.message_id = source.message_id " +
+            "WHEN NOT MATCHED THEN INSERT (message_type, message_id, processed_at) " +
+            "VALUES (source.message_type, source.message_id, source.processed_at)";
+    private static final String SELECT_SINCE_SQL = "SELECT message_type, message_id FROM processed_message " +
+            "WHERE processed_at >= ?";
+    private static final String DELETE_BEFORE_SQL = "DELETE FROM processed_message WHERE processed_at < :processedAt";
+    private static final int QUERY_CHUNK_SIZE = 500;
+    private static final int REPLAY_FETCH_SIZE = 1_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProcessedMessageRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<String> findProcessed(SagaResponseType messageType, Collection<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> ids = new ArrayList<>(messageIds);
+        Set<String> processed = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            processed.addAll(jdbcTemplate.queryForList(SELECT_PROCESSED_SQL, new MapSqlParameterSource()
+                    .addValue("messageType", messageType.name())
+                    .addValue("messageIds", chunk), String.class));
+        }
+        return processed;
+    }
+
+    @Override
+    public void saveAll(SagaResponseType messageType, Collection<String> messageIds, OffsetDateTime processedAt) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, messageIds.stream()
+                .map(messageId -> new MapSqlParameterSource()
+                        .addValue("messageType", messageType.name())
+                        .addValue("messageId", messageId)
+                        .addValue("processedAt", processedAt))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public void replayProcessedSince(OffsetDateTime processedAt, BiConsumer<SagaResponseType, String> consumer) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(SELECT_SINCE_SQL);
+            preparedStatement.setObject(1, processedAt);
+            preparedStatement.setFetchSize(REPLAY_FETCH_SIZE);
+            return preparedStatement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(
+                SagaResponseType.valueOf(resultSet.getString("message_type")), resultSet.getString("message_id")));
+    }
+
+    @Override
+    public int deleteProcessedBefore(OffsetDateTime processedAt) {
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, new MapSqlParameterSource("processedAt", processedAt));
+    }
+}
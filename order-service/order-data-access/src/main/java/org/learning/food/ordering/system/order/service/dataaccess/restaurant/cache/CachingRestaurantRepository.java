@@ -0,0 +1,105 @@
+package org.learning.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Slf4j
+public class CachingRestaurantRepository implements RestaurantRepository {
+    private final RestaurantRepository restaurantRepository;
+    private final LoadingCache<RestaurantId, Restaurant> restaurantCache;
+
+    public CachingRestaurantRepository(RestaurantRepository restaurantRepository, RestaurantCacheConfig config) {
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantCache = Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .refreshAfterWrite(config.refreshAfterWrite())
+                .expireAfterWrite(config.expireAfterWrite())
+                .recordStats()
+                .build(this::loadRestaurant);
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(RestaurantId restaurantId) {
+        return Optional.ofNullable(restaurantCache.get(restaurantId));
+    }
+
+    public void invalidate(RestaurantId restaurantId) {
+        restaurantCache.invalidate(restaurantId);
+        log.info("Restaurant with id: {} is invalidated in restaurant cache", restaurantId.getValue());
+    }
+
+    public void invalidateAll() {
+        restaurantCache.invalidateAll();
+        log.info("Restaurant cache is invalidated");
+    }
+
+    /**
+     * Replaces a cached restaurant with the updated snapshot when its status or catalog changed. A snapshot without
+     * a product list cannot replace the entry, so a changed status only invalidates it.
+     */
+    public void restaurantUpdated(Restaurant restaurant) {
+        RestaurantId restaurantId = restaurant.getId();
+        Restaurant cachedRestaurant = restaurantCache.asMap().get(restaurantId);
+        if (Objects.isNull(cachedRestaurant)) {
+            return;
+        }
+        if (Objects.isNull(restaurant.getProducts())) {
+            if (cachedRestaurant.isActive() != restaurant.isActive()) {
+                invalidate(restaurantId);
+            }
+            return;
+        }
+        if (!isCatalogChanged(cachedRestaurant, restaurant)) {
+            return;
+        }
+        if (restaurantCache.asMap().replace(restaurantId, cachedRestaurant, restaurant)) {
+            log.info("Restaurant with id: {} is updated in restaurant cache", restaurantId.getValue());
+        } else {
+            // A concurrent load or update changed the entry in between; drop it rather than keep either version.
+            invalidate(restaurantId);
+        }
+    }
+
+    public RestaurantCacheStats stats() {
+        CacheStats stats = restaurantCache.stats();
+        return new RestaurantCacheStats(stats.hitCount(), stats.missCount(), stats.loadSuccessCount(),
+                stats.loadFailureCount(), stats.totalLoadTime(), stats.averageLoadPenalty(), stats.evictionCount(),
+                restaurantCache.estimatedSize());
+    }
+
+    private Restaurant loadRestaurant(RestaurantId restaurantId) {
+        return restaurantRepository.findRestaurantInformation(restaurantId).orElse(null);
+    }
+
+    private boolean isCatalogChanged(Restaurant cachedRestaurant, Restaurant restaurant) {
+        if (cachedRestaurant.isActive() != restaurant.isActive()) {
+            return true;
+        }
+        List<Product> cachedProducts = cachedRestaurant.getProducts();
+        if (Objects.isNull(cachedProducts)) {
+            return true;
+        }
+        for (Product product : restaurant.getProducts()) {
+            Optional<Product> cachedProduct = cachedRestaurant.findProduct(product.getId());
+            if (cachedProduct.isEmpty() || !Objects.equals(cachedProduct.get().getPrice(), product.getPrice())) {
+                return true;
+            }
+        }
+        for (Product cachedProduct : cachedProducts) {
+            if (restaurant.findProduct(cachedProduct.getId()).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package org.learning.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import java.time.Duration;
+
+public record RestaurantCacheConfig(long maximumSize, Duration refreshAfterWrite, Duration expireAfterWrite) {
+    public static final RestaurantCacheConfig DEFAULT =
+            new RestaurantCacheConfig(10_000, Duration.ofMinutes(1), Duration.ofMinutes(10));
+}
@@ -0,0 +1,11 @@
+package org.learning.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+public record RestaurantCacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+                                   long totalLoadTimeNanos, double averageLoadPenaltyNanos, long evictionCount,
+                                   long estimatedSize) {
+
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,68 @@
+CREATE TABLE IF NOT EXISTS order_outbox
+(
+    id            UUID                     NOT NULL,
+    order_id      UUID                     NOT NULL,
+    event_type    VARCHAR(32)              NOT NULL,
+    payload       VARCHAR                  NOT NULL,
+    created_at    TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at  TIMESTAMP WITH TIME ZONE,
+    outbox_status VARCHAR(16)              NOT NULL,
+    CONSTRAINT order_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS order_outbox_status_created_at_idx ON order_outbox (outbox_status, created_at);
+
+CREATE INDEX IF NOT EXISTS order_outbox_order_id_idx ON order_outbox (order_id, outbox_status);
+
+CREATE TABLE IF NOT EXISTS processed_message
+(
+    message_type VARCHAR(32)              NOT NULL,
+    message_id   VARCHAR(64)              NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_message_pkey PRIMARY KEY (message_type, message_id)
+);
+
+CREATE INDEX IF NOT EXISTS processed_message_processed_at_idx ON processed_message (processed_at);
+
+CREATE TABLE IF NOT EXISTS orders
+(
+    id                    UUID                     NOT NULL,
+    customer_id           UUID                     NOT NULL,
+    restaurant_id         UUID                     NOT NULL,
+    tracking_id           UUID                     NOT NULL,
+    price                 NUMERIC(10, 2)           NOT NULL,
+    order_status          VARCHAR(16)              NOT NULL,
+    failure_message_codes BYTEA,
+    failure_messages      VARCHAR,
+    version               BIGINT                   NOT NULL,
+    address_id            UUID                     NOT NULL,
+    street                VARCHAR(255)             NOT NULL,
+    postal_code           VARCHAR(16)              NOT NULL,
+    city                  VARCHAR(64)              NOT NULL,
+    CONSTRAINT orders_pkey PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS orders_tracking_id_idx ON orders (tracking_id);
+
+CREATE INDEX IF NOT EXISTS orders_order_status_idx ON orders (order_status);
+
+CREATE TABLE IF NOT EXISTS order_items
+(
+    id         BIGINT         NOT NULL,
+    order_id   UUID           NOT NULL,
+    product_id UUID           NOT NULL,
+    price      NUMERIC(10, 2) NOT NULL,
+    quantity   INTEGER        NOT NULL,
+    sub_total  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT order_items_pkey PRIMARY KEY (order_id, id),
+    CONSTRAINT order_items_order_fkey FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE TABLE IF NOT EXISTS failure_message_catalog
+(
+    code    INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    message VARCHAR(512) NOT NULL,
+    CONSTRAINT failure_message_catalog_pkey PRIMARY KEY (code)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS failure_message_catalog_message_idx ON failure_message_catalog (message);
@@ -0,0 +1,132 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderVersionConflictException;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogOrderRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void versionConflictLeavesNoPartOfTheBatchInTheLog() {
+        Order newOrder = newOrder();
+        OrderEventLog orderEventLog = new OrderEventLog(OrderEventLogConfig.of(directory));
+        try (EventLogOrderRepository repository = new EventLogOrderRepository(orderEventLog)) {
+            Order paidOrder = newOrder();
+            repository.save(paidOrder);
+            Order staleCopy = repository.findById(paidOrder.getId()).orElseThrow();
+            paidOrder.pay();
+            repository.save(paidOrder);
+            LogPosition position = orderEventLog.position();
+
+            staleCopy.pay();
+            assertThrows(OrderVersionConflictException.class, () -> repository.saveAll(List.of(newOrder, staleCopy)));
+
+            assertEquals(position, orderEventLog.position());
+            assertFalse(newOrder.isPersisted());
+            assertTrue(repository.findById(newOrder.getId()).isEmpty());
+        }
+
+        try (EventLogOrderRepository repository = open()) {
+            assertEquals(1, repository.size());
+            assertTrue(repository.findById(newOrder.getId()).isEmpty());
+        }
+    }
+
+    @Test
+    void replayRestoresStatusAndFailureMessages() {
+        Order order = newOrder();
+        try (EventLogOrderRepository repository = open()) {
+            repository.save(order);
+            order.pay();
+            order.initCancel(List.of("restaurant is closed"));
+            repository.save(order);
+        }
+
+        try (EventLogOrderRepository repository = open()) {
+            Order replayed = repository.findById(order.getId()).orElseThrow();
+            assertEquals(OrderStatus.CANCELLING, replayed.getOrderStatus());
+            assertEquals(order.getVersion(), replayed.getVersion());
+            assertEquals(List.of("restaurant is closed"), replayed.getFailureMessages());
+        }
+    }
+
+    @Test
+    void terminalOrdersStayReadableAfterRestartsFromSnapshots() {
+        Order approvedOrder = newOrder();
+        Order activeOrder = newOrder();
+        try (EventLogOrderRepository repository = openWithSnapshots()) {
+            repository.saveAll(List.of(approvedOrder, activeOrder));
+            approvedOrder.pay();
+            approvedOrder.approve();
+            repository.save(approvedOrder);
+            assertTrue(repository.snapshot().isPresent());
+        }
+
+        Order laterOrder = newOrder();
+        try (EventLogOrderRepository repository = openWithSnapshots()) {
+            assertEquals(1, repository.startupReport().snapshotOrders());
+            assertEquals(2, repository.size());
+            assertApproved(approvedOrder, repository.findById(approvedOrder.getId()).orElseThrow());
+            assertEquals(2, repository.findAllById(List.of(approvedOrder.getId(), activeOrder.getId())).size());
+            repository.save(laterOrder);
+        }
+
+        try (EventLogOrderRepository repository = openWithSnapshots()) {
+            assertEquals(3, repository.size());
+            assertEquals(0, repository.startupReport().replayedRecords());
+            assertApproved(approvedOrder, repository.findById(approvedOrder.getId()).orElseThrow());
+            assertTrue(repository.findById(laterOrder.getId()).isPresent());
+        }
+    }
+
+    private static void assertApproved(Order expected, Order actual) {
+        assertEquals(OrderStatus.APPROVED, actual.getOrderStatus());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getTrackingId(), actual.getTrackingId());
+        assertEquals(expected.getItems().size(), actual.getItems().size());
+    }
+
+    private EventLogOrderRepository open() {
+        return new EventLogOrderRepository(new OrderEventLog(OrderEventLogConfig.of(directory)));
+    }
+
+    private EventLogOrderRepository openWithSnapshots() {
+        return new EventLogOrderRepository(new OrderEventLog(OrderEventLogConfig.of(directory.resolve("log"))),
+                new OrderSnapshotConfig(directory.resolve("snapshots"), Duration.ZERO, 2));
+    }
+
+    private static Order newOrder() {
+        Money price = new Money(new BigDecimal("12.50"));
+        OrderItem orderItem = OrderItem.Builder.builder()
+                .product(new Product(new ProductId(UUID.randomUUID()), "product", price))
+                .quantity(2)
+                .price(price)
+                .subTotal(price.multiply(2))
+                .build();
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(price.multiply(2))
+                .items(List.of(orderItem))
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+}
@@ -0,0 +1,142 @@
+package org.learning.food.ordering.system.order.service.dataaccess.eventlog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventLogTest {
+    private static final int SEGMENT_SIZE = 256;
+    private static final int BODY_SIZE = 16;
+    private static final int RECORD_SIZE = OrderEventLog.RECORD_HEADER_SIZE + BODY_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayReturnsRecordsInAppendOrderAcrossSegments() {
+        List<byte[]> bodies = new ArrayList<>();
+        try (OrderEventLog orderEventLog = open()) {
+            for (int i = 0; i < 20; i++) {
+                bodies.add(body(i));
+                orderEventLog.append(ByteBuffer.wrap(body(i)));
+            }
+            assertEquals(1, orderEventLog.position().segmentNumber());
+        }
+
+        assertRecords(bodies, replay());
+    }
+
+    @Test
+    void recordWithCrcMismatchIsDroppedWithEverythingAfterIt() throws IOException {
+        try (OrderEventLog orderEventLog = open()) {
+            for (int i = 0; i < 3; i++) {
+                orderEventLog.append(ByteBuffer.wrap(body(i)));
+            }
+        }
+        write(RECORD_SIZE + OrderEventLog.RECORD_HEADER_SIZE + 3, new byte[]{(byte) 0xFF});
+
+        try (OrderEventLog orderEventLog = open()) {
+            assertEquals(new LogPosition(0, RECORD_SIZE), orderEventLog.position());
+            orderEventLog.append(ByteBuffer.wrap(body(7)));
+        }
+
+        assertRecords(List.of(body(0), body(7)), replay());
+    }
+
+    @Test
+    void tornRecordWithPartlyWrittenBodyIsDropped() throws IOException {
+        try (OrderEventLog orderEventLog = open()) {
+            orderEventLog.append(ByteBuffer.wrap(body(0)));
+        }
+        byte[] body = body(1);
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        ByteBuffer tornRecord = ByteBuffer.allocate(OrderEventLog.RECORD_HEADER_SIZE + BODY_SIZE / 2)
+                .putInt(BODY_SIZE)
+                .putInt((int) crc.getValue())
+                .put(body, 0, BODY_SIZE / 2);
+        write(RECORD_SIZE, tornRecord.array());
+
+        try (OrderEventLog orderEventLog = open()) {
+            assertEquals(new LogPosition(0, RECORD_SIZE), orderEventLog.position());
+        }
+        assertRecords(List.of(body(0)), replay());
+        assertArrayEquals(new byte[OrderEventLog.RECORD_HEADER_SIZE], read(RECORD_SIZE,
+                OrderEventLog.RECORD_HEADER_SIZE), "the torn tail is zeroed on open");
+    }
+
+    @Test
+    void recordWhoseLengthRunsPastTheSegmentIsDropped() throws IOException {
+        try (OrderEventLog orderEventLog = open()) {
+            orderEventLog.append(ByteBuffer.wrap(body(0)));
+            orderEventLog.append(ByteBuffer.wrap(body(1)));
+        }
+        write(2 * RECORD_SIZE, ByteBuffer.allocate(Integer.BYTES).putInt(SEGMENT_SIZE * 4).array());
+
+        try (OrderEventLog orderEventLog = open()) {
+            assertEquals(new LogPosition(0, 2 * RECORD_SIZE), orderEventLog.position());
+        }
+        assertRecords(List.of(body(0), body(1)), replay());
+    }
+
+    private OrderEventLog open() {
+        return new OrderEventLog(new OrderEventLogConfig(directory, SEGMENT_SIZE, FsyncPolicy.EVERY_APPEND,
+                Duration.ofMillis(50)));
+    }
+
+    private List<byte[]> replay() {
+        List<byte[]> bodies = new ArrayList<>();
+        try (OrderEventLog orderEventLog = open()) {
+            orderEventLog.replay(body -> {
+                byte[] bytes = new byte[body.remaining()];
+                body.get(bytes);
+                bodies.add(bytes);
+            });
+        }
+        return bodies;
+    }
+
+    private void write(int offset, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), offset);
+            channel.force(true);
+        }
+    }
+
+    private byte[] read(int offset, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            channel.read(buffer, offset);
+            return buffer.array();
+        }
+    }
+
+    private Path firstSegment() {
+        return directory.resolve("%020d.log".formatted(0));
+    }
+
+    private static byte[] body(int seed) {
+        byte[] body = new byte[BODY_SIZE];
+        Arrays.fill(body, (byte) (seed + 1));
+        return body;
+    }
+
+    private static void assertRecords(List<byte[]> expected, List<byte[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "record " + i);
+        }
+    }
+}
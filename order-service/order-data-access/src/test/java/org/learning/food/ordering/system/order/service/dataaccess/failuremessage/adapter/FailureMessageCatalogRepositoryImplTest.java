@@ -0,0 +1,59 @@
+package org.learning.food.ordering.system.order.service.dataaccess.failuremessage.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailureMessageCatalogRepositoryImplTest {
+    private final SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:failure-message-catalog-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", true);
+    private final FailureMessageCatalogRepositoryImpl repository;
+
+    FailureMessageCatalogRepositoryImplTest() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema/order-schema.sql")).execute(dataSource);
+        repository = new FailureMessageCatalogRepositoryImpl(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void destroy() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void registeringAMessageAgainReturnsItsCode() {
+        int closed = repository.register("restaurant is closed");
+        int noCredit = repository.register("customer has not enough credit");
+
+        assertEquals(closed, repository.register("restaurant is closed"));
+        assertNotEquals(closed, noCredit);
+        assertEquals(Map.of(closed, "restaurant is closed", noCredit, "customer has not enough credit"),
+                repository.findAll());
+    }
+
+    @Test
+    void messageInsertedByAnotherInstanceIsNotInsertedAgain() {
+        new NamedParameterJdbcTemplate(dataSource).getJdbcTemplate()
+                .update("INSERT INTO failure_message_catalog (message) VALUES ('product is not available')");
+
+        int code = repository.register("product is not available");
+
+        assertEquals(Map.of(code, "product is not available"), repository.findAll());
+    }
+
+    @Test
+    void findByCodeReturnsTheRegisteredMessage() {
+        int code = repository.register("restaurant is closed");
+
+        assertEquals(Optional.of("restaurant is closed"), repository.findByCode(code));
+        assertEquals(Optional.empty(), repository.findByCode(code + 1));
+    }
+}
@@ -0,0 +1,173 @@
+package org.learning.food.ordering.system.order.service.dataaccess.order.active;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveOrderStoreTest {
+
+    @Test
+    void matchesAHashMapModelOver300kRandomOperations() {
+        Random random = new Random(7);
+        ActiveOrderStore activeOrderStore = new ActiveOrderStore(16);
+        Map<OrderId, Snapshot> model = new HashMap<>();
+        List<OrderId> orderIds = new ArrayList<>();
+
+        for (int operation = 0; operation < 300_000; operation++) {
+            int choice = random.nextInt(100);
+            if (orderIds.isEmpty() || choice < 30 && model.size() < 2_000) {
+                Order order = order(random, new OrderId(UUID.randomUUID()), OrderStatus.PENDING, 0L);
+                assertTrue(activeOrderStore.put(order));
+                model.put(order.getId(), Snapshot.of(order));
+                orderIds.add(order.getId());
+                continue;
+            }
+            OrderId orderId = orderIds.get(random.nextInt(orderIds.size()));
+            Snapshot expected = model.get(orderId);
+            if (Objects.isNull(expected)) {
+                assertTrue(activeOrderStore.find(orderId).isEmpty());
+                assertFalse(activeOrderStore.updateStatus(orderId, OrderStatus.PAID, 1L, null));
+                continue;
+            }
+            if (choice < 50) {
+                Order order = order(random, orderId, expected.orderStatus(), expected.version() + 1);
+                assertTrue(activeOrderStore.put(order));
+                model.put(orderId, Snapshot.of(order));
+            } else if (choice < 70) {
+                OrderStatus next = nextStatus(random, expected.orderStatus());
+                assertTrue(activeOrderStore.updateStatus(orderId, next, expected.version() + 1, null));
+                if (next.isTerminal()) {
+                    model.remove(orderId);
+                } else {
+                    model.put(orderId, expected.withStatus(next, expected.version() + 1));
+                }
+            } else if (choice < 80) {
+                Order cancelled = order(random, orderId, OrderStatus.CANCELLED, expected.version() + 1);
+                assertFalse(activeOrderStore.put(cancelled));
+                model.remove(orderId);
+            } else if (choice < 90) {
+                assertTrue(activeOrderStore.remove(orderId));
+                model.remove(orderId);
+            } else {
+                assertEquals(expected, Snapshot.of(activeOrderStore.find(orderId).orElseThrow()));
+            }
+
+            if (operation % 10_000 == 0) {
+                assertMatches(model, activeOrderStore);
+                orderIds.removeIf(id -> !model.containsKey(id) && random.nextBoolean());
+            }
+        }
+        assertMatches(model, activeOrderStore);
+    }
+
+    @Test
+    void itemsOfRemovedOrdersAreReclaimedInsteadOfGrowingTheColumns() {
+        Random random = new Random(11);
+        ActiveOrderStore activeOrderStore = new ActiveOrderStore(16);
+        Map<OrderId, Snapshot> model = new LinkedHashMap<>();
+        long settledFootprint = 0;
+
+        for (int i = 0; i < 20_000; i++) {
+            Order order = order(random, new OrderId(UUID.randomUUID()), OrderStatus.PENDING, 0L);
+            activeOrderStore.put(order);
+            model.put(order.getId(), Snapshot.of(order));
+            if (model.size() > 32) {
+                OrderId oldest = model.keySet().iterator().next();
+                activeOrderStore.remove(oldest);
+                model.remove(oldest);
+            }
+            if (i % 4 == 0) {
+                OrderId resized = new ArrayList<>(model.keySet()).get(random.nextInt(model.size()));
+                Order replacement = order(random, resized, OrderStatus.PENDING, 1L);
+                activeOrderStore.put(replacement);
+                model.put(resized, Snapshot.of(replacement));
+            }
+            if (i == 1_000) {
+                settledFootprint = activeOrderStore.footprintBytes();
+            }
+        }
+
+        assertEquals(settledFootprint, activeOrderStore.footprintBytes());
+        assertMatches(model, activeOrderStore);
+    }
+
+    private static void assertMatches(Map<OrderId, Snapshot> model, ActiveOrderStore activeOrderStore) {
+        assertEquals(model.size(), activeOrderStore.size());
+        Map<OrderId, Snapshot> stored = new HashMap<>();
+        activeOrderStore.forEach(order -> stored.put(order.getId(), Snapshot.of(order)));
+        assertEquals(model, stored);
+    }
+
+    private static OrderStatus nextStatus(Random random, OrderStatus orderStatus) {
+        return switch (orderStatus) {
+            case PENDING -> random.nextInt(4) == 0 ? OrderStatus.CANCELLED : OrderStatus.PAID;
+            case PAID -> random.nextBoolean() ? OrderStatus.APPROVED : OrderStatus.CANCELLING;
+            default -> OrderStatus.CANCELLED;
+        };
+    }
+
+    private static Order order(Random random, OrderId orderId, OrderStatus orderStatus, long version) {
+        int itemCount = 1 + random.nextInt(6);
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            Money price = new Money(BigDecimal.valueOf(1 + random.nextInt(10_000), 2));
+            int quantity = 1 + random.nextInt(5);
+            items.add(OrderItem.Builder.builder()
+                    .orderItemId(new OrderItemId(i + 1L))
+                    .orderId(orderId)
+                    .product(new Product(new ProductId(UUID.randomUUID()), null, price))
+                    .quantity(quantity)
+                    .price(price)
+                    .subTotal(price.multiply(quantity))
+                    .build());
+            total = total.add(price.multiply(quantity).amount());
+        }
+        return Order.Builder.builder()
+                .orderId(orderId)
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .trackingId(new TrackingId(UUID.randomUUID()))
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street " + random.nextInt(100), "1000AB", "city"))
+                .price(new Money(total))
+                .items(items)
+                .orderStatus(orderStatus)
+                .version(version)
+                .build();
+    }
+
+    private record Snapshot(UUID orderId, UUID customerId, UUID restaurantId, UUID trackingId, BigDecimal price,
+                            OrderStatus orderStatus, long version, StreetAddress streetAddress, List<Item> items) {
+
+        static Snapshot of(Order order) {
+            return new Snapshot(order.getId().getValue(), order.getCustomerId().getValue(),
+                    order.getRestaurantId().getValue(), order.getTrackingId().getValue(),
+                    order.getPrice().amount().setScale(2), order.getOrderStatus(), order.getVersion(),
+                    order.getStreetAddress(), order.getItems().stream().map(Item::of).toList());
+        }
+
+        Snapshot withStatus(OrderStatus newStatus, long newVersion) {
+            return new Snapshot(orderId, customerId, restaurantId, trackingId, price, newStatus, newVersion,
+                    streetAddress, items);
+        }
+    }
+
+    private record Item(long itemId, UUID productId, int quantity, BigDecimal price, BigDecimal subTotal) {
+
+        static Item of(OrderItem orderItem) {
+            return new Item(orderItem.getId().getValue(), orderItem.getProduct().getId().getValue(),
+                    orderItem.getQuantity(), orderItem.getPrice().amount().setScale(2),
+                    orderItem.getSubTotal().amount().setScale(2));
+        }
+    }
+}
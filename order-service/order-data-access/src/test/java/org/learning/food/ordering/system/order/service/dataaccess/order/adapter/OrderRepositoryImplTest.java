@@ -0,0 +1,147 @@
+package org.learning.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderResult;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.tracking.BulkOrderTrackingHandler;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRepositoryImplTest {
+    private final SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:order-repository-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", true);
+    private final OrderRepositoryImpl orderRepository;
+
+    OrderRepositoryImplTest() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema/order-schema.sql")).execute(dataSource);
+        orderRepository = new OrderRepositoryImpl(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void destroy() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void bulkTrackingReturnsOneResultPerDistinctIdFromTheProjectionAndTheDatabase() {
+        List<Order> orders = storeOrders(700);
+        OrderTrackingProjection orderTrackingProjection = new OrderTrackingProjection(orderRepository);
+        for (int i = 0; i < orders.size(); i += 2) {
+            orderTrackingProjection.applyAfterCommit(orders.get(i));
+        }
+        Map<UUID, Order> ordersByTrackingId = new HashMap<>();
+        List<UUID> trackingIds = new ArrayList<>();
+        for (Order order : orders) {
+            ordersByTrackingId.put(order.getTrackingId().getValue(), order);
+            trackingIds.add(order.getTrackingId().getValue());
+        }
+        trackingIds.addAll(trackingIds.subList(0, 300));
+        Set<UUID> unknownIds = new HashSet<>();
+        for (int i = 0; i < 77; i++) {
+            UUID unknownId = UUID.randomUUID();
+            unknownIds.add(unknownId);
+            trackingIds.add(unknownId);
+        }
+        trackingIds.add(null);
+        Collections.shuffle(trackingIds, new Random(5));
+        assertEquals(1078, trackingIds.size());
+
+        List<TrackOrderResult> results = new ArrayList<>();
+        new BulkOrderTrackingHandler(orderTrackingProjection, orderRepository).trackOrders(trackingIds, results::add);
+
+        assertEquals(777, results.size());
+        Set<UUID> reported = new HashSet<>();
+        for (TrackOrderResult result : results) {
+            assertTrue(reported.add(result.orderTrackingId()));
+            Order order = ordersByTrackingId.get(result.orderTrackingId());
+            if (Objects.isNull(order)) {
+                assertTrue(unknownIds.contains(result.orderTrackingId()));
+                assertFalse(result.isFound());
+            } else {
+                assertTrue(result.isFound());
+                assertEquals(order.getOrderStatus(), result.trackOrderQuery().orderStatus());
+                assertEquals(messages(order.getFailureMessages()),
+                        messages(result.trackOrderQuery().failureMessages()));
+            }
+        }
+    }
+
+    @Test
+    void trackingProjectionIsRebuiltFromNonTerminalOrderRows() {
+        List<Order> orders = storeOrders(30);
+        Order approved = orders.get(1);
+        approved.approve();
+        Order cancelled = orders.get(0);
+        cancelled.cancel(List.of("payment timed out"));
+        orderRepository.saveAll(List.of(approved, cancelled));
+        OrderTrackingProjection orderTrackingProjection = new OrderTrackingProjection(orderRepository);
+
+        orderTrackingProjection.rebuild();
+
+        assertEquals(28, orderTrackingProjection.size());
+        for (Order order : orders) {
+            assertEquals(!order.getOrderStatus().isTerminal(),
+                    orderTrackingProjection.findResidentByTrackingId(order.getTrackingId()).isPresent());
+            assertEquals(order.getOrderStatus(),
+                    orderTrackingProjection.findByTrackingId(order.getTrackingId()).orElseThrow().orderStatus());
+        }
+    }
+
+    private static List<String> messages(List<String> failureMessages) {
+        return Objects.isNull(failureMessages) ? List.of() : List.copyOf(failureMessages);
+    }
+
+    private List<Order> storeOrders(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(order());
+        }
+        orderRepository.saveAll(orders);
+
+        List<Order> changed = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Order order = orders.get(i);
+            if (i % 3 != 0) {
+                order.pay();
+                if (i % 3 == 2) {
+                    order.initCancel(List.of("restaurant is closed"));
+                }
+                changed.add(order);
+            }
+        }
+        orderRepository.saveAll(changed);
+        return orders;
+    }
+
+    private static Order order() {
+        Money price = new Money(new BigDecimal("12.50"));
+        OrderItem orderItem = OrderItem.Builder.builder()
+                .product(new Product(new ProductId(UUID.randomUUID()), "product", price))
+                .quantity(2)
+                .price(price)
+                .subTotal(price.multiply(2))
+                .build();
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(price.multiply(2))
+                .items(List.of(orderItem))
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+}
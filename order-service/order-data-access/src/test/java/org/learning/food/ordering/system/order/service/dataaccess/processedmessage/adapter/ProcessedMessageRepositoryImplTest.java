@@ -0,0 +1,80 @@
+package org.learning.food.ordering.system.order.service.dataaccess.processedmessage.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProcessedMessageRepositoryImplTest {
+    private static final OffsetDateTime PROCESSED_AT = OffsetDateTime.of(2024, 5, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:processed-message-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", true);
+    private final ProcessedMessageRepositoryImpl repository;
+
+    ProcessedMessageRepositoryImplTest() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema/order-schema.sql")).execute(dataSource);
+        repository = new ProcessedMessageRepositoryImpl(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void destroy() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void savingAnAlreadyProcessedMessageKeepsTheFirstRow() {
+        repository.saveAll(SagaResponseType.PAYMENT_RESPONSE, List.of("a", "b"), PROCESSED_AT);
+
+        repository.saveAll(SagaResponseType.PAYMENT_RESPONSE, List.of("b", "c", "c"), PROCESSED_AT.plusHours(1));
+
+        assertEquals(Set.of("a", "b", "c"),
+                repository.findProcessed(SagaResponseType.PAYMENT_RESPONSE, List.of("a", "b", "c", "d")));
+        Map<String, SagaResponseType> replayed = new HashMap<>();
+        repository.replayProcessedSince(PROCESSED_AT.plusMinutes(30), (type, id) -> replayed.put(id, type));
+        assertEquals(Map.of("c", SagaResponseType.PAYMENT_RESPONSE), replayed);
+    }
+
+    @Test
+    void processedMessagesAreKeptPerMessageType() {
+        repository.saveAll(SagaResponseType.PAYMENT_RESPONSE, List.of("a"), PROCESSED_AT);
+        repository.saveAll(SagaResponseType.RESTAURANT_APPROVAL_RESPONSE, List.of("a", "b"), PROCESSED_AT);
+
+        assertEquals(Set.of("a"), repository.findProcessed(SagaResponseType.PAYMENT_RESPONSE, List.of("a", "b")));
+        assertEquals(Set.of("a", "b"),
+                repository.findProcessed(SagaResponseType.RESTAURANT_APPROVAL_RESPONSE, List.of("a", "b")));
+    }
+
+    @Test
+    void findProcessedQueriesLargeBatchesInChunks() {
+        List<String> messageIds = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            messageIds.add("message-" + i);
+        }
+        repository.saveAll(SagaResponseType.PAYMENT_RESPONSE, messageIds.subList(0, 1_100), PROCESSED_AT);
+
+        Set<String> processed = repository.findProcessed(SagaResponseType.PAYMENT_RESPONSE, messageIds);
+
+        assertEquals(new HashSet<>(messageIds.subList(0, 1_100)), processed);
+        assertEquals(Set.of(), repository.findProcessed(SagaResponseType.PAYMENT_RESPONSE, List.of()));
+    }
+
+    @Test
+    void deleteProcessedBeforeRemovesOnlyOlderMessages() {
+        repository.saveAll(SagaResponseType.PAYMENT_RESPONSE, List.of("old"), PROCESSED_AT);
+        repository.saveAll(SagaResponseType.PAYMENT_RESPONSE, List.of("new"), PROCESSED_AT.plusDays(1));
+
+        assertEquals(1, repository.deleteProcessedBefore(PROCESSED_AT.plusHours(1)));
+
+        assertEquals(Set.of("new"), repository.findProcessed(SagaResponseType.PAYMENT_RESPONSE, List.of("old", "new")));
+    }
+}
@@ -0,0 +1,111 @@
+package org.learning.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.Money;
+import org.learning.food.ordering.system.domain.valueobject.ProductId;
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingRestaurantRepositoryTest {
+    private static final RestaurantId RESTAURANT_ID = new RestaurantId(UUID.randomUUID());
+    private static final Product FIRST = product(new ProductId(UUID.randomUUID()), "12.50");
+    private static final Product SECOND = product(new ProductId(UUID.randomUUID()), "7.25");
+
+    private final StoredRestaurants storedRestaurants = new StoredRestaurants();
+    private final CachingRestaurantRepository repository =
+            new CachingRestaurantRepository(storedRestaurants, RestaurantCacheConfig.DEFAULT);
+
+    @Test
+    void removedProductReplacesTheCachedRestaurant() {
+        storedRestaurants.restaurant = restaurant(true, List.of(FIRST, SECOND));
+        repository.findRestaurantInformation(RESTAURANT_ID);
+        Restaurant updated = restaurant(true, List.of(FIRST));
+
+        repository.restaurantUpdated(updated);
+
+        assertSame(updated, repository.findRestaurantInformation(RESTAURANT_ID).orElseThrow());
+        assertEquals(1, storedRestaurants.loads.get());
+    }
+
+    @Test
+    void changedPriceOrStatusReplacesTheCachedRestaurant() {
+        storedRestaurants.restaurant = restaurant(true, List.of(FIRST, SECOND));
+        repository.findRestaurantInformation(RESTAURANT_ID);
+        Restaurant repriced = restaurant(true, List.of(FIRST, product(SECOND.getId(), "8.00")));
+        Restaurant deactivated = restaurant(false, List.of(FIRST, product(SECOND.getId(), "8.00")));
+
+        repository.restaurantUpdated(repriced);
+        assertSame(repriced, repository.findRestaurantInformation(RESTAURANT_ID).orElseThrow());
+        repository.restaurantUpdated(deactivated);
+        assertSame(deactivated, repository.findRestaurantInformation(RESTAURANT_ID).orElseThrow());
+        assertEquals(1, storedRestaurants.loads.get());
+    }
+
+    @Test
+    void unchangedSnapshotKeepsTheCachedRestaurant() {
+        Restaurant cached = restaurant(true, List.of(FIRST, SECOND));
+        storedRestaurants.restaurant = cached;
+        repository.findRestaurantInformation(RESTAURANT_ID);
+
+        repository.restaurantUpdated(restaurant(true, List.of(SECOND, FIRST)));
+
+        assertSame(cached, repository.findRestaurantInformation(RESTAURANT_ID).orElseThrow());
+    }
+
+    @Test
+    void updateOfAnUncachedRestaurantIsNotCached() {
+        Restaurant stored = restaurant(true, List.of(FIRST));
+        storedRestaurants.restaurant = stored;
+
+        repository.restaurantUpdated(restaurant(true, List.of(FIRST, SECOND)));
+
+        assertSame(stored, repository.findRestaurantInformation(RESTAURANT_ID).orElseThrow());
+        assertEquals(1, storedRestaurants.loads.get());
+    }
+
+    @Test
+    void statusChangeWithoutProductsInvalidatesTheCachedRestaurant() {
+        storedRestaurants.restaurant = restaurant(true, List.of(FIRST));
+        repository.findRestaurantInformation(RESTAURANT_ID);
+        Restaurant reloaded = restaurant(false, List.of(FIRST));
+        storedRestaurants.restaurant = reloaded;
+
+        repository.restaurantUpdated(restaurant(false, null));
+
+        assertSame(reloaded, repository.findRestaurantInformation(RESTAURANT_ID).orElseThrow());
+        assertEquals(2, storedRestaurants.loads.get());
+    }
+
+    private static Restaurant restaurant(boolean active, List<Product> products) {
+        return Restaurant.Builder.builder()
+                .restaurantId(RESTAURANT_ID)
+                .active(active)
+                .products(products)
+                .build();
+    }
+
+    private static Product product(ProductId productId, String price) {
+        return new Product(productId, "product", new Money(new BigDecimal(price)));
+    }
+
+    private static final class StoredRestaurants implements RestaurantRepository {
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile Restaurant restaurant;
+
+        @Override
+        public Optional<Restaurant> findRestaurantInformation(RestaurantId restaurantId) {
+            loads.incrementAndGet();
+            return Optional.ofNullable(restaurant);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.learning.food.ordering.system.order.service.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
+import org.learning.food.ordering.system.order.service.domain.commit.OrderCreateCommitter;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+import org.learning.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+public class OrderCreateCommandHandler {
+    private final IOrderDomainService orderDomainService;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderCreateCommitter orderCreateCommitter;
+
+    public OrderCreateCommandHandler(IOrderDomainService orderDomainService, RestaurantRepository restaurantRepository,
+                                     OrderDataMapper orderDataMapper, OrderCreateCommitter orderCreateCommitter) {
+        this.orderDomainService = orderDomainService;
+        this.restaurantRepository = restaurantRepository;
+        this.orderDataMapper = orderDataMapper;
+        this.orderCreateCommitter = orderCreateCommitter;
+    }
+
+    public CompletableFuture<CreateOrderResponse> createOrder(CreateOrderCommand createOrderCommand) {
+        return createOrder(orderDataMapper.createOrderCommandToOrder(createOrderCommand));
+    }
+
+    public CompletableFuture<CreateOrderResponse> createOrder(Order order) {
+        Restaurant restaurant = restaurantRepository.findRestaurantInformation(order.getRestaurantId())
+                .orElseThrow(() -> restaurantNotFound(order.getRestaurantId()));
+        OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
+        return orderCreateCommitter.commit(orderCreatedEvent).thenApply(committedEvent -> {
+            log.info("Order is created with id: {}", committedEvent.getOrder().getId().getValue());
+            return orderDataMapper.orderToCreateOrderResponse(committedEvent.getOrder(),
+                    "Order created successfully");
+        });
+    }
+
+    private OrderDomainException restaurantNotFound(RestaurantId restaurantId) {
+        log.warn("Could not find restaurant with restaurant id: {}", restaurantId.getValue());
+        return new OrderDomainException("Could not find restaurant with restaurant id: " + restaurantId.getValue(),
+                OrderFailureReason.RESTAURANT_NOT_FOUND);
+    }
+}
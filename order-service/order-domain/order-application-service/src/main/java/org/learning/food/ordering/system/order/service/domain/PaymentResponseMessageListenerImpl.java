@@ -0,0 +1,59 @@
+package org.learning.food.ordering.system.order.service.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import org.learning.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import org.learning.food.ordering.system.order.service.domain.saga.OrderSagaHelper;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
+    private final IOrderDomainService orderDomainService;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    public PaymentResponseMessageListenerImpl(IOrderDomainService orderDomainService, OrderSagaHelper orderSagaHelper,
+                                              OrderOutboxHelper orderOutboxHelper) {
+        this.orderDomainService = orderDomainService;
+        this.orderSagaHelper = orderSagaHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
+    }
+
+    @Override
+    @Transactional
+    public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+        orderSagaHelper.applyResponses(paymentResponses, PaymentResponse::orderId, this::applyPaymentResponse);
+    }
+
+    private boolean applyPaymentResponse(Order order, PaymentResponse paymentResponse) {
+        if (Objects.isNull(paymentResponse.paymentStatus())) {
+            log.warn("Payment response with id: {} has no status and is not applied", paymentResponse.id());
+            return false;
+        }
+        try {
+            switch (paymentResponse.paymentStatus()) {
+                case COMPLETED -> orderOutboxHelper.saveOrderEvent(orderDomainService.payOrder(order));
+                case CANCELLED, FAILED -> {
+                    orderDomainService.cancelOrder(order,
+                            Objects.requireNonNullElse(paymentResponse.failureMessages(), FailureMessages.empty()));
+                    orderOutboxHelper.saveOrderTransition(order, OrderOutboxEventType.ORDER_CANCELLED);
+                }
+            }
+            return true;
+        } catch (OrderDomainException e) {
+            log.warn("Payment response with id: {} is not applied to order with id: {}: {}", paymentResponse.id(),
+                    order.getId().getValue(), e.getMessage());
+            return false;
+        }
+    }
+}
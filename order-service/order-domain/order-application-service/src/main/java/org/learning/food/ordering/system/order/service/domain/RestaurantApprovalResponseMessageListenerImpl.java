@@ -0,0 +1,63 @@
+package org.learning.food.ordering.system.order.service.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import org.learning.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import org.learning.food.ordering.system.order.service.domain.saga.OrderSagaHelper;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+    private final IOrderDomainService orderDomainService;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    public RestaurantApprovalResponseMessageListenerImpl(IOrderDomainService orderDomainService,
+                                                         OrderSagaHelper orderSagaHelper,
+                                                         OrderOutboxHelper orderOutboxHelper) {
+        this.orderDomainService = orderDomainService;
+        this.orderSagaHelper = orderSagaHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
+    }
+
+    @Override
+    @Transactional
+    public void restaurantApprovalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        orderSagaHelper.applyResponses(restaurantApprovalResponses, RestaurantApprovalResponse::orderId,
+                this::applyRestaurantApprovalResponse);
+    }
+
+    private boolean applyRestaurantApprovalResponse(Order order,
+                                                    RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (Objects.isNull(restaurantApprovalResponse.orderApprovalStatus())) {
+            log.warn("Restaurant approval response with id: {} has no status and is not applied",
+                    restaurantApprovalResponse.id());
+            return false;
+        }
+        try {
+            switch (restaurantApprovalResponse.orderApprovalStatus()) {
+                case APPROVED -> {
+                    orderDomainService.approveOrder(order);
+                    orderOutboxHelper.saveOrderTransition(order, OrderOutboxEventType.ORDER_APPROVED);
+                }
+                case REJECTED -> orderOutboxHelper.saveOrderEvent(orderDomainService.cancelOrderPayment(order,
+                        Objects.requireNonNullElse(restaurantApprovalResponse.failureMessages(), FailureMessages.empty())));
+            }
+            return true;
+        } catch (OrderDomainException e) {
+            log.warn("Restaurant approval response with id: {} is not applied to order with id: {}: {}",
+                    restaurantApprovalResponse.id(), order.getId().getValue(), e.getMessage());
+            return false;
+        }
+    }
+}
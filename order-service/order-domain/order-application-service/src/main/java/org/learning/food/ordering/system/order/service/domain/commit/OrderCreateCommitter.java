@@ -0,0 +1,13 @@
+package org.learning.food.ordering.system.order.service.domain.commit;
+
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface OrderCreateCommitter {
+
+    /**
+     * Persists the order and its ORDER_CREATED outbox message. The future completes once both are committed.
+     */
+    CompletableFuture<OrderCreatedEvent> commit(OrderCreatedEvent orderCreatedEvent);
+}
@@ -0,0 +1,7 @@
+package org.learning.food.ordering.system.order.service.domain.commit;
+
+import java.time.Duration;
+
+public record OrderGroupCommitConfig(int maxBatchSize, Duration maxWait, int queueCapacity) {
+    public static final OrderGroupCommitConfig DEFAULT = new OrderGroupCommitConfig(256, Duration.ofMillis(2), 8192);
+}
@@ -0,0 +1,222 @@
+package org.learning.food.ordering.system.order.service.domain.commit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Coalesces concurrently created orders into one transaction of at most {@code maxBatchSize} orders, waiting at most
+ * {@code maxWait} for a batch to fill. If the batched write fails, the batch is replayed in one transaction with a
+ * savepoint per order, so only the failing orders are rejected. Any other failure fails the orders of its batch and
+ * the committer carries on; orders still queued when it stops are rejected.
+ */
+@Slf4j
+public class OrderGroupCommitter implements OrderCreateCommitter, AutoCloseable {
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderTrackingProjection orderTrackingProjection;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderGroupCommitConfig config;
+    private final BlockingQueue<PendingOrder> pendingOrders;
+    private final Thread committerThread;
+    private volatile boolean running = true;
+    private volatile boolean terminated;
+
+    public OrderGroupCommitter(OrderRepository orderRepository, OrderOutboxRepository orderOutboxRepository,
+                               OrderOutboxHelper orderOutboxHelper, OrderTrackingProjection orderTrackingProjection,
+                               PlatformTransactionManager transactionManager, OrderGroupCommitConfig config) {
+        this.orderRepository = orderRepository;
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.orderTrackingProjection = orderTrackingProjection;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = config;
+        this.pendingOrders = new ArrayBlockingQueue<>(config.queueCapacity());
+        this.committerThread = new Thread(this::run, "order-group-committer");
+        this.committerThread.setDaemon(true);
+        this.committerThread.start();
+        log.info("Order group committer is started with max batch size: {} and max wait: {}",
+                config.maxBatchSize(), config.maxWait());
+    }
+
+    @Override
+    public CompletableFuture<OrderCreatedEvent> commit(OrderCreatedEvent orderCreatedEvent) {
+        PendingOrder pendingOrder = new PendingOrder(orderCreatedEvent, new CompletableFuture<>());
+        if (!running) {
+            pendingOrder.future().completeExceptionally(
+                    new RejectedExecutionException("Order group committer is closed"));
+            return pendingOrder.future();
+        }
+        try {
+            pendingOrders.put(pendingOrder);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingOrder.future().completeExceptionally(e);
+            return pendingOrder.future();
+        }
+        // The committer thread may have drained the queue for the last time after the running check above.
+        if (terminated) {
+            rejectPending();
+        }
+        return pendingOrder.future();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        committerThread.join();
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(config.maxBatchSize());
+        try {
+            while (running || !pendingOrders.isEmpty()) {
+                try {
+                    collectBatch(batch);
+                } catch (InterruptedException e) {
+                    log.debug("Order group committer ignores an interrupt, it stops on close");
+                }
+                if (!batch.isEmpty()) {
+                    try {
+                        commitBatch(batch);
+                    } catch (RuntimeException e) {
+                        log.error("Group commit of {} orders failed", batch.size(), e);
+                        batch.forEach(pendingOrder -> pendingOrder.future().completeExceptionally(e));
+                    }
+                    batch.clear();
+                }
+            }
+        } finally {
+            running = false;
+            terminated = true;
+            RejectedExecutionException closed = new RejectedExecutionException("Order group committer is closed");
+            batch.forEach(pendingOrder -> pendingOrder.future().completeExceptionally(closed));
+            rejectPending();
+        }
+    }
+
+    private void rejectPending() {
+        List<PendingOrder> rejected = new ArrayList<>();
+        pendingOrders.drainTo(rejected);
+        if (!rejected.isEmpty()) {
+            RejectedExecutionException closed = new RejectedExecutionException("Order group committer is closed");
+            rejected.forEach(pendingOrder -> pendingOrder.future().completeExceptionally(closed));
+        }
+    }
+
+    private void collectBatch(List<PendingOrder> batch) throws InterruptedException {
+        PendingOrder firstPendingOrder = pendingOrders.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (firstPendingOrder == null) {
+            return;
+        }
+        batch.add(firstPendingOrder);
+        long deadline = System.nanoTime() + config.maxWait().toNanos();
+        while (batch.size() < config.maxBatchSize()) {
+            if (pendingOrders.drainTo(batch, config.maxBatchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            PendingOrder pendingOrder = remaining > 0 ? pendingOrders.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (pendingOrder == null) {
+                return;
+            }
+            batch.add(pendingOrder);
+        }
+    }
+
+    private void commitBatch(List<PendingOrder> pendingBatch) {
+        List<PendingOrder> batch = new ArrayList<>(pendingBatch.size());
+        List<Order> orders = new ArrayList<>(pendingBatch.size());
+        List<OrderOutboxMessage> orderOutboxMessages = new ArrayList<>(pendingBatch.size());
+        for (PendingOrder pendingOrder : pendingBatch) {
+            OrderOutboxMessage orderOutboxMessage;
+            try {
+                orderOutboxMessage = orderOutboxHelper.createOrderOutboxMessage(pendingOrder.orderCreatedEvent());
+            } catch (RuntimeException e) {
+                log.error("Outbox message could not be created for order with id: {}",
+                        pendingOrder.orderCreatedEvent().getOrder().getId().getValue(), e);
+                pendingOrder.future().completeExceptionally(e);
+                continue;
+            }
+            batch.add(pendingOrder);
+            orders.add(pendingOrder.orderCreatedEvent().getOrder());
+            orderOutboxMessages.add(orderOutboxMessage);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                orderRepository.saveAll(orders);
+                orderOutboxRepository.saveAll(orderOutboxMessages);
+            });
+        } catch (RuntimeException e) {
+            orders.forEach(order -> order.markPersisted(Order.UNPERSISTED_VERSION));
+            log.warn("Group commit of {} orders failed, committing them one by one: {}", batch.size(), e.getMessage());
+            commitIsolated(batch);
+            return;
+        }
+        batch.forEach(this::completeCommitted);
+        log.debug("{} orders are group committed", batch.size());
+    }
+
+    private void commitIsolated(List<PendingOrder> batch) {
+        List<PendingOrder> committed = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingOrder pendingOrder : batch) {
+                    Object savepoint = status.createSavepoint();
+                    try {
+                        orderRepository.save(pendingOrder.orderCreatedEvent().getOrder());
+                        orderOutboxRepository.save(
+                                orderOutboxHelper.createOrderOutboxMessage(pendingOrder.orderCreatedEvent()));
+                        status.releaseSavepoint(savepoint);
+                        committed.add(pendingOrder);
+                    } catch (RuntimeException e) {
+                        status.rollbackToSavepoint(savepoint);
+                        pendingOrder.orderCreatedEvent().getOrder().markPersisted(Order.UNPERSISTED_VERSION);
+                        log.error("Order with id: {} could not be committed",
+                                pendingOrder.orderCreatedEvent().getOrder().getId().getValue(), e);
+                        pendingOrder.future().completeExceptionally(e);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Isolated commit of {} orders failed", batch.size(), e);
+            batch.forEach(pendingOrder -> {
+                pendingOrder.orderCreatedEvent().getOrder().markPersisted(Order.UNPERSISTED_VERSION);
+                pendingOrder.future().completeExceptionally(e);
+            });
+            return;
+        }
+        committed.forEach(this::completeCommitted);
+    }
+
+    private void completeCommitted(PendingOrder pendingOrder) {
+        Order order = pendingOrder.orderCreatedEvent().getOrder();
+        try {
+            orderTrackingProjection.applyAfterCommit(order);
+        } catch (RuntimeException e) {
+            log.error("Tracking projection could not be updated for committed order with id: {}",
+                    order.getId().getValue(), e);
+        }
+        pendingOrder.future().complete(pendingOrder.orderCreatedEvent());
+    }
+
+    private record PendingOrder(OrderCreatedEvent orderCreatedEvent, CompletableFuture<OrderCreatedEvent> future) {
+    }
+}
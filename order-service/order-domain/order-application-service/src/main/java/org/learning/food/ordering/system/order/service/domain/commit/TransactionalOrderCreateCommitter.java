@@ -0,0 +1,28 @@
+package org.learning.food.ordering.system.order.service.domain.commit;
+
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class TransactionalOrderCreateCommitter implements OrderCreateCommitter {
+    private final OrderRepository orderRepository;
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    public TransactionalOrderCreateCommitter(OrderRepository orderRepository, OrderOutboxHelper orderOutboxHelper) {
+        this.orderRepository = orderRepository;
+        this.orderOutboxHelper = orderOutboxHelper;
+    }
+
+    @Override
+    @Transactional
+    public CompletableFuture<OrderCreatedEvent> commit(OrderCreatedEvent orderCreatedEvent) {
+        orderRepository.save(orderCreatedEvent.getOrder());
+        orderOutboxHelper.saveOrderEvent(orderCreatedEvent);
+        return CompletableFuture.completedFuture(orderCreatedEvent);
+    }
+}
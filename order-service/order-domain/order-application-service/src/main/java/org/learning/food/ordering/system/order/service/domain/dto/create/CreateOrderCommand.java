@@ -1,17 +1,17 @@
 package org.learning.food.ordering.system.order.service.domain.dto.create;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
+import org.learning.food.ordering.system.validation.GenerateValidator;
 
+import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
-@Getter
 @Builder
-@AllArgsConstructor
+@GenerateValidator
 public record CreateOrderCommand(@NotNull UUID customerId, @NotNull UUID restaurantId, @NotNull BigDecimal price,
-                                 @NotNull List<OrderItem> items, @NotNull OrderAddress orderAddress) {
+                                 @Valid @NotNull List<OrderItem> items,
+                                 @Valid @NotNull OrderAddress orderAddress) {
 }
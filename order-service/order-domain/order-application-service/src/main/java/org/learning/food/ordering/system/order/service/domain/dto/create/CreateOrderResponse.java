@@ -1,16 +1,12 @@
 package org.learning.food.ordering.system.order.service.domain.dto.create;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
 import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
 
 import javax.validation.constraints.NotNull;
 import java.util.UUID;
 
-@Getter
 @Builder
-@AllArgsConstructor
 public record CreateOrderResponse(@NotNull UUID orderTrackingId, @NotNull OrderStatus orderStatus,
                                   @NotNull String message) {
 }
@@ -1,15 +1,13 @@
 package org.learning.food.ordering.system.order.service.domain.dto.create;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
+import org.learning.food.ordering.system.validation.GenerateValidator;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.NotNull;
 
-@Getter
 @Builder
-@AllArgsConstructor
+@GenerateValidator
 public record OrderAddress(@NotNull @Max(50) String street, @NotNull @Max(10) String postalCode,
                            @NotNull @Max(50) String city) {
 }
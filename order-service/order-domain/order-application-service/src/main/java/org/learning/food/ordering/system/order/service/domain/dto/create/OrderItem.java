@@ -1,16 +1,14 @@
 package org.learning.food.ordering.system.order.service.domain.dto.create;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
+import org.learning.food.ordering.system.validation.GenerateValidator;
 
 import javax.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.util.UUID;
 
-@Getter
 @Builder
-@AllArgsConstructor
+@GenerateValidator
 public record OrderItem(@NotNull UUID productId, @NotNull Integer quantity, @NotNull BigDecimal price,
                         @NotNull BigDecimal subtotal) {
 }
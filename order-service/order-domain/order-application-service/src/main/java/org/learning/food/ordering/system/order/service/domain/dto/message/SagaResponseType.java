@@ -0,0 +1,6 @@
+package org.learning.food.ordering.system.order.service.domain.dto.message;
+
+public enum SagaResponseType {
+    PAYMENT_RESPONSE,
+    RESTAURANT_APPROVAL_RESPONSE
+}
@@ -0,0 +1,18 @@
+package org.learning.food.ordering.system.order.service.domain.dto.track;
+
+import java.util.UUID;
+
+public record TrackOrderResult(UUID orderTrackingId, TrackOrderQuery trackOrderQuery) {
+
+    public static TrackOrderResult found(TrackOrderQuery trackOrderQuery) {
+        return new TrackOrderResult(trackOrderQuery.orderTrackingId(), trackOrderQuery);
+    }
+
+    public static TrackOrderResult notFound(UUID orderTrackingId) {
+        return new TrackOrderResult(orderTrackingId, null);
+    }
+
+    public boolean isFound() {
+        return trackOrderQuery != null;
+    }
+}
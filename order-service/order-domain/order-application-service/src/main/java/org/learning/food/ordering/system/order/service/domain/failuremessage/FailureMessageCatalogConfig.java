@@ -0,0 +1,16 @@
+package org.learning.food.ordering.system.order.service.domain.failuremessage;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.timeout.OrderTimeoutHandler;
+
+import java.util.Set;
+
+/**
+ * Failure messages registered in the catalog at start-up besides the ones it already holds. Other messages are
+ * kept as free text.
+ */
+public record FailureMessageCatalogConfig(Set<String> knownMessages) {
+    public static final FailureMessageCatalogConfig DEFAULT = new FailureMessageCatalogConfig(Set.of(
+            OrderTimeoutHandler.failureMessage(OrderStatus.PENDING),
+            OrderTimeoutHandler.failureMessage(OrderStatus.CANCELLING)));
+}
@@ -0,0 +1,41 @@
+package org.learning.food.ordering.system.order.service.domain.failuremessage;
+
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.FailureMessageCatalogRepository;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessageCatalog;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Backs the shared {@link FailureMessageCatalog} with the persistent catalog, so stored codes mean the same message
+ * on every instance, and registers the known messages of {@link FailureMessageCatalogConfig}. Messages are registered
+ * in their own transaction, because the catalog keeps the code even if the transaction that first used it rolls back.
+ * Codes registered by other instances later on are looked up on first use. Must run before anything interns failure
+ * messages at start-up.
+ */
+@Component
+public class FailureMessageCatalogInitializer {
+    private final FailureMessageCatalogRepository failureMessageCatalogRepository;
+    private final TransactionTemplate registrationTransaction;
+    private final FailureMessageCatalogConfig config;
+
+    public FailureMessageCatalogInitializer(FailureMessageCatalogRepository failureMessageCatalogRepository,
+                                            PlatformTransactionManager transactionManager) {
+        this.failureMessageCatalogRepository = failureMessageCatalogRepository;
+        this.registrationTransaction = new TransactionTemplate(transactionManager);
+        this.registrationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.config = FailureMessageCatalogConfig.DEFAULT;
+    }
+
+    @PostConstruct
+    public void install() {
+        FailureMessageCatalog catalog = FailureMessageCatalog.shared();
+        catalog.install(failureMessageCatalogRepository.findAll(), message ->
+                        registrationTransaction.execute(status -> failureMessageCatalogRepository.register(message)),
+                failureMessageCatalogRepository::findByCode);
+        config.knownMessages().forEach(catalog::register);
+    }
+}
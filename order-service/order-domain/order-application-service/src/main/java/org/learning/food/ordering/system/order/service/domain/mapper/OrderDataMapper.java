@@ -0,0 +1,58 @@
+package org.learning.food.ordering.system.order.service.domain.mapper;
+
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import org.learning.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class OrderDataMapper {
+    private final IdGenerator idGenerator = IdGenerator.timeOrdered();
+
+    public Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand) {
+        return Order.Builder.builder()
+                .customerId(new CustomerId(createOrderCommand.customerId()))
+                .restaurantId(RestaurantId.of(createOrderCommand.restaurantId()))
+                .streetAddress(orderAddressToStreetAddress(createOrderCommand.orderAddress()))
+                .price(new Money(createOrderCommand.price()))
+                .items(orderItemsToOrderItemEntities(createOrderCommand.items()))
+                .build();
+    }
+
+    public CreateOrderResponse orderToCreateOrderResponse(Order order, String message) {
+        return CreateOrderResponse.builder()
+                .orderTrackingId(order.getTrackingId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .message(message)
+                .build();
+    }
+
+    private List<OrderItem> orderItemsToOrderItemEntities(
+            List<org.learning.food.ordering.system.order.service.domain.dto.create.OrderItem> orderItems) {
+        List<OrderItem> orderItemEntities = new ArrayList<>(orderItems.size());
+        for (var orderItem : orderItems) {
+            Money price = new Money(orderItem.price());
+            orderItemEntities.add(OrderItem.Builder.builder()
+                    .product(new Product(ProductId.of(orderItem.productId()), null, null))
+                    .price(price)
+                    .quantity(orderItem.quantity())
+                    .subTotal(new Money(orderItem.subtotal()))
+                    .build());
+        }
+        return orderItemEntities;
+    }
+
+    private StreetAddress orderAddressToStreetAddress(OrderAddress orderAddress) {
+        return new StreetAddress(idGenerator.generate(), orderAddress.street(), orderAddress.postalCode(),
+                orderAddress.city());
+    }
+}
@@ -0,0 +1,113 @@
+package org.learning.food.ordering.system.order.service.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.event.OrderEvent;
+import org.learning.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.*;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Slf4j
+@Component
+public class OrderOutboxHelper {
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final OrderTrackingProjection orderTrackingProjection;
+    private final IdGenerator idGenerator;
+
+    public OrderOutboxHelper(OrderOutboxRepository orderOutboxRepository, ObjectMapper objectMapper,
+                             OrderTrackingProjection orderTrackingProjection) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.orderTrackingProjection = orderTrackingProjection;
+        this.idGenerator = IdGenerator.timeOrdered();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveOrderEvent(OrderEvent orderEvent) {
+        orderOutboxRepository.save(createOrderOutboxMessage(orderEvent));
+        orderTrackingProjection.applyAfterCommit(orderEvent.getOrder());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveOrderTransition(Order order, OrderOutboxEventType eventType) {
+        orderOutboxRepository.save(createOrderOutboxMessage(order, eventType, OffsetDateTime.now(ZoneOffset.UTC)));
+        orderTrackingProjection.applyAfterCommit(order);
+    }
+
+    public OrderOutboxMessage createOrderOutboxMessage(OrderEvent orderEvent) {
+        return createOrderOutboxMessage(orderEvent.getOrder(), getEventType(orderEvent), orderEvent.getCreatedAt());
+    }
+
+    public OrderOutboxMessage createOrderOutboxMessage(Order order, OrderOutboxEventType eventType,
+                                                       OffsetDateTime createdAt) {
+        return OrderOutboxMessage.builder()
+                .id(idGenerator.generate())
+                .orderId(order.getId().getValue())
+                .eventType(eventType)
+                .payload(createPayload(order, eventType, createdAt))
+                .createdAt(createdAt)
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    private OrderOutboxEventType getEventType(OrderEvent orderEvent) {
+        if (orderEvent instanceof OrderCreatedEvent) {
+            return OrderOutboxEventType.ORDER_CREATED;
+        }
+        if (orderEvent instanceof OrderPaidEvent) {
+            return OrderOutboxEventType.ORDER_PAID;
+        }
+        if (orderEvent instanceof OrderCancelledEvent) {
+            return OrderOutboxEventType.ORDER_CANCELLING;
+        }
+        throw new OrderDomainException("Unsupported order event type: " + orderEvent.getClass().getSimpleName());
+    }
+
+    private String createPayload(Order order, OrderOutboxEventType eventType, OffsetDateTime createdAt) {
+        OrderEventPayload orderEventPayload = OrderEventPayload.builder()
+                .orderId(order.getId().getValue())
+                .trackingId(order.getTrackingId().getValue())
+                .customerId(order.getCustomerId().getValue())
+                .restaurantId(order.getRestaurantId().getValue())
+                .price(order.getPrice().amount())
+                .orderStatus(order.getOrderStatus())
+                .items(eventType == OrderOutboxEventType.ORDER_CREATED ? createItemPayloads(order.getItems()) : null)
+                .failureMessages(order.getFailureMessages())
+                .createdAt(createdAt)
+                .build();
+        try {
+            return objectMapper.writeValueAsString(orderEventPayload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not create OrderEventPayload for order id: {}", order.getId().getValue(), e);
+            throw new OrderDomainException("Could not create OrderEventPayload for order id: " +
+                    order.getId().getValue(), e);
+        }
+    }
+
+    private List<OrderEventItemPayload> createItemPayloads(List<OrderItem> orderItems) {
+        return orderItems.stream()
+                .map(orderItem -> OrderEventItemPayload.builder()
+                        .productId(orderItem.getProduct().getId().getValue())
+                        .quantity(orderItem.getQuantity())
+                        .price(orderItem.getPrice().amount())
+                        .subTotal(orderItem.getSubTotal().amount())
+                        .build())
+                .toList();
+    }
+}
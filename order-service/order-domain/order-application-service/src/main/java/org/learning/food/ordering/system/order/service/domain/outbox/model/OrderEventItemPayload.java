@@ -0,0 +1,10 @@
+package org.learning.food.ordering.system.order.service.domain.outbox.model;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Builder
+public record OrderEventItemPayload(UUID productId, int quantity, BigDecimal price, BigDecimal subTotal) {
+}
@@ -0,0 +1,17 @@
+package org.learning.food.ordering.system.order.service.domain.outbox.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderEventPayload(UUID orderId, UUID trackingId, UUID customerId, UUID restaurantId,
+                                BigDecimal price, OrderStatus orderStatus, List<OrderEventItemPayload> items,
+                                List<String> failureMessages, OffsetDateTime createdAt) {
+}
@@ -0,0 +1,5 @@
+package org.learning.food.ordering.system.order.service.domain.outbox.model;
+
+public enum OrderOutboxEventType {
+    ORDER_CREATED, ORDER_PAID, ORDER_APPROVED, ORDER_CANCELLING, ORDER_CANCELLED
+}
@@ -0,0 +1,11 @@
+package org.learning.food.ordering.system.order.service.domain.outbox.model;
+
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Builder
+public record OrderOutboxMessage(UUID id, UUID orderId, OrderOutboxEventType eventType, String payload,
+                                 OffsetDateTime createdAt, OffsetDateTime processedAt, OutboxStatus outboxStatus) {
+}
@@ -0,0 +1,5 @@
+package org.learning.food.ordering.system.order.service.domain.outbox.model;
+
+public enum OutboxStatus {
+    STARTED, COMPLETED, FAILED
+}
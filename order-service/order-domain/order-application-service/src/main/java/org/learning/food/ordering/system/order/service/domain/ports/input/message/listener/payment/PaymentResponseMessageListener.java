@@ -0,0 +1,10 @@
+package org.learning.food.ordering.system.order.service.domain.ports.input.message.listener.payment;
+
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+
+import java.util.List;
+
+public interface PaymentResponseMessageListener {
+
+    void paymentResponsesReceived(List<PaymentResponse> paymentResponses);
+}
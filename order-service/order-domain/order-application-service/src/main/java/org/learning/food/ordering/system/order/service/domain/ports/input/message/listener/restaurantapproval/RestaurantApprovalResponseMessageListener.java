@@ -0,0 +1,10 @@
+package org.learning.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval;
+
+import org.learning.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+
+import java.util.List;
+
+public interface RestaurantApprovalResponseMessageListener {
+
+    void restaurantApprovalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses);
+}
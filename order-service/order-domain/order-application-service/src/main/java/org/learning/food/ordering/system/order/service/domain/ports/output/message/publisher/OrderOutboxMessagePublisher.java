@@ -0,0 +1,10 @@
+package org.learning.food.ordering.system.order.service.domain.ports.output.message.publisher;
+
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface OrderOutboxMessagePublisher {
+
+    CompletableFuture<Void> publish(OrderOutboxMessage orderOutboxMessage);
+}
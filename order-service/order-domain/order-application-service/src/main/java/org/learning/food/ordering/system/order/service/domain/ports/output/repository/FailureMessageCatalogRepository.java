@@ -0,0 +1,13 @@
+package org.learning.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface FailureMessageCatalogRepository {
+
+    Map<Integer, String> findAll();
+
+    Optional<String> findByCode(int code);
+
+    int register(String message);
+}
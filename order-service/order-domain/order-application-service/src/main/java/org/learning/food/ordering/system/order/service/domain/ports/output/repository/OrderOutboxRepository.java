@@ -0,0 +1,20 @@
+package org.learning.food.ordering.system.order.service.domain.ports.output.repository;
+
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderOutboxRepository {
+
+    void save(OrderOutboxMessage orderOutboxMessage);
+
+    void saveAll(List<OrderOutboxMessage> orderOutboxMessages);
+
+    List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit);
+
+    int updateOutboxStatus(Collection<UUID> ids, OutboxStatus outboxStatus, OffsetDateTime processedAt);
+}
@@ -0,0 +1,29 @@
+package org.learning.food.ordering.system.order.service.domain.ports.output.repository;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Orders are saved with optimistic concurrency: an order that {@link Order#isPersisted() is persisted} is only
+ * written when the stored version still equals {@link Order#getPersistedVersion()}, otherwise an
+ * {@link org.learning.food.ordering.system.order.service.domain.exception.OrderVersionConflictException} is thrown.
+ * After a successful write the order is marked persisted at {@link Order#getVersion()}.
+ * Loaded orders are built with their stored version.
+ */
+public interface OrderRepository {
+
+    Order save(Order order);
+
+    void saveAll(Collection<Order> orders);
+
+    Optional<Order> findById(OrderId orderId);
+
+    List<Order> findAllById(Collection<OrderId> orderIds);
+
+    List<Order> findAllByStatus(Collection<OrderStatus> orderStatuses);
+}
@@ -0,0 +1,23 @@
+package org.learning.food.ordering.system.order.service.domain.ports.output.repository;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface OrderTrackingRepository {
+
+    /**
+     * Passes the tracking state of every stored order among the given tracking ids to the consumer, in no particular
+     * order. Unknown tracking ids are skipped.
+     */
+    void findAllByTrackingId(Collection<UUID> trackingIds, Consumer<TrackOrderQuery> consumer);
+
+    /**
+     * Passes the tracking state of every stored order in one of the given statuses to the consumer, in no particular
+     * order. Rows are streamed, so the whole result is never held in memory.
+     */
+    void findAllByOrderStatus(Collection<OrderStatus> orderStatuses, Consumer<TrackOrderQuery> consumer);
+}
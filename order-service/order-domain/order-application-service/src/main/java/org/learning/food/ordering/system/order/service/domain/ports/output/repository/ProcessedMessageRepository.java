@@ -0,0 +1,19 @@
+package org.learning.food.ordering.system.order.service.domain.ports.output.repository;
+
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+public interface ProcessedMessageRepository {
+
+    Set<String> findProcessed(SagaResponseType messageType, Collection<String> messageIds);
+
+    void saveAll(SagaResponseType messageType, Collection<String> messageIds, OffsetDateTime processedAt);
+
+    void replayProcessedSince(OffsetDateTime processedAt, BiConsumer<SagaResponseType, String> consumer);
+
+    int deleteProcessedBefore(OffsetDateTime processedAt);
+}
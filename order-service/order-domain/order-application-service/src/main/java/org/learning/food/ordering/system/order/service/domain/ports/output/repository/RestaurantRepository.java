@@ -0,0 +1,11 @@
+package org.learning.food.ordering.system.order.service.domain.ports.output.repository;
+
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
+import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
+
+import java.util.Optional;
+
+public interface RestaurantRepository {
+
+    Optional<Restaurant> findRestaurantInformation(RestaurantId restaurantId);
+}
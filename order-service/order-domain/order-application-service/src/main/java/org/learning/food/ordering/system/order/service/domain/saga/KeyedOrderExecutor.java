@@ -0,0 +1,209 @@
+package org.learning.food.ordering.system.order.service.domain.saga;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs work on a fixed set of single-threaded lanes chosen by key hash, so work for the same order is applied in
+ * submission order while different orders proceed in parallel. Lane queues are bounded; a submit waits up to
+ * {@link KeyedOrderExecutorConfig#submitTimeout()} for space and is rejected afterwards.
+ */
+@Slf4j
+public class KeyedOrderExecutor implements AutoCloseable {
+    private static final LaneTask STOP = new LaneTask(() -> {
+    }, new CompletableFuture<>());
+
+    private final KeyedOrderExecutorConfig config;
+    private final Lane[] lanes;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    public KeyedOrderExecutor(KeyedOrderExecutorConfig config) {
+        if (config.laneCount() < 1 || config.queueCapacity() < 1) {
+            throw new IllegalArgumentException("Lane count and queue capacity must be positive");
+        }
+        this.config = config;
+        this.lanes = new Lane[config.laneCount()];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = new Lane(lane, config.queueCapacity());
+            lanes[lane].thread.start();
+        }
+        log.info("Keyed order executor is started with {} lanes and queue capacity: {}", config.laneCount(),
+                config.queueCapacity());
+    }
+
+    public int laneFor(Object key) {
+        if (Objects.isNull(key)) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash * 0x9E3779B9, lanes.length);
+    }
+
+    public CompletableFuture<Void> submit(Object key, Runnable task) {
+        return lanes[laneFor(key)].enqueue(task);
+    }
+
+    /**
+     * Splits {@code items} into one sub-batch per lane, keeping the relative order of items with the same key, and
+     * hands each sub-batch to {@code batchHandler} on its lane. The returned future completes when all lanes are done.
+     */
+    public <T> CompletableFuture<Void> submitBatch(List<T> items, Function<T, ?> keyExtractor,
+                                                   Consumer<List<T>> batchHandler) {
+        List<List<T>> itemsByLane = new ArrayList<>(lanes.length);
+        for (int lane = 0; lane < lanes.length; lane++) {
+            itemsByLane.add(null);
+        }
+        for (T item : items) {
+            int lane = laneFor(keyExtractor.apply(item));
+            List<T> laneItems = itemsByLane.get(lane);
+            if (Objects.isNull(laneItems)) {
+                laneItems = new ArrayList<>();
+                itemsByLane.set(lane, laneItems);
+            }
+            laneItems.add(item);
+        }
+
+        List<CompletableFuture<Void>> laneFutures = new ArrayList<>();
+        for (int lane = 0; lane < lanes.length; lane++) {
+            List<T> laneItems = itemsByLane.get(lane);
+            if (!Objects.isNull(laneItems)) {
+                laneFutures.add(lanes[lane].enqueue(() -> batchHandler.accept(laneItems)));
+            }
+        }
+        return CompletableFuture.allOf(laneFutures.toArray(CompletableFuture[]::new));
+    }
+
+    public <T> void executeBatch(List<T> items, Function<T, ?> keyExtractor, Consumer<List<T>> batchHandler) {
+        try {
+            submitBatch(items, keyExtractor, batchHandler).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public List<LaneBacklog> backlog() {
+        List<LaneBacklog> backlog = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            backlog.add(lane.backlog());
+        }
+        return backlog;
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        for (Lane lane : lanes) {
+            lane.queue.put(STOP);
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join();
+        }
+    }
+
+    private record LaneTask(Runnable task, CompletableFuture<Void> future) {
+    }
+
+    private final class Lane implements Runnable {
+        private final int index;
+        private final BlockingQueue<LaneTask> queue;
+        private final Thread thread;
+        private final AtomicInteger maxQueued = new AtomicInteger();
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private Lane(int index, int queueCapacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "order-saga-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private CompletableFuture<Void> enqueue(Runnable task) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            if (!running.get()) {
+                return reject(future, "Keyed order executor is closed");
+            }
+            LaneTask laneTask = new LaneTask(task, future);
+            try {
+                if (!queue.offer(laneTask, config.submitTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    return reject(future, "Lane " + index + " is full");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return reject(future, "Interrupted while waiting for lane " + index);
+            }
+            // close() may have stopped the lane after the check above, and the lane's last drain may already be over.
+            // Taking the task back rejects it here; if it is gone, the lane has run or rejected it.
+            if (!running.get() && queue.remove(laneTask)) {
+                return reject(future, "Keyed order executor is closed");
+            }
+            submitted.increment();
+            int queued = queue.size();
+            int currentMax = maxQueued.get();
+            while (queued > currentMax && !maxQueued.compareAndSet(currentMax, queued)) {
+                currentMax = maxQueued.get();
+            }
+            return future;
+        }
+
+        private CompletableFuture<Void> reject(CompletableFuture<Void> future, String message) {
+            rejected.increment();
+            future.completeExceptionally(new RejectedExecutionException(message));
+            return future;
+        }
+
+        @Override
+        public void run() {
+            LaneTask laneTask;
+            while ((laneTask = takeUninterruptibly()) != STOP) {
+                try {
+                    laneTask.task().run();
+                    completed.increment();
+                    laneTask.future().complete(null);
+                } catch (Throwable e) {
+                    failed.increment();
+                    laneTask.future().completeExceptionally(e);
+                }
+            }
+            while (!Objects.isNull(laneTask = queue.poll())) {
+                reject(laneTask.future(), "Keyed order executor is closed");
+            }
+        }
+
+        private LaneTask takeUninterruptibly() {
+            while (true) {
+                try {
+                    return queue.take();
+                } catch (InterruptedException e) {
+                    log.debug("Order saga lane {} ignores an interrupt, it stops on close", index);
+                }
+            }
+        }
+
+        private LaneBacklog backlog() {
+            return new LaneBacklog(index, queue.size(), maxQueued.get(), submitted.sum(), completed.sum(),
+                    failed.sum(), rejected.sum());
+        }
+    }
+}
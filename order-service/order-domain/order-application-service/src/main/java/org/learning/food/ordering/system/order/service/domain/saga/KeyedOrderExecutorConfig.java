@@ -0,0 +1,8 @@
+package org.learning.food.ordering.system.order.service.domain.saga;
+
+import java.time.Duration;
+
+public record KeyedOrderExecutorConfig(int laneCount, int queueCapacity, Duration submitTimeout) {
+    public static final KeyedOrderExecutorConfig DEFAULT = new KeyedOrderExecutorConfig(
+            Runtime.getRuntime().availableProcessors(), 1024, Duration.ofSeconds(5));
+}
@@ -0,0 +1,5 @@
+package org.learning.food.ordering.system.order.service.domain.saga;
+
+public record LaneBacklog(int lane, int queued, int maxQueued, long submitted, long completed, long failed,
+                          long rejected) {
+}
@@ -0,0 +1,64 @@
+package org.learning.food.ordering.system.order.service.domain.saga;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class OrderSagaHelper {
+    private final OrderRepository orderRepository;
+
+    public OrderSagaHelper(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    public <T> void applyResponses(List<T> responses, Function<T, String> orderIdExtractor,
+                                   BiPredicate<Order, T> transition) {
+        Map<OrderId, List<T>> responsesByOrderId = groupByOrderId(responses, orderIdExtractor);
+        Map<OrderId, Order> ordersById = new HashMap<>();
+        for (Order order : orderRepository.findAllById(responsesByOrderId.keySet())) {
+            ordersById.put(order.getId(), order);
+        }
+
+        List<Order> changedOrders = new ArrayList<>(responsesByOrderId.size());
+        responsesByOrderId.forEach((orderId, orderResponses) -> {
+            Order order = ordersById.get(orderId);
+            if (Objects.isNull(order)) {
+                log.error("Could not find order with id: {} for {} saga responses", orderId.getValue(),
+                        orderResponses.size());
+                return;
+            }
+            boolean changed = false;
+            for (T response : orderResponses) {
+                changed |= transition.test(order, response);
+            }
+            if (changed) {
+                changedOrders.add(order);
+            }
+        });
+
+        orderRepository.saveAll(changedOrders);
+        log.info("{} saga responses are applied to {} orders", responses.size(), changedOrders.size());
+    }
+
+    private <T> Map<OrderId, List<T>> groupByOrderId(List<T> responses, Function<T, String> orderIdExtractor) {
+        Map<OrderId, List<T>> responsesByOrderId = new LinkedHashMap<>();
+        for (T response : responses) {
+            String orderId = orderIdExtractor.apply(response);
+            try {
+                responsesByOrderId.computeIfAbsent(new OrderId(UUID.fromString(orderId)), id -> new ArrayList<>(1))
+                        .add(response);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.error("Saga response has an invalid order id: {}", orderId);
+            }
+        }
+        return responsesByOrderId;
+    }
+}
@@ -0,0 +1,7 @@
+package org.learning.food.ordering.system.order.service.domain.timeout;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+
+public record OrderTimeout(OrderId orderId, OrderStatus expectedStatus) {
+}
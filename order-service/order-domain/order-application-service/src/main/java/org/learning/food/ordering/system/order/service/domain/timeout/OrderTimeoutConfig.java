@@ -0,0 +1,9 @@
+package org.learning.food.ordering.system.order.service.domain.timeout;
+
+import java.time.Duration;
+
+public record OrderTimeoutConfig(Duration tickDuration, Duration pendingTimeout, Duration cancellingTimeout,
+                                 int maxBatchSize, int initialCapacity) {
+    public static final OrderTimeoutConfig DEFAULT = new OrderTimeoutConfig(Duration.ofMillis(100),
+            Duration.ofMinutes(15), Duration.ofMinutes(15), 500, 1024);
+}
@@ -0,0 +1,56 @@
+package org.learning.food.ordering.system.order.service.domain.timeout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.IOrderDomainService;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import org.learning.food.ordering.system.order.service.domain.saga.OrderSagaHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class OrderTimeoutHandler {
+    private final IOrderDomainService orderDomainService;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderOutboxHelper orderOutboxHelper;
+
+    public OrderTimeoutHandler(IOrderDomainService orderDomainService, OrderSagaHelper orderSagaHelper,
+                               OrderOutboxHelper orderOutboxHelper) {
+        this.orderDomainService = orderDomainService;
+        this.orderSagaHelper = orderSagaHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
+    }
+
+    @Transactional
+    public void ordersTimedOut(List<OrderTimeout> orderTimeouts) {
+        orderSagaHelper.applyResponses(orderTimeouts, orderTimeout -> orderTimeout.orderId().getValue().toString(),
+                this::applyTimeout);
+    }
+
+    public static String failureMessage(OrderStatus expectedStatus) {
+        return "Order timed out in " + expectedStatus + " status";
+    }
+
+    private boolean applyTimeout(Order order, OrderTimeout orderTimeout) {
+        if (order.getOrderStatus() != orderTimeout.expectedStatus()) {
+            log.debug("Order with id: {} has moved on from {} and is not timed out", order.getId().getValue(),
+                    orderTimeout.expectedStatus());
+            return false;
+        }
+        try {
+            orderDomainService.cancelOrder(order, List.of(failureMessage(orderTimeout.expectedStatus())));
+            orderOutboxHelper.saveOrderTransition(order, OrderOutboxEventType.ORDER_CANCELLED);
+            return true;
+        } catch (OrderDomainException e) {
+            log.warn("Order with id: {} could not be cancelled after timing out: {}", order.getId().getValue(),
+                    e.getMessage());
+            return false;
+        }
+    }
+}
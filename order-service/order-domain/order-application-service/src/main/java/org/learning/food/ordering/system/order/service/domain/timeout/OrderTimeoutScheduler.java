@@ -0,0 +1,132 @@
+package org.learning.food.ordering.system.order.service.domain.timeout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderCommitListener;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one deadline per order that is waiting on another service: PENDING orders wait for payment and CANCELLING
+ * orders wait for compensation. Every committed transition replaces or cancels the order's deadline, and expired
+ * orders are cancelled in batches of at most {@code maxBatchSize}. Deadlines are held in memory only, so on start
+ * every stored PENDING and CANCELLING order is scheduled again with a full timeout.
+ */
+@Slf4j
+public class OrderTimeoutScheduler implements OrderCommitListener, AutoCloseable {
+    private final OrderTrackingProjection orderTrackingProjection;
+    private final OrderTimeoutHandler orderTimeoutHandler;
+    private final OrderTimeoutConfig config;
+    private final OrderTimingWheel orderTimingWheel;
+    private final ScheduledExecutorService tickScheduler;
+    private final long tickNanos;
+    private final long startNanos;
+
+    public OrderTimeoutScheduler(OrderTrackingProjection orderTrackingProjection,
+                                 OrderTimeoutHandler orderTimeoutHandler, OrderRepository orderRepository,
+                                 OrderTimeoutConfig config) {
+        this.orderTrackingProjection = orderTrackingProjection;
+        this.orderTimeoutHandler = orderTimeoutHandler;
+        this.config = config;
+        this.tickNanos = config.tickDuration().toNanos();
+        this.startNanos = System.nanoTime();
+        this.orderTimingWheel = new OrderTimingWheel(config.initialCapacity(), 0L);
+        this.tickScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        orderTrackingProjection.addCommitListener(this);
+        scheduleWaitingOrders(orderRepository);
+        tickScheduler.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        log.info("Order timeout scheduler is started with tick: {}, pending timeout: {} and cancelling timeout: {}",
+                config.tickDuration(), config.pendingTimeout(), config.cancellingTimeout());
+    }
+
+    @Override
+    public void orderCommitted(OrderId orderId, OrderStatus orderStatus) {
+        switch (orderStatus) {
+            case PENDING -> schedule(orderId, orderStatus, config.pendingTimeout());
+            case CANCELLING -> schedule(orderId, orderStatus, config.cancellingTimeout());
+            default -> cancel(orderId);
+        }
+    }
+
+    public void schedule(OrderId orderId, OrderStatus expectedStatus, Duration timeout) {
+        long deadlineTick = -Math.floorDiv(startNanos - System.nanoTime() - timeout.toNanos(), tickNanos);
+        synchronized (orderTimingWheel) {
+            orderTimingWheel.schedule(orderId, expectedStatus, deadlineTick);
+        }
+    }
+
+    public boolean cancel(OrderId orderId) {
+        synchronized (orderTimingWheel) {
+            return orderTimingWheel.cancel(orderId);
+        }
+    }
+
+    public int pendingTimeouts() {
+        synchronized (orderTimingWheel) {
+            return orderTimingWheel.size();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        orderTrackingProjection.removeCommitListener(this);
+        tickScheduler.shutdown();
+        tickScheduler.awaitTermination(config.tickDuration().toMillis() * 10, TimeUnit.MILLISECONDS);
+    }
+
+    // The listener is registered first, so a transition committed during the scan is not lost. A deadline the scan
+    // schedules from a stale row is harmless: the handler skips orders that have left the expected status.
+    private void scheduleWaitingOrders(OrderRepository orderRepository) {
+        List<Order> waitingOrders = orderRepository.findAllByStatus(List.of(OrderStatus.PENDING,
+                OrderStatus.CANCELLING));
+        for (Order order : waitingOrders) {
+            orderCommitted(order.getId(), order.getOrderStatus());
+        }
+        log.info("{} stored orders waiting on payment or compensation are scheduled", waitingOrders.size());
+    }
+
+    private void tick() {
+        List<OrderTimeout> expired = new ArrayList<>();
+        long currentTick = (System.nanoTime() - startNanos) / tickNanos;
+        synchronized (orderTimingWheel) {
+            orderTimingWheel.advanceTo(currentTick, expired::add);
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        log.info("{} orders timed out waiting on payment or compensation", expired.size());
+        for (int from = 0; from < expired.size(); from += config.maxBatchSize()) {
+            handleBatch(expired.subList(from, Math.min(from + config.maxBatchSize(), expired.size())));
+        }
+    }
+
+    private void handleBatch(List<OrderTimeout> orderTimeouts) {
+        try {
+            orderTimeoutHandler.ordersTimedOut(orderTimeouts);
+        } catch (RuntimeException e) {
+            log.warn("Timeout batch of {} orders failed, cancelling them one by one: {}", orderTimeouts.size(),
+                    e.getMessage());
+            for (OrderTimeout orderTimeout : orderTimeouts) {
+                try {
+                    orderTimeoutHandler.ordersTimedOut(List.of(orderTimeout));
+                } catch (RuntimeException orderException) {
+                    log.error("Timed out order with id: {} could not be cancelled",
+                            orderTimeout.orderId().getValue(), orderException);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.learning.food.ordering.system.order.service.domain.timeout;
+
+import org.learning.food.ordering.system.domain.id.UuidRowIndex;
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel of one timer per order, with {@value #LEVELS} levels of {@value #SLOTS} slots each.
+ * A timer sits on the level of the highest 6-bit group in which its deadline tick differs from the current tick and is
+ * cascaded down when the wheel reaches its slot, so scheduling, cancelling and expiring are all O(1).
+ * <p>
+ * Timers live in parallel primitive arrays linked into per-slot lists by index, and a {@link UuidRowIndex} maps the
+ * order id to its timer, so a pending timer costs no objects. Not thread-safe.
+ */
+public class OrderTimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int NONE = UuidRowIndex.NONE;
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    private final int[] slotHeads = new int[LEVELS * SLOTS];
+    private long currentTick;
+    private int size;
+
+    private UuidRowIndex timerIndex;
+    private long[] deadlines;
+    private int[] next;
+    private int[] previous;
+    private int[] slots;
+    private byte[] expectedStatuses;
+    private int freeHead;
+
+    public OrderTimingWheel(int initialCapacity, long currentTick) {
+        this.currentTick = currentTick;
+        Arrays.fill(slotHeads, NONE);
+        allocate(Math.max(SLOTS, Integer.highestOneBit(Math.max(initialCapacity, 1) - 1) << 1));
+    }
+
+    public void schedule(OrderId orderId, OrderStatus expectedStatus, long deadlineTick) {
+        UUID id = orderId.getValue();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int timer = timerIndex.find(msb, lsb);
+        if (timer == NONE) {
+            timer = allocateTimer(msb, lsb);
+        } else {
+            unlink(timer);
+        }
+        deadlines[timer] = Math.max(deadlineTick, currentTick + 1);
+        expectedStatuses[timer] = (byte) expectedStatus.ordinal();
+        link(timer);
+    }
+
+    public boolean cancel(OrderId orderId) {
+        UUID id = orderId.getValue();
+        int timer = timerIndex.find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (timer == NONE) {
+            return false;
+        }
+        unlink(timer);
+        release(timer);
+        return true;
+    }
+
+    public int advanceTo(long tick, Consumer<OrderTimeout> expired) {
+        int expiredCount = 0;
+        while (currentTick < tick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level * SLOTS + slotIndex(currentTick, level));
+                }
+            }
+            int slot = slotIndex(currentTick, 0);
+            int timer = slotHeads[slot];
+            slotHeads[slot] = NONE;
+            while (timer != NONE) {
+                int nextTimer = next[timer];
+                expired.accept(new OrderTimeout(new OrderId(new UUID(timerIndex.mostSignificantBits(timer),
+                        timerIndex.leastSignificantBits(timer))), ORDER_STATUSES[expectedStatuses[timer]]));
+                release(timer);
+                expiredCount++;
+                timer = nextTimer;
+            }
+        }
+        return expiredCount;
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int slot) {
+        int timer = slotHeads[slot];
+        slotHeads[slot] = NONE;
+        while (timer != NONE) {
+            int nextTimer = next[timer];
+            link(timer);
+            timer = nextTimer;
+        }
+    }
+
+    private void link(int timer) {
+        long deadline = deadlines[timer];
+        long distance = deadline ^ currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && distance >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = level * SLOTS + slotIndex(deadline, level);
+        int head = slotHeads[slot];
+        next[timer] = head;
+        previous[timer] = NONE;
+        if (head != NONE) {
+            previous[head] = timer;
+        }
+        slotHeads[slot] = timer;
+        slots[timer] = slot;
+    }
+
+    private void unlink(int timer) {
+        int previousTimer = previous[timer];
+        int nextTimer = next[timer];
+        if (previousTimer == NONE) {
+            slotHeads[slots[timer]] = nextTimer;
+        } else {
+            next[previousTimer] = nextTimer;
+        }
+        if (nextTimer != NONE) {
+            previous[nextTimer] = previousTimer;
+        }
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+    }
+
+    private int allocateTimer(long msb, long lsb) {
+        if (freeHead == NONE) {
+            grow();
+        }
+        int timer = freeHead;
+        freeHead = next[timer];
+        timerIndex.insert(timer, msb, lsb);
+        size++;
+        return timer;
+    }
+
+    private void release(int timer) {
+        timerIndex.remove(timer);
+        slots[timer] = NONE;
+        next[timer] = freeHead;
+        freeHead = timer;
+        size--;
+    }
+
+    private void allocate(int capacity) {
+        timerIndex = new UuidRowIndex(capacity);
+        deadlines = new long[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+        slots = new int[capacity];
+        expectedStatuses = new byte[capacity];
+        for (int timer = 0; timer < capacity; timer++) {
+            next[timer] = timer + 1 < capacity ? timer + 1 : NONE;
+            slots[timer] = NONE;
+        }
+        freeHead = 0;
+    }
+
+    private void grow() {
+        int capacity = deadlines.length;
+        int newCapacity = capacity * 2;
+        deadlines = Arrays.copyOf(deadlines, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        previous = Arrays.copyOf(previous, newCapacity);
+        slots = Arrays.copyOf(slots, newCapacity);
+        expectedStatuses = Arrays.copyOf(expectedStatuses, newCapacity);
+        for (int timer = capacity; timer < newCapacity; timer++) {
+            next[timer] = timer + 1 < newCapacity ? timer + 1 : NONE;
+            slots[timer] = NONE;
+        }
+        freeHead = capacity;
+        timerIndex.resize(newCapacity, timer -> slots[timer] != NONE);
+    }
+}
@@ -0,0 +1,5 @@
+package org.learning.food.ordering.system.order.service.domain.tracking;
+
+public record BulkOrderTrackingConfig(int maxTrackingIds, int lookupChunkSize) {
+    public static final BulkOrderTrackingConfig DEFAULT = new BulkOrderTrackingConfig(5_000, 256);
+}
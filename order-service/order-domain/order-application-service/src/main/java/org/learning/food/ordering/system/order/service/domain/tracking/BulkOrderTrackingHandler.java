@@ -0,0 +1,80 @@
+package org.learning.food.ordering.system.order.service.domain.tracking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderResult;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Resolves many tracking ids at once. Duplicates are dropped, the tracking projection answers first and the
+ * remaining ids are looked up in the repository chunk by chunk. Results are passed on as soon as they are known, so
+ * they do not follow the request order; every distinct id gets exactly one result, found or not.
+ */
+@Slf4j
+@Component
+public class BulkOrderTrackingHandler {
+    private final OrderTrackingProjection orderTrackingProjection;
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final BulkOrderTrackingConfig config;
+
+    public BulkOrderTrackingHandler(OrderTrackingProjection orderTrackingProjection,
+                                    OrderTrackingRepository orderTrackingRepository) {
+        this(orderTrackingProjection, orderTrackingRepository, BulkOrderTrackingConfig.DEFAULT);
+    }
+
+    public BulkOrderTrackingHandler(OrderTrackingProjection orderTrackingProjection,
+                                    OrderTrackingRepository orderTrackingRepository, BulkOrderTrackingConfig config) {
+        this.orderTrackingProjection = orderTrackingProjection;
+        this.orderTrackingRepository = orderTrackingRepository;
+        this.config = config;
+    }
+
+    public int maxTrackingIds() {
+        return config.maxTrackingIds();
+    }
+
+    public void trackOrders(Collection<UUID> orderTrackingIds, Consumer<TrackOrderResult> resultConsumer) {
+        if (orderTrackingIds.size() > config.maxTrackingIds()) {
+            throw new OrderDomainException("At most " + config.maxTrackingIds() + " orders can be tracked at once, " +
+                    orderTrackingIds.size() + " were requested");
+        }
+        Set<UUID> distinctIds = new HashSet<>(Math.max(16, orderTrackingIds.size() * 4 / 3 + 1));
+        List<UUID> misses = new ArrayList<>();
+        for (UUID orderTrackingId : orderTrackingIds) {
+            if (Objects.isNull(orderTrackingId) || !distinctIds.add(orderTrackingId)) {
+                continue;
+            }
+            Optional<TrackOrderQuery> trackOrderQuery =
+                    orderTrackingProjection.findResidentByTrackingId(new TrackingId(orderTrackingId));
+            if (trackOrderQuery.isPresent()) {
+                resultConsumer.accept(TrackOrderResult.found(trackOrderQuery.get()));
+            } else {
+                misses.add(orderTrackingId);
+            }
+        }
+
+        Set<UUID> foundIds = new HashSet<>();
+        for (int from = 0; from < misses.size(); from += config.lookupChunkSize()) {
+            List<UUID> chunk = misses.subList(from, Math.min(from + config.lookupChunkSize(), misses.size()));
+            foundIds.clear();
+            orderTrackingRepository.findAllByTrackingId(chunk, trackOrderQuery -> {
+                if (foundIds.add(trackOrderQuery.orderTrackingId())) {
+                    resultConsumer.accept(TrackOrderResult.found(trackOrderQuery));
+                }
+            });
+            for (UUID orderTrackingId : chunk) {
+                if (!foundIds.contains(orderTrackingId)) {
+                    resultConsumer.accept(TrackOrderResult.notFound(orderTrackingId));
+                }
+            }
+        }
+        log.debug("Tracked {} distinct orders, {} resolved by the projection", distinctIds.size(),
+                distinctIds.size() - misses.size());
+    }
+}
@@ -0,0 +1,10 @@
+package org.learning.food.ordering.system.order.service.domain.tracking;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+
+@FunctionalInterface
+public interface OrderCommitListener {
+
+    void orderCommitted(OrderId orderId, OrderStatus orderStatus);
+}
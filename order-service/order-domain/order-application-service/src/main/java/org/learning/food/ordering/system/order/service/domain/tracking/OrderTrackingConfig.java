@@ -0,0 +1,7 @@
+package org.learning.food.ordering.system.order.service.domain.tracking;
+
+import java.time.Duration;
+
+public record OrderTrackingConfig(Duration terminalRetention) {
+    public static final OrderTrackingConfig DEFAULT = new OrderTrackingConfig(Duration.ofMinutes(10));
+}
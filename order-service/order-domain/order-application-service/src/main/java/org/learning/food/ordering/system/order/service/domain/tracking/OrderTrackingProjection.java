@@ -0,0 +1,178 @@
+package org.learning.food.ordering.system.order.service.domain.tracking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the tracking state of every non-terminal order, rebuilt from the order rows on start. Orders that reach a
+ * terminal status stay for the configured retention window and are evicted afterwards, so the map only grows with
+ * the in-flight orders. A lookup that misses falls back to the repository, and terminal results are cached again for
+ * another retention window because customers keep polling them.
+ */
+@Slf4j
+@Component
+@DependsOn("failureMessageCatalogInitializer")
+public class OrderTrackingProjection {
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final List<OrderStatus> NON_TERMINAL_STATUSES = Arrays.stream(ORDER_STATUSES)
+            .filter(orderStatus -> !orderStatus.isTerminal())
+            .toList();
+
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final long terminalRetentionNanos;
+    private final ConcurrentHashMap<UUID, TrackingEntry> trackingEntries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<TerminalEntry> terminalEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final List<OrderCommitListener> orderCommitListeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public OrderTrackingProjection(OrderTrackingRepository orderTrackingRepository) {
+        this(orderTrackingRepository, OrderTrackingConfig.DEFAULT);
+    }
+
+    public OrderTrackingProjection(OrderTrackingRepository orderTrackingRepository, OrderTrackingConfig config) {
+        this.orderTrackingRepository = orderTrackingRepository;
+        this.terminalRetentionNanos = config.terminalRetention().toNanos();
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        long start = System.nanoTime();
+        trackingEntries.clear();
+        terminalEntries.clear();
+        orderTrackingRepository.findAllByOrderStatus(NON_TERMINAL_STATUSES, trackOrderQuery ->
+                apply(trackOrderQuery.orderTrackingId(), trackOrderQuery.orderStatus(),
+                        trackOrderQuery.failureMessages()));
+        log.info("Order tracking projection is rebuilt with {} orders in {} ms", trackingEntries.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Optional<TrackOrderQuery> findByTrackingId(TrackingId trackingId) {
+        Optional<TrackOrderQuery> trackOrderQuery = findResidentByTrackingId(trackingId);
+        if (trackOrderQuery.isPresent()) {
+            return trackOrderQuery;
+        }
+        TrackOrderQuery[] stored = new TrackOrderQuery[1];
+        orderTrackingRepository.findAllByTrackingId(List.of(trackingId.getValue()), found -> stored[0] = found);
+        if (Objects.isNull(stored[0])) {
+            return Optional.empty();
+        }
+        if (stored[0].orderStatus().isTerminal()) {
+            apply(stored[0].orderTrackingId(), stored[0].orderStatus(), stored[0].failureMessages());
+        }
+        return Optional.of(stored[0]);
+    }
+
+    /**
+     * Answers from memory only, without the repository fallback, for callers that batch their own misses.
+     */
+    public Optional<TrackOrderQuery> findResidentByTrackingId(TrackingId trackingId) {
+        TrackingEntry trackingEntry = trackingEntries.get(trackingId.getValue());
+        if (Objects.isNull(trackingEntry)) {
+            return Optional.empty();
+        }
+        return Optional.of(new TrackOrderQuery(trackingId.getValue(), ORDER_STATUSES[trackingEntry.orderStatus()],
+                trackingEntry.failureMessages()));
+    }
+
+    public void addCommitListener(OrderCommitListener orderCommitListener) {
+        orderCommitListeners.add(orderCommitListener);
+    }
+
+    public void removeCommitListener(OrderCommitListener orderCommitListener) {
+        orderCommitListeners.remove(orderCommitListener);
+    }
+
+    public void applyAfterCommit(Order order) {
+        OrderId orderId = order.getId();
+        UUID trackingId = order.getTrackingId().getValue();
+        OrderStatus orderStatus = order.getOrderStatus();
+        List<String> failureMessages = order.getFailureMessages();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCommitted(orderId, trackingId, orderStatus, failureMessages);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyCommitted(orderId, trackingId, orderStatus, failureMessages);
+            }
+        });
+    }
+
+    public int size() {
+        return trackingEntries.size();
+    }
+
+    private void applyCommitted(OrderId orderId, UUID trackingId, OrderStatus orderStatus,
+                                List<String> failureMessages) {
+        apply(trackingId, orderStatus, failureMessages);
+        for (OrderCommitListener orderCommitListener : orderCommitListeners) {
+            try {
+                orderCommitListener.orderCommitted(orderId, orderStatus);
+            } catch (RuntimeException e) {
+                log.error("Order commit listener failed for order with id: {}", orderId.getValue(), e);
+            }
+        }
+    }
+
+    private void apply(UUID trackingId, OrderStatus orderStatus, List<String> failureMessages) {
+        trackingEntries.merge(trackingId, new TrackingEntry((byte) orderStatus.ordinal(),
+                Objects.isNull(failureMessages) ? null : FailureMessages.of(failureMessages)), TrackingEntry::latest);
+        if (orderStatus.isTerminal()) {
+            terminalEntries.add(new TerminalEntry(trackingId, System.nanoTime() + terminalRetentionNanos));
+        }
+        evictExpired();
+    }
+
+    // Retention is the same for every entry, so the queue is ordered by eviction time up to concurrent appends and
+    // the scan can stop at the first entry that is still retained. One thread evicts at a time.
+    private void evictExpired() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            TerminalEntry terminalEntry;
+            while (Objects.nonNull(terminalEntry = terminalEntries.peek()) && now - terminalEntry.evictAt() >= 0) {
+                terminalEntries.poll();
+                trackingEntries.remove(terminalEntry.trackingId());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record TrackingEntry(byte orderStatus, FailureMessages failureMessages) {
+
+        // Every valid transition moves to a higher OrderStatus ordinal, so the higher one is the newer state.
+        private TrackingEntry latest(TrackingEntry other) {
+            return other.orderStatus >= orderStatus ? other : this;
+        }
+    }
+
+    private record TerminalEntry(UUID trackingId, long evictAt) {
+    }
+}
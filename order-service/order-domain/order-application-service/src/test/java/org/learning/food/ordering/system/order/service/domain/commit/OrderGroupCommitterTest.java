@@ -0,0 +1,240 @@
+package org.learning.food.ordering.system.order.service.domain.commit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.event.OrderEvent;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderGroupCommitterTest {
+    private static final OrderGroupCommitConfig CONFIG = new OrderGroupCommitConfig(16, Duration.ofMillis(20), 64);
+
+    private final Set<OrderId> failingOutboxOrders = ConcurrentHashMap.newKeySet();
+    private final Set<OrderId> failingProjectionOrders = ConcurrentHashMap.newKeySet();
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+    private final OrderGroupCommitter committer = newCommitter();
+
+    @AfterEach
+    void close() throws InterruptedException {
+        committer.close();
+    }
+
+    @Test
+    void outboxFailureRejectsOnlyThatOrderAndTheCommitterCarriesOn() throws Exception {
+        OrderCreatedEvent failing = orderCreatedEvent();
+        OrderCreatedEvent committed = orderCreatedEvent();
+        failingOutboxOrders.add(failing.getOrder().getId());
+
+        CompletableFuture<OrderCreatedEvent> failingFuture = committer.commit(failing);
+        CompletableFuture<OrderCreatedEvent> committedFuture = committer.commit(committed);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> failingFuture.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(OrderDomainException.class, failure.getCause());
+        assertSame(committed, committedFuture.get(5, TimeUnit.SECONDS));
+
+        OrderCreatedEvent later = orderCreatedEvent();
+        assertSame(later, committer.commit(later).get(5, TimeUnit.SECONDS));
+        assertEquals(Set.of(committed.getOrder().getId(), later.getOrder().getId()), orderRepository.savedIds());
+    }
+
+    @Test
+    void projectionFailureStillCompletesTheCommittedOrder() throws Exception {
+        OrderCreatedEvent orderCreatedEvent = orderCreatedEvent();
+        failingProjectionOrders.add(orderCreatedEvent.getOrder().getId());
+
+        assertSame(orderCreatedEvent, committer.commit(orderCreatedEvent).get(5, TimeUnit.SECONDS));
+        assertEquals(Set.of(orderCreatedEvent.getOrder().getId()), orderRepository.savedIds());
+    }
+
+    @Test
+    void failedIsolatedTransactionFailsEveryOrderOfTheBatch() {
+        orderRepository.failAll = true;
+
+        List<CompletableFuture<OrderCreatedEvent>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(committer.commit(orderCreatedEvent()));
+        }
+
+        for (CompletableFuture<OrderCreatedEvent> future : futures) {
+            assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void commitAfterCloseIsRejected() throws InterruptedException {
+        committer.close();
+
+        CompletableFuture<OrderCreatedEvent> future = committer.commit(orderCreatedEvent());
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+    }
+
+    private OrderGroupCommitter newCommitter() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        InMemoryOrderOutboxRepository orderOutboxRepository = new InMemoryOrderOutboxRepository();
+        OrderTrackingProjection orderTrackingProjection = new OrderTrackingProjection(orderRepository) {
+            @Override
+            public void applyAfterCommit(Order order) {
+                if (failingProjectionOrders.contains(order.getId())) {
+                    throw new IllegalStateException("projection is unavailable");
+                }
+                super.applyAfterCommit(order);
+            }
+        };
+        OrderOutboxHelper orderOutboxHelper = new OrderOutboxHelper(orderOutboxRepository, objectMapper,
+                orderTrackingProjection) {
+            @Override
+            public OrderOutboxMessage createOrderOutboxMessage(OrderEvent orderEvent) {
+                if (failingOutboxOrders.contains(orderEvent.getOrder().getId())) {
+                    throw new OrderDomainException("payload could not be created");
+                }
+                return super.createOrderOutboxMessage(orderEvent);
+            }
+        };
+        return new OrderGroupCommitter(orderRepository, orderOutboxRepository, orderOutboxHelper,
+                orderTrackingProjection, new NoOpTransactionManager(), CONFIG);
+    }
+
+    private static OrderCreatedEvent orderCreatedEvent() {
+        Money price = new Money(new BigDecimal("12.50"));
+        OrderItem orderItem = OrderItem.Builder.builder()
+                .product(new Product(new ProductId(UUID.randomUUID()), "product", price))
+                .quantity(2)
+                .price(price)
+                .subTotal(price.multiply(2))
+                .build();
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(price.multiply(2))
+                .items(List.of(orderItem))
+                .build();
+        order.initializeOrder();
+        return new OrderCreatedEvent(order, OffsetDateTime.now(ZoneOffset.UTC));
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+
+    private static final class InMemoryOrderRepository implements OrderRepository, OrderTrackingRepository {
+        private final Map<OrderId, Order> orders = new ConcurrentHashMap<>();
+        private volatile boolean failAll;
+
+        Set<OrderId> savedIds() {
+            return Set.copyOf(orders.keySet());
+        }
+
+        @Override
+        public Order save(Order order) {
+            saveAll(List.of(order));
+            return order;
+        }
+
+        @Override
+        public void saveAll(Collection<Order> orders) {
+            if (failAll) {
+                throw new IllegalStateException("database is unavailable");
+            }
+            orders.forEach(order -> this.orders.put(order.getId(), order));
+        }
+
+        @Override
+        public Optional<Order> findById(OrderId orderId) {
+            return Optional.ofNullable(orders.get(orderId));
+        }
+
+        @Override
+        public List<Order> findAllById(Collection<OrderId> orderIds) {
+            return orderIds.stream().map(orders::get).filter(Objects::nonNull).toList();
+        }
+
+        @Override
+        public List<Order> findAllByStatus(Collection<OrderStatus> orderStatuses) {
+            return orders.values().stream().filter(order -> orderStatuses.contains(order.getOrderStatus())).toList();
+        }
+
+        @Override
+        public void findAllByTrackingId(Collection<UUID> trackingIds, Consumer<TrackOrderQuery> consumer) {
+            orders.values().stream()
+                    .filter(order -> trackingIds.contains(order.getTrackingId().getValue()))
+                    .forEach(order -> consumer.accept(trackOrderQuery(order)));
+        }
+
+        @Override
+        public void findAllByOrderStatus(Collection<OrderStatus> orderStatuses, Consumer<TrackOrderQuery> consumer) {
+            findAllByStatus(orderStatuses).forEach(order -> consumer.accept(trackOrderQuery(order)));
+        }
+
+        private static TrackOrderQuery trackOrderQuery(Order order) {
+            return new TrackOrderQuery(order.getTrackingId().getValue(), order.getOrderStatus(), null);
+        }
+    }
+
+    private static final class InMemoryOrderOutboxRepository implements OrderOutboxRepository {
+        private final List<OrderOutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void save(OrderOutboxMessage orderOutboxMessage) {
+            messages.add(orderOutboxMessage);
+        }
+
+        @Override
+        public void saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+            messages.addAll(orderOutboxMessages);
+        }
+
+        @Override
+        public List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit) {
+            return messages.stream().filter(message -> message.outboxStatus() == outboxStatus).limit(limit).toList();
+        }
+
+        @Override
+        public int updateOutboxStatus(Collection<UUID> ids, OutboxStatus outboxStatus, OffsetDateTime processedAt) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.learning.food.ordering.system.order.service.domain.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+import org.learning.food.ordering.system.domain.valueobject.PaymentStatus;
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The domain hands {@link FailureMessages} to these DTOs; they must still bind to and from plain JSON arrays.
+ */
+class FailureMessagesJsonTest {
+    private static final FailureMessages FAILURE_MESSAGES =
+            FailureMessages.of(List.of("Customer has not enough credit", "Ürün yok"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void paymentResponseRoundTrips() throws Exception {
+        PaymentResponse paymentResponse = PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .paymentId(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .price(new BigDecimal("25.00"))
+                .createdAt(Instant.parse("2024-05-01T12:00:00Z"))
+                .paymentStatus(PaymentStatus.FAILED)
+                .failureMessages(FAILURE_MESSAGES)
+                .build();
+
+        assertEquals(paymentResponse, roundTrip(paymentResponse, PaymentResponse.class));
+    }
+
+    @Test
+    void restaurantApprovalResponseRoundTrips() throws Exception {
+        RestaurantApprovalResponse restaurantApprovalResponse = RestaurantApprovalResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .restaurantId(UUID.randomUUID().toString())
+                .createdAt(Instant.parse("2024-05-01T12:00:00Z"))
+                .orderApprovalStatus(OrderApprovalStatus.REJECTED)
+                .failureMessages(FAILURE_MESSAGES)
+                .build();
+
+        assertEquals(restaurantApprovalResponse, roundTrip(restaurantApprovalResponse,
+                RestaurantApprovalResponse.class));
+    }
+
+    @Test
+    void trackOrderQueryRoundTrips() throws Exception {
+        TrackOrderQuery trackOrderQuery = new TrackOrderQuery(UUID.randomUUID(), OrderStatus.CANCELLED,
+                FAILURE_MESSAGES);
+
+        String json = objectMapper.writeValueAsString(trackOrderQuery);
+
+        assertEquals(trackOrderQuery, objectMapper.readValue(json, TrackOrderQuery.class));
+        assertEquals("[\"Customer has not enough credit\",\"Ürün yok\"]",
+                objectMapper.readTree(json).get("failureMessages").toString());
+    }
+
+    private <T> T roundTrip(T value, Class<T> type) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(value), type);
+    }
+}
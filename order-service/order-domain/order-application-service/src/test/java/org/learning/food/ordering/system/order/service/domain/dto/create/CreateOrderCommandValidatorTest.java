@@ -0,0 +1,94 @@
+package org.learning.food.ordering.system.order.service.domain.dto.create;
+
+import org.hibernate.validator.HibernateValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.validation.FieldViolation;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateOrderCommandValidatorTest {
+    private static final List<String> ADDRESS_VALUES = Arrays.asList(null, "", "0", "10", "11", "50", "51", "-5",
+            "+7", "1e1", "1E2", "5.5", "10.0000001", "abc", "12a", "99999999999999999999", "-99999999999999999999",
+            "0x10", " 5", "1,5", "NaN", "Infinity");
+
+    private final ValidatorFactory validatorFactory = Validation.byProvider(HibernateValidator.class)
+            .configure()
+            .defaultLocale(Locale.ENGLISH)
+            .buildValidatorFactory();
+    private final Validator beanValidator = validatorFactory.getValidator();
+
+    @AfterEach
+    void close() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void reportsTheSameViolationsAsHibernateValidator() {
+        int compared = 0;
+        int invalid = 0;
+        for (int street = 0; street < ADDRESS_VALUES.size(); street++) {
+            for (int postalCode = 0; postalCode < ADDRESS_VALUES.size(); postalCode++) {
+                CreateOrderCommand command = command(street, postalCode);
+
+                Set<String> expected = beanValidator.validate(command).stream()
+                        .map(CreateOrderCommandValidatorTest::describe)
+                        .collect(Collectors.toSet());
+                List<FieldViolation> violations = CreateOrderCommandValidator.INSTANCE.validate(command);
+
+                assertEquals(expected, violations.stream().map(FieldViolation::toString).collect(Collectors.toSet()),
+                        command::toString);
+                assertEquals(expected.size(), violations.size(), command::toString);
+                compared++;
+                if (!violations.isEmpty()) {
+                    invalid++;
+                }
+            }
+        }
+        assertEquals(484, compared);
+        assertTrue(invalid > 0 && invalid < compared);
+    }
+
+    @Test
+    void validCommandHasNoViolations() {
+        CreateOrderCommand command = new CreateOrderCommand(UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN,
+                List.of(new OrderItem(UUID.randomUUID(), 1, BigDecimal.TEN, BigDecimal.TEN)),
+                new OrderAddress("12", "8", "40"));
+
+        assertTrue(CreateOrderCommandValidator.INSTANCE.isValid(command));
+        assertTrue(beanValidator.validate(command).isEmpty());
+    }
+
+    /**
+     * Varies the address over every pair of values and, along the way, nulls out other fields so that nested and
+     * top-level {@code @NotNull} checks are compared too.
+     */
+    private static CreateOrderCommand command(int street, int postalCode) {
+        int variant = street + postalCode;
+        List<OrderItem> items = new ArrayList<>();
+        items.add(new OrderItem(UUID.randomUUID(), 1, BigDecimal.ONE, BigDecimal.ONE));
+        items.add(new OrderItem(variant % 3 == 0 ? null : UUID.randomUUID(), variant % 4 == 0 ? null : 2,
+                variant % 5 == 0 ? null : BigDecimal.TEN, variant % 6 == 0 ? null : BigDecimal.TEN));
+        if (variant % 7 == 0) {
+            items.add(null);
+        }
+        OrderAddress orderAddress = variant % 11 == 0 && street != postalCode ? null : new OrderAddress(
+                ADDRESS_VALUES.get(street), ADDRESS_VALUES.get(postalCode),
+                ADDRESS_VALUES.get(variant % ADDRESS_VALUES.size()));
+        return new CreateOrderCommand(variant % 8 == 0 ? null : UUID.randomUUID(),
+                variant % 9 == 0 ? null : UUID.randomUUID(), variant % 10 == 0 ? null : BigDecimal.TEN,
+                variant % 13 == 0 ? null : items, orderAddress);
+    }
+
+    private static String describe(ConstraintViolation<CreateOrderCommand> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+}
@@ -0,0 +1,84 @@
+package org.learning.food.ordering.system.order.service.domain.saga;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedOrderExecutorTest {
+    private static final KeyedOrderExecutorConfig CONFIG = new KeyedOrderExecutorConfig(4, 64, Duration.ofSeconds(1));
+
+    @Test
+    void tasksWithTheSameKeyRunInSubmissionOrder() throws Exception {
+        List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> last;
+        try (KeyedOrderExecutor keyedOrderExecutor = new KeyedOrderExecutor(CONFIG)) {
+            last = null;
+            for (int i = 0; i < 50; i++) {
+                int sequence = i;
+                last = keyedOrderExecutor.submit("order", () -> applied.add(sequence));
+            }
+            last.get(5, TimeUnit.SECONDS);
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, applied);
+    }
+
+    @Test
+    void submitAfterCloseIsRejected() throws InterruptedException {
+        KeyedOrderExecutor keyedOrderExecutor = new KeyedOrderExecutor(CONFIG);
+        keyedOrderExecutor.close();
+
+        CompletableFuture<Void> future = keyedOrderExecutor.submit("order", () -> {
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+    }
+
+    @Test
+    void everyTaskSubmittedWhileClosingCompletes() throws Exception {
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 200; round++) {
+                KeyedOrderExecutor keyedOrderExecutor = new KeyedOrderExecutor(CONFIG);
+                CountDownLatch started = new CountDownLatch(4);
+                List<Future<List<CompletableFuture<Void>>>> submitted = new ArrayList<>();
+                for (int submitter = 0; submitter < 4; submitter++) {
+                    int key = submitter;
+                    submitted.add(submitters.submit(() -> {
+                        List<CompletableFuture<Void>> futures = new ArrayList<>();
+                        started.countDown();
+                        for (int i = 0; i < 50; i++) {
+                            futures.add(keyedOrderExecutor.submit(key * 50 + i, () -> {
+                            }));
+                        }
+                        return futures;
+                    }));
+                }
+                started.await();
+                keyedOrderExecutor.close();
+
+                for (Future<List<CompletableFuture<Void>>> futures : submitted) {
+                    for (CompletableFuture<Void> future : futures.get(5, TimeUnit.SECONDS)) {
+                        try {
+                            future.get(5, TimeUnit.SECONDS);
+                        } catch (ExecutionException e) {
+                            assertInstanceOf(RejectedExecutionException.class, e.getCause());
+                        }
+                    }
+                }
+            }
+        } finally {
+            submitters.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.learning.food.ordering.system.order.service.domain.timeout;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.learning.food.ordering.system.order.service.domain.tracking.OrderTrackingProjection;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTimeoutSchedulerTest {
+    private static final OrderTimeoutConfig CONFIG = new OrderTimeoutConfig(Duration.ofMillis(10),
+            Duration.ofMillis(50), Duration.ofMillis(100), 500, 16);
+
+    @Test
+    void storedWaitingOrdersAreScheduledOnStart() throws InterruptedException {
+        Order pendingOrder = order();
+        Order cancellingOrder = order();
+        cancellingOrder.pay();
+        cancellingOrder.initCancel(List.of("restaurant is closed"));
+        Order paidOrder = order();
+        paidOrder.pay();
+
+        Map<OrderId, OrderStatus> timedOut = new ConcurrentHashMap<>();
+        CountDownLatch bothTimedOut = new CountDownLatch(2);
+        OrderTimeoutHandler orderTimeoutHandler = new OrderTimeoutHandler(null, null, null) {
+            @Override
+            public void ordersTimedOut(List<OrderTimeout> orderTimeouts) {
+                for (OrderTimeout orderTimeout : orderTimeouts) {
+                    timedOut.put(orderTimeout.orderId(), orderTimeout.expectedStatus());
+                    bothTimedOut.countDown();
+                }
+            }
+        };
+
+        StoredOrders storedOrders = new StoredOrders(List.of(pendingOrder, cancellingOrder, paidOrder));
+        try (OrderTimeoutScheduler orderTimeoutScheduler = new OrderTimeoutScheduler(
+                new OrderTrackingProjection(storedOrders), orderTimeoutHandler, storedOrders, CONFIG)) {
+            assertEquals(2, orderTimeoutScheduler.pendingTimeouts());
+            assertTrue(bothTimedOut.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(Map.of(pendingOrder.getId(), OrderStatus.PENDING, cancellingOrder.getId(),
+                OrderStatus.CANCELLING), timedOut);
+    }
+
+    private static Order order() {
+        Money price = new Money(new BigDecimal("12.50"));
+        OrderItem orderItem = OrderItem.Builder.builder()
+                .product(new Product(new ProductId(UUID.randomUUID()), "product", price))
+                .quantity(1)
+                .price(price)
+                .subTotal(price)
+                .build();
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(price)
+                .items(List.of(orderItem))
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+
+    private record StoredOrders(List<Order> orders) implements OrderRepository, OrderTrackingRepository {
+
+        @Override
+        public Order save(Order order) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void saveAll(Collection<Order> orders) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Order> findById(OrderId orderId) {
+            return orders.stream().filter(order -> order.getId().equals(orderId)).findFirst();
+        }
+
+        @Override
+        public List<Order> findAllById(Collection<OrderId> orderIds) {
+            return orders.stream().filter(order -> orderIds.contains(order.getId())).toList();
+        }
+
+        @Override
+        public List<Order> findAllByStatus(Collection<OrderStatus> orderStatuses) {
+            return orders.stream().filter(order -> orderStatuses.contains(order.getOrderStatus())).toList();
+        }
+
+        @Override
+        public void findAllByTrackingId(Collection<UUID> trackingIds, Consumer<TrackOrderQuery> consumer) {
+        }
+
+        @Override
+        public void findAllByOrderStatus(Collection<OrderStatus> orderStatuses, Consumer<TrackOrderQuery> consumer) {
+        }
+    }
+}
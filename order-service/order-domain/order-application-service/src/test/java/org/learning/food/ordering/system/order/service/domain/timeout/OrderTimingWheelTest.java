@@ -0,0 +1,51 @@
+package org.learning.food.ordering.system.order.service.domain.timeout;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+import org.learning.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTimingWheelTest {
+
+    @Test
+    void expiresEveryTimerAtItsDeadlineExceptCancelledAndRescheduledOnes() {
+        Random random = new Random(3);
+        OrderTimingWheel orderTimingWheel = new OrderTimingWheel(16, 0L);
+        Map<OrderId, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            OrderId orderId = new OrderId(UUID.randomUUID());
+            long deadline = 1 + random.nextInt(300_000);
+            orderTimingWheel.schedule(orderId, OrderStatus.PENDING, deadline);
+            deadlines.put(orderId, deadline);
+        }
+        List<OrderId> orderIds = new ArrayList<>(deadlines.keySet());
+        for (int i = 0; i < 1_000; i++) {
+            OrderId cancelled = orderIds.get(i);
+            assertTrue(orderTimingWheel.cancel(cancelled));
+            deadlines.remove(cancelled);
+        }
+        for (int i = 1_000; i < 1_500; i++) {
+            long deadline = 1 + random.nextInt(300_000);
+            orderTimingWheel.schedule(orderIds.get(i), OrderStatus.CANCELLING, deadline);
+            deadlines.put(orderIds.get(i), deadline);
+        }
+        assertEquals(deadlines.size(), orderTimingWheel.size());
+
+        Map<OrderId, Long> expired = new HashMap<>();
+        for (long tick = 1; tick <= 300_000; tick += 1 + random.nextInt(500)) {
+            long now = tick;
+            orderTimingWheel.advanceTo(now, orderTimeout -> {
+                assertNull(expired.put(orderTimeout.orderId(), now));
+                assertTrue(deadlines.get(orderTimeout.orderId()) <= now);
+            });
+        }
+        orderTimingWheel.advanceTo(300_000, orderTimeout -> expired.put(orderTimeout.orderId(), 300_000L));
+
+        assertEquals(deadlines.keySet(), expired.keySet());
+        assertEquals(0, orderTimingWheel.size());
+        assertFalse(orderTimingWheel.cancel(orderIds.get(0)));
+    }
+}
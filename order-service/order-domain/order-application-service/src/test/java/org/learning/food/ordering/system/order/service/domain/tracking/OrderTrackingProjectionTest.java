@@ -0,0 +1,141 @@
+package org.learning.food.ordering.system.order.service.domain.tracking;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTrackingProjectionTest {
+
+    @Test
+    void rebuildLoadsOnlyNonTerminalOrders() {
+        StoredTracking storedTracking = new StoredTracking();
+        UUID pending = storedTracking.add(OrderStatus.PENDING);
+        UUID paid = storedTracking.add(OrderStatus.PAID);
+        UUID cancelling = storedTracking.add(OrderStatus.CANCELLING);
+        UUID approved = storedTracking.add(OrderStatus.APPROVED);
+        UUID cancelled = storedTracking.add(OrderStatus.CANCELLED);
+        OrderTrackingProjection orderTrackingProjection = new OrderTrackingProjection(storedTracking);
+
+        orderTrackingProjection.rebuild();
+
+        assertEquals(3, orderTrackingProjection.size());
+        for (UUID trackingId : List.of(pending, paid, cancelling)) {
+            assertTrue(orderTrackingProjection.findResidentByTrackingId(new TrackingId(trackingId)).isPresent());
+        }
+        for (UUID trackingId : List.of(approved, cancelled)) {
+            assertTrue(orderTrackingProjection.findResidentByTrackingId(new TrackingId(trackingId)).isEmpty());
+        }
+        assertEquals(0, storedTracking.lookups);
+    }
+
+    @Test
+    void missFallsBackToTheRepositoryAndCachesTerminalOrders() {
+        StoredTracking storedTracking = new StoredTracking();
+        UUID approved = storedTracking.add(OrderStatus.APPROVED);
+        UUID pending = storedTracking.add(OrderStatus.PENDING);
+        OrderTrackingProjection orderTrackingProjection = new OrderTrackingProjection(storedTracking);
+        storedTracking.statuses.put(pending, OrderStatus.PAID);
+
+        assertEquals(OrderStatus.APPROVED, orderTrackingProjection.findByTrackingId(new TrackingId(approved))
+                .orElseThrow().orderStatus());
+        assertEquals(OrderStatus.APPROVED, orderTrackingProjection.findByTrackingId(new TrackingId(approved))
+                .orElseThrow().orderStatus());
+        assertEquals(1, storedTracking.lookups);
+
+        assertEquals(OrderStatus.PAID, orderTrackingProjection.findByTrackingId(new TrackingId(pending))
+                .orElseThrow().orderStatus());
+        assertTrue(orderTrackingProjection.findResidentByTrackingId(new TrackingId(pending)).isEmpty());
+        assertTrue(orderTrackingProjection.findByTrackingId(new TrackingId(UUID.randomUUID())).isEmpty());
+    }
+
+    @Test
+    void terminalOrdersAreEvictedAfterTheRetentionWindow() {
+        StoredTracking storedTracking = new StoredTracking();
+        OrderTrackingProjection evictingProjection = new OrderTrackingProjection(storedTracking,
+                new OrderTrackingConfig(Duration.ZERO));
+        OrderTrackingProjection retainingProjection = new OrderTrackingProjection(storedTracking,
+                new OrderTrackingConfig(Duration.ofDays(1)));
+        Order pendingOrder = order();
+        Order approvedOrder = order();
+
+        for (OrderTrackingProjection orderTrackingProjection : List.of(evictingProjection, retainingProjection)) {
+            orderTrackingProjection.applyAfterCommit(pendingOrder);
+            orderTrackingProjection.applyAfterCommit(approvedOrder);
+        }
+        approvedOrder.pay();
+        approvedOrder.approve();
+        evictingProjection.applyAfterCommit(approvedOrder);
+        retainingProjection.applyAfterCommit(approvedOrder);
+
+        assertEquals(1, evictingProjection.size());
+        assertTrue(evictingProjection.findResidentByTrackingId(approvedOrder.getTrackingId()).isEmpty());
+        assertEquals(OrderStatus.PENDING, evictingProjection.findResidentByTrackingId(pendingOrder.getTrackingId())
+                .orElseThrow().orderStatus());
+        assertEquals(2, retainingProjection.size());
+        assertEquals(OrderStatus.APPROVED, retainingProjection.findResidentByTrackingId(approvedOrder.getTrackingId())
+                .orElseThrow().orderStatus());
+    }
+
+    private static Order order() {
+        Money price = new Money(new BigDecimal("12.50"));
+        OrderItem orderItem = OrderItem.Builder.builder()
+                .product(new Product(new ProductId(UUID.randomUUID()), "product", price))
+                .quantity(1)
+                .price(price)
+                .subTotal(price)
+                .build();
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(price)
+                .items(List.of(orderItem))
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+
+    private static final class StoredTracking implements OrderTrackingRepository {
+        private final Map<UUID, OrderStatus> statuses = new LinkedHashMap<>();
+        private int lookups;
+
+        UUID add(OrderStatus orderStatus) {
+            UUID trackingId = UUID.randomUUID();
+            statuses.put(trackingId, orderStatus);
+            return trackingId;
+        }
+
+        @Override
+        public void findAllByTrackingId(Collection<UUID> trackingIds, Consumer<TrackOrderQuery> consumer) {
+            lookups++;
+            for (UUID trackingId : trackingIds) {
+                OrderStatus orderStatus = statuses.get(trackingId);
+                if (Objects.nonNull(orderStatus)) {
+                    consumer.accept(new TrackOrderQuery(trackingId, orderStatus, null));
+                }
+            }
+        }
+
+        @Override
+        public void findAllByOrderStatus(Collection<OrderStatus> orderStatuses, Consumer<TrackOrderQuery> consumer) {
+            statuses.forEach((trackingId, orderStatus) -> {
+                if (orderStatuses.contains(orderStatus)) {
+                    consumer.accept(new TrackOrderQuery(trackingId, orderStatus, null));
+                }
+            });
+        }
+    }
+}
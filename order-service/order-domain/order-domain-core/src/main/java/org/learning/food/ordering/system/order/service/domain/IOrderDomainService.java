@@ -1,17 +1,24 @@
 package org.learning.food.ordering.system.order.service.domain;
 
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
 import org.learning.food.ordering.system.order.service.domain.entity.Order;
 import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
 import org.learning.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import org.learning.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.learning.food.ordering.system.order.service.domain.valueobject.OrderInitiationResult;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 public interface IOrderDomainService {
 
     OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant);
 
+    List<OrderInitiationResult> validateAndInitiateOrders(List<Order> orders,
+                                                          Function<RestaurantId, Optional<Restaurant>> restaurantResolver);
+
     OrderPaidEvent payOrder(Order order);
 
     void approveOrder(Order order);
@@ -1,78 +1,262 @@
 package org.learning.food.ordering.system.order.service.domain;
 
 import lombok.extern.slf4j.Slf4j;
-import org.learning.food.ordering.system.domain.valueobject.ProductId;
+import org.learning.food.ordering.system.domain.exception.DomainException;
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
 import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
 import org.learning.food.ordering.system.order.service.domain.entity.Product;
 import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
 import org.learning.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import org.learning.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+import org.learning.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import org.learning.food.ordering.system.order.service.domain.metrics.OrderTransition;
+import org.learning.food.ordering.system.order.service.domain.valueobject.OrderInitiationResult;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 public class OrderDomainServiceImpl implements IOrderDomainService {
     private static final String UTC = "UTC";
+    private static final int BATCH_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int ORDERS_PER_TASK = 64;
+
+    private final Executor batchExecutor;
+    private final int ordersPerTask;
+    private final IdGenerator idGenerator;
+    private final OrderMetrics orderMetrics;
+
+    public OrderDomainServiceImpl() {
+        this(OrderMetrics.disabled());
+    }
+
+    public OrderDomainServiceImpl(OrderMetrics orderMetrics) {
+        this(SharedBatchExecutor.INSTANCE, ORDERS_PER_TASK, IdGenerator.timeOrdered(), orderMetrics);
+    }
+
+    public OrderDomainServiceImpl(Executor batchExecutor, int ordersPerTask, IdGenerator idGenerator,
+                                  OrderMetrics orderMetrics) {
+        if (ordersPerTask < 1) {
+            throw new IllegalArgumentException("Orders per task must be positive");
+        }
+        this.batchExecutor = batchExecutor;
+        this.ordersPerTask = ordersPerTask;
+        this.idGenerator = idGenerator;
+        this.orderMetrics = orderMetrics;
+    }
+
+    /**
+     * Restaurant resolution may block on the database, so batches run on their own threads instead of the common
+     * pool. Idle threads time out, so an unused service holds none.
+     */
+    public static ExecutorService newBatchExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "order-batch-validation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 
     @Override
     public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
-        validateRestaurant(restaurant);
-        setOrderProductInformation(order, restaurant);
-        order.validateOrder();
-        order.initializeOrder();
+        boolean metricsEnabled = orderMetrics.isEnabled();
+        long startNanos = metricsEnabled ? System.nanoTime() : 0L;
+        try {
+            validateRestaurant(restaurant);
+            setOrderProductInformation(order, restaurant);
+            order.validateOrder();
+            order.initializeOrder(idGenerator);
+            orderMetrics.recordTransition(OrderTransition.INITIATED);
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        } finally {
+            if (metricsEnabled) {
+                orderMetrics.recordInitiationLatency(System.nanoTime() - startNanos);
+            }
+        }
         log.info("Order with id: {} is initiated", order.getId().getValue());
         return new OrderCreatedEvent(order, OffsetDateTime.now(ZoneId.of(UTC)));
+    }
+
+    /**
+     * Orders are split into chunks of consecutive orders, so a batch for a single restaurant still uses every batch
+     * thread. Each restaurant is resolved once, by the first task that needs it, while the other tasks wait for that
+     * result. Every failure, including one thrown by the resolver, becomes a result for the orders it affects, so the
+     * rest of the batch carries on.
+     */
+    @Override
+    public List<OrderInitiationResult> validateAndInitiateOrders(List<Order> orders,
+                                                                 Function<RestaurantId, Optional<Restaurant>> restaurantResolver) {
+        OrderInitiationResult[] results = new OrderInitiationResult[orders.size()];
+        Map<RestaurantId, CompletableFuture<Restaurant>> restaurants = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(orders.size() / ordersPerTask + 1);
+        for (int from = 0; from < orders.size(); from += ordersPerTask) {
+            int first = from;
+            int last = Math.min(from + ordersPerTask, orders.size());
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int index = first; index < last; index++) {
+                    results[index] = initiateBatchOrder(orders.get(index), restaurants, restaurantResolver);
+                }
+            }, batchExecutor));
+        }
+        join(CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)));
 
+        log.info("{} orders are validated for {} restaurants", orders.size(), restaurants.size());
+        return Arrays.asList(results);
     }
 
     @Override
     public OrderPaidEvent payOrder(Order order) {
-        order.pay();
+        try {
+            order.pay();
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        }
+        orderMetrics.recordTransition(OrderTransition.PAID);
         log.info("Order with id: {} is paid", order.getId().getValue());
         return new OrderPaidEvent(order, OffsetDateTime.now(ZoneId.of(UTC)));
     }
 
     @Override
     public void approveOrder(Order order) {
-        order.approve();
-        log.info("Order with id: {} is paid", order.getId().getValue());
+        try {
+            order.approve();
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        }
+        orderMetrics.recordTransition(OrderTransition.APPROVED);
+        log.info("Order with id: {} is approved", order.getId().getValue());
     }
 
     @Override
     public OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages) {
-        order.initCancel(failureMessages);
+        try {
+            order.initCancel(failureMessages);
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        }
+        orderMetrics.recordTransition(OrderTransition.CANCELLING);
         log.info("Order payment is being cancelled for order with id: {}", order.getId().getValue());
         return new OrderCancelledEvent(order, OffsetDateTime.now(ZoneId.of(UTC)));
     }
 
     @Override
     public void cancelOrder(Order order, List<String> failureMessages) {
-        order.cancel(failureMessages);
+        try {
+            order.cancel(failureMessages);
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        }
+        orderMetrics.recordTransition(OrderTransition.CANCELLED);
         log.info("Order with id: {} is cancelled", order.getId().getValue());
     }
 
+    private OrderInitiationResult initiateBatchOrder(Order order,
+                                                     Map<RestaurantId, CompletableFuture<Restaurant>> restaurants,
+                                                     Function<RestaurantId, Optional<Restaurant>> restaurantResolver) {
+        RestaurantId restaurantId = order.getRestaurantId();
+        Restaurant restaurant;
+        try {
+            restaurant = resolveRestaurant(restaurantId, restaurants, restaurantResolver);
+        } catch (RuntimeException e) {
+            OrderDomainException failure = toOrderDomainException(e);
+            orderMetrics.recordFailure(failure.getReason());
+            log.error("Order for restaurant with id: {} could not be initiated: {}", restaurantId.getValue(),
+                    failure.getMessage());
+            return OrderInitiationResult.failure(order, failure);
+        }
+
+        try {
+            return OrderInitiationResult.success(validateAndInitiateOrder(order, restaurant));
+        } catch (RuntimeException e) {
+            OrderDomainException failure = toOrderDomainException(e);
+            log.error("Order for restaurant with id: {} could not be initiated: {}", restaurantId.getValue(),
+                    failure.getMessage());
+            return OrderInitiationResult.failure(order, failure);
+        }
+    }
+
+    private static Restaurant resolveRestaurant(RestaurantId restaurantId,
+                                                Map<RestaurantId, CompletableFuture<Restaurant>> restaurants,
+                                                Function<RestaurantId, Optional<Restaurant>> restaurantResolver) {
+        CompletableFuture<Restaurant> resolution = new CompletableFuture<>();
+        CompletableFuture<Restaurant> existing = restaurants.putIfAbsent(restaurantId, resolution);
+        if (Objects.nonNull(existing)) {
+            return join(existing);
+        }
+        try {
+            resolution.complete(restaurantResolver.apply(restaurantId).orElseThrow(() ->
+                    new OrderDomainException("Could not find restaurant with id " + restaurantId.getValue() + "!",
+                            OrderFailureReason.RESTAURANT_NOT_FOUND)));
+        } catch (RuntimeException e) {
+            resolution.completeExceptionally(e);
+        }
+        return join(resolution);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static OrderDomainException toOrderDomainException(RuntimeException e) {
+        if (e instanceof OrderDomainException orderDomainException) {
+            return orderDomainException;
+        }
+        return new OrderDomainException(e instanceof DomainException ? e.getMessage() :
+                "Order could not be initiated: " + e, e);
+    }
+
+    private void recordFailure(RuntimeException e) {
+        orderMetrics.recordFailure(e instanceof OrderDomainException orderDomainException ?
+                orderDomainException.getReason() : OrderFailureReason.UNSPECIFIED);
+    }
+
     private void validateRestaurant(Restaurant restaurant) {
         if (!restaurant.isActive()) {
-            throw new OrderDomainException("Restaurant with id " + restaurant.getId().getValue() + " is currently not active!");
+            throw new OrderDomainException("Restaurant with id " + restaurant.getId().getValue() + " is currently not active!",
+                    OrderFailureReason.RESTAURANT_NOT_ACTIVE);
         }
     }
 
 
     private void setOrderProductInformation(Order order, Restaurant restaurant) {
-        Map<ProductId, Product> restaurantProductMap = restaurant.getProducts().stream()
-                .collect(Collectors.toMap(Product::getId, Function.identity()));
-
-        order.getItems().forEach(orderItem -> {
+        for (OrderItem orderItem : order.getItems()) {
             Product currentProduct = orderItem.getProduct();
-            Product restaurantProduct = restaurantProductMap.get(currentProduct.getId());
+            Product restaurantProduct = restaurant.findProduct(currentProduct.getId())
+                    .orElseThrow(() -> new OrderDomainException("Product with id " + currentProduct.getId().getValue() +
+                            " is not available in restaurant with id " + restaurant.getId().getValue() + "!",
+                            OrderFailureReason.PRODUCT_NOT_AVAILABLE));
             currentProduct.updateWithConfirmedNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
-        });
+        }
+    }
+
+    /**
+     * One executor for every service built without one, created on first use.
+     */
+    private static final class SharedBatchExecutor {
+        private static final ExecutorService INSTANCE = newBatchExecutor(BATCH_THREADS);
     }
 }
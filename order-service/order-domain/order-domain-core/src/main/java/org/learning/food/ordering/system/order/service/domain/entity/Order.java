@@ -1,18 +1,23 @@
 package org.learning.food.ordering.system.order.service.domain.entity;
 
 import org.learning.food.ordering.system.domain.entity.AggregateRoot;
+import org.learning.food.ordering.system.domain.id.IdGenerator;
 import org.learning.food.ordering.system.domain.valueobject.*;
 import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
 import org.learning.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.learning.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
-import static java.util.UUID.randomUUID;
-import static org.learning.food.ordering.system.domain.valueobject.Money.ZERO;
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.*;
 import static org.learning.food.ordering.system.domain.valueobject.OrderStatus.*;
+import static org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason.*;
 
 public class Order extends AggregateRoot<OrderId> {
     public static final String PAY_OPERATION_EXCEPTION_MESSAGE = "Order is not in the correct state for pay operation!";
@@ -21,15 +26,28 @@ public class Order extends AggregateRoot<OrderId> {
     public static final String CANCEL_OPERATION_EXCEPTION_MESSAGE = "Order is not in the correct state for cancel operation!";
     public static final String ORDER_INITIALIZATION_EXCEPTION_MESSAGE = "Order is not in correct state for initialization!";
     public static final String INVALID_ORDER_PRICE_EXCEPTION_MESSAGE = "Total price must be greater than zero!";
+    public static final long UNPERSISTED_VERSION = -1L;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Order.class, "state", State.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final CustomerId customerId;
     private final RestaurantId restaurantId;
     private final StreetAddress streetAddress;
     private final Money price;
     private final List<OrderItem> items;
+    private final long priceMinorUnits;
 
     private TrackingId trackingId;
-    private OrderStatus orderStatus;
-    private List<String> failureMessages;
+    private volatile State state;
+    private volatile long persistedVersion;
 
     private Order(Builder builder) {
         super.setId(builder.orderId);
@@ -38,9 +56,11 @@ public class Order extends AggregateRoot<OrderId> {
         streetAddress = builder.streetAddress;
         price = builder.price;
         items = builder.items;
+        priceMinorUnits = toMinorUnitsOrNone(price);
         trackingId = builder.trackingId;
-        orderStatus = builder.orderStatus;
-        failureMessages = builder.failureMessages;
+        state = new State(builder.orderStatus, Math.max(builder.version, 0L),
+                Objects.isNull(builder.failureMessages) ? null : FailureMessages.of(builder.failureMessages));
+        persistedVersion = builder.version;
     }
 
     public void validateOrder() {
@@ -50,82 +70,98 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     public void pay() {
-        if (!orderStatus.equals(PENDING)) {
-            throw new OrderDomainException(PAY_OPERATION_EXCEPTION_MESSAGE);
-        }
-        orderStatus = PAID;
+        transition(PAID, null, PAY_OPERATION_EXCEPTION_MESSAGE);
     }
 
     public void approve() {
-        if (!orderStatus.equals(PAID)) {
-            throw new OrderDomainException(APPROVE_OPERATION_EXCEPTION_MESSAGE);
-        }
-        orderStatus = APPROVED;
+        transition(APPROVED, null, APPROVE_OPERATION_EXCEPTION_MESSAGE);
     }
 
     public void initCancel(List<String> failureMessages) {
-        if (!orderStatus.equals(PAID)) {
-            throw new OrderDomainException(INIT_CANCEL_OPERATION_EXCEPTION_MESSAGE);
-        }
-        orderStatus = CANCELLING;
-        updateFailureMessages(failureMessages);
+        transition(CANCELLING, validFailureMessages(failureMessages), INIT_CANCEL_OPERATION_EXCEPTION_MESSAGE);
     }
 
     public void cancel(List<String> failureMessages) {
-        if (!(orderStatus.equals(PENDING) || orderStatus.equals(CANCELLING))) {
-            throw new OrderDomainException(CANCEL_OPERATION_EXCEPTION_MESSAGE);
-        }
-        orderStatus = CANCELLED;
-        updateFailureMessages(failureMessages);
+        transition(CANCELLED, validFailureMessages(failureMessages), CANCEL_OPERATION_EXCEPTION_MESSAGE);
+    }
+
+    private void transition(OrderStatus targetStatus, FailureMessages newFailureMessages, String exceptionMessage) {
+        State current;
+        State next;
+        do {
+            current = state;
+            if (Objects.isNull(current.orderStatus()) || !current.orderStatus().canTransitionTo(targetStatus)) {
+                throw new OrderDomainException(exceptionMessage, INVALID_ORDER_STATE);
+            }
+            next = new State(targetStatus, current.version() + 1,
+                    mergeFailureMessages(current.failureMessages(), newFailureMessages));
+        } while (!STATE.compareAndSet(this, current, next));
     }
 
-    private void updateFailureMessages(List<String> failureMessages) {
+    private static FailureMessages validFailureMessages(List<String> failureMessages) {
         assert !Objects.isNull(failureMessages);
 
-        if (!Objects.isNull(this.failureMessages)) {
-            this.failureMessages.addAll(failureMessages.stream().filter(message -> !message.isBlank()).toList());
-        }
+        return FailureMessages.ofNonBlank(failureMessages);
+    }
 
-        if (Objects.isNull(this.failureMessages)) {
-            this.failureMessages = failureMessages.stream().filter(message -> !message.isBlank()).toList();
+    private static FailureMessages mergeFailureMessages(FailureMessages currentFailureMessages,
+                                                        FailureMessages newFailureMessages) {
+        if (Objects.isNull(newFailureMessages)) {
+            return currentFailureMessages;
+        }
+        if (Objects.isNull(currentFailureMessages)) {
+            return newFailureMessages;
         }
+        return currentFailureMessages.concat(newFailureMessages);
     }
 
     private void validateInitialOrder() {
-        if (!(Objects.isNull(orderStatus) || Objects.isNull(getId()))) {
-            throw new OrderDomainException(ORDER_INITIALIZATION_EXCEPTION_MESSAGE);
+        if (!(Objects.isNull(state.orderStatus()) || Objects.isNull(getId()))) {
+            throw new OrderDomainException(ORDER_INITIALIZATION_EXCEPTION_MESSAGE, INVALID_ORDER_STATE);
         }
     }
 
     private void validateTotalPrice() {
         if (Objects.isNull(price) || !price.isGreaterThanZero()) {
-            throw new OrderDomainException(INVALID_ORDER_PRICE_EXCEPTION_MESSAGE);
+            throw new OrderDomainException(INVALID_ORDER_PRICE_EXCEPTION_MESSAGE, INVALID_TOTAL_PRICE);
+        }
+        if (priceMinorUnits == NOT_MINOR_UNITS) {
+            throw new OrderDomainException("Total price: " + price.amount() + " cannot be represented with " +
+                    SCALE + " decimal places!", INVALID_TOTAL_PRICE);
         }
     }
 
     private void validateItemsPrice() {
-        Money orderItemsTotal = items.stream().map(orderItem -> {
+        long orderItemsTotal = 0L;
+        for (OrderItem orderItem : items) {
             validateItemPrice(orderItem);
-            return orderItem.getSubTotal();
-        }).reduce(ZERO, Money::add);
+            orderItemsTotal = add(orderItemsTotal, orderItem.getSubTotalMinorUnits());
+        }
 
-        if (!price.equals(orderItemsTotal)) {
+        if (priceMinorUnits != orderItemsTotal) {
             throw new OrderDomainException("Total price: " + price.amount() + "is not equal to Order items total: " +
-                    orderItemsTotal.amount() + "!");
+                    toMoney(orderItemsTotal).amount() + "!", ITEMS_TOTAL_MISMATCH);
         }
     }
 
     private void validateItemPrice(OrderItem orderItem) {
         if (!orderItem.isPriceValid()) {
             throw new OrderDomainException("Order item price: " + orderItem.getPrice().amount() +
-                    "is not valid for product " + orderItem.getProduct().getId().getValue() + "!");
+                    "is not valid for product " + orderItem.getProduct().getId().getValue() + "!", INVALID_ITEM_PRICE);
         }
     }
 
     public void initializeOrder() {
-        setId(new OrderId(randomUUID()));
-        trackingId = new TrackingId(randomUUID());
-        orderStatus = PENDING;
+        initializeOrder(IdGenerator.timeOrdered());
+    }
+
+    // The tracking id is the key customers look orders up by, so it always comes from SecureRandom rather than from
+    // the order id generator, whose ids may be predictable.
+    public void initializeOrder(IdGenerator idGenerator) {
+        setId(new OrderId(idGenerator.generate()));
+        trackingId = new TrackingId(UUID.randomUUID());
+        State current = state;
+        state = new State(PENDING, current.version(), current.failureMessages());
         initializeOrderItems();
     }
 
@@ -161,11 +197,30 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     public OrderStatus getOrderStatus() {
-        return orderStatus;
+        return state.orderStatus();
+    }
+
+    public FailureMessages getFailureMessages() {
+        return state.failureMessages();
+    }
+
+    public long getVersion() {
+        return state.version();
+    }
+
+    public long getPersistedVersion() {
+        return persistedVersion;
+    }
+
+    public boolean isPersisted() {
+        return persistedVersion != UNPERSISTED_VERSION;
+    }
+
+    public void markPersisted(long version) {
+        persistedVersion = version;
     }
 
-    public List<String> getFailureMessages() {
-        return failureMessages;
+    private record State(OrderStatus orderStatus, long version, FailureMessages failureMessages) {
     }
 
     public static final class Builder {
@@ -178,6 +233,7 @@ public class Order extends AggregateRoot<OrderId> {
         private TrackingId trackingId;
         private OrderStatus orderStatus;
         private List<String> failureMessages;
+        private long version = UNPERSISTED_VERSION;
 
         private Builder() {
         }
@@ -231,6 +287,11 @@ public class Order extends AggregateRoot<OrderId> {
             return this;
         }
 
+        public Builder version(long val) {
+            version = val;
+            return this;
+        }
+
         public Order build() {
             return new Order(this);
         }
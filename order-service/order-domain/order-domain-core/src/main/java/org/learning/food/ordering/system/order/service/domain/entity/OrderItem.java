@@ -5,11 +5,15 @@ import org.learning.food.ordering.system.domain.valueobject.Money;
 import org.learning.food.ordering.system.domain.valueobject.OrderId;
 import org.learning.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.*;
+
 public class OrderItem extends BaseEntity<OrderItemId> {
     private final Product product;
     private final int quantity;
     private final Money price;
     private final Money subTotal;
+    private final long priceMinorUnits;
+    private final long subTotalMinorUnits;
     private OrderId orderId;
 
     private OrderItem(Builder builder) {
@@ -18,6 +22,9 @@ public class OrderItem extends BaseEntity<OrderItemId> {
         quantity = builder.quantity;
         price = builder.price;
         subTotal = builder.subTotal;
+        priceMinorUnits = toMinorUnitsOrNone(price);
+        subTotalMinorUnits = toMinorUnitsOrNone(subTotal);
+        orderId = builder.orderId;
     }
 
     void initializeOrderItem(OrderId orderId, OrderItemId orderItemId) {
@@ -25,10 +32,23 @@ public class OrderItem extends BaseEntity<OrderItemId> {
         super.setId(orderItemId);
     }
 
+    // A unit price may carry sub-cent precision; its subtotal is then checked against the rounded product, the way
+    // Money arithmetic computes it.
     boolean isPriceValid() {
-        return price.isGreaterThanZero() &&
-                price.equals(product.getPrice()) &&
-                price.multiply(quantity).equals(subTotal);
+        if (!price.isGreaterThanZero()) {
+            return false;
+        }
+        if (priceMinorUnits == NOT_MINOR_UNITS) {
+            return product.getPriceMinorUnits() == NOT_MINOR_UNITS &&
+                    price.amount().compareTo(product.getPrice().amount()) == 0 &&
+                    toMinorUnitsOrNone(price.multiply(quantity)) == subTotalMinorUnits;
+        }
+        return priceMinorUnits == product.getPriceMinorUnits() &&
+                multiply(priceMinorUnits, quantity) == subTotalMinorUnits;
+    }
+
+    long getSubTotalMinorUnits() {
+        return subTotalMinorUnits;
     }
 
     public OrderId getOrderId() {
@@ -57,6 +77,7 @@ public class OrderItem extends BaseEntity<OrderItemId> {
         private int quantity;
         private Money price;
         private Money subTotal;
+        private OrderId orderId;
 
         private Builder() {
         }
@@ -90,6 +111,11 @@ public class OrderItem extends BaseEntity<OrderItemId> {
             return this;
         }
 
+        public Builder orderId(OrderId val) {
+            orderId = val;
+            return this;
+        }
+
         public OrderItem build() {
             return new OrderItem(this);
         }
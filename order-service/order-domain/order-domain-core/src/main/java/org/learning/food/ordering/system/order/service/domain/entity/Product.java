@@ -4,14 +4,18 @@ import org.learning.food.ordering.system.domain.entity.BaseEntity;
 import org.learning.food.ordering.system.domain.valueobject.Money;
 import org.learning.food.ordering.system.domain.valueobject.ProductId;
 
+import static org.learning.food.ordering.system.domain.valueobject.FixedPointMoney.toMinorUnitsOrNone;
+
 public class Product extends BaseEntity<ProductId> {
     private String name;
     private Money price;
+    private long priceMinorUnits;
 
     public Product(ProductId productId, String name, Money price) {
         super.setId(productId);
         this.name = name;
         this.price = price;
+        this.priceMinorUnits = toMinorUnitsOrNone(price);
     }
 
     public String getName() {
@@ -22,8 +26,13 @@ public class Product extends BaseEntity<ProductId> {
         return price;
     }
 
+    long getPriceMinorUnits() {
+        return priceMinorUnits;
+    }
+
     public void updateWithConfirmedNameAndPrice(String name, Money price) {
         this.name = name;
         this.price = price;
+        this.priceMinorUnits = toMinorUnitsOrNone(price);
     }
 }
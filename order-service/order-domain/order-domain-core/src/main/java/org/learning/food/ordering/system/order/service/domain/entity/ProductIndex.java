@@ -0,0 +1,90 @@
+package org.learning.food.ordering.system.order.service.domain.entity;
+
+import org.learning.food.ordering.system.domain.valueobject.ProductId;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Open-addressing table from product id to product, built once per restaurant snapshot. When the list holds the same
+ * id more than once, the later product replaces the earlier one, as it would in a map built from the list.
+ */
+public final class ProductIndex {
+    private static final int MIN_CAPACITY = 2;
+
+    private final long[] mostSignificantBits;
+    private final long[] leastSignificantBits;
+    private final Product[] products;
+    private final int mask;
+    private final int size;
+
+    private ProductIndex(List<Product> productList) {
+        int capacity = capacityFor(productList.size());
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        products = new Product[capacity];
+        mask = capacity - 1;
+        int count = 0;
+        for (Product product : productList) {
+            if (put(product)) {
+                count++;
+            }
+        }
+        size = count;
+    }
+
+    public static ProductIndex of(List<Product> products) {
+        return new ProductIndex(Objects.isNull(products) ? List.of() : products);
+    }
+
+    public Optional<Product> find(ProductId productId) {
+        UUID value = productId.getValue();
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        for (int slot = slotFor(msb, lsb); ; slot = (slot + 1) & mask) {
+            Product product = products[slot];
+            if (Objects.isNull(product)) {
+                return Optional.empty();
+            }
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return Optional.of(product);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean put(Product product) {
+        UUID value = product.getId().getValue();
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        int slot = slotFor(msb, lsb);
+        while (Objects.nonNull(products[slot])) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                products[slot] = product;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        mostSignificantBits[slot] = msb;
+        leastSignificantBits[slot] = lsb;
+        products[slot] = product;
+        return true;
+    }
+
+    private int slotFor(long msb, long lsb) {
+        long hash = msb ^ lsb;
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (hash ^ (hash >>> 33)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize) * 2 - 1) << 1;
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+}
@@ -1,17 +1,22 @@
 package org.learning.food.ordering.system.order.service.domain.entity;
 
 import org.learning.food.ordering.system.domain.entity.AggregateRoot;
+import org.learning.food.ordering.system.domain.valueobject.ProductId;
 import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
     private final List<Product> products;
+    private final ProductIndex productIndex;
     private boolean active;
 
     private Restaurant(Builder builder) {
         super.setId(builder.restaurantId);
-        products = builder.products;
+        products = Objects.isNull(builder.products) ? null : List.copyOf(builder.products);
+        productIndex = ProductIndex.of(products);
         active = builder.active;
     }
 
@@ -19,6 +24,10 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         return products;
     }
 
+    public Optional<Product> findProduct(ProductId productId) {
+        return productIndex.find(productId);
+    }
+
     public boolean isActive() {
         return active;
     }
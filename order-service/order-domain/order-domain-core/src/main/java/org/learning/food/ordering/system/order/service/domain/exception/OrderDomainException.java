@@ -3,12 +3,23 @@ package org.learning.food.ordering.system.order.service.domain.exception;
 import org.learning.food.ordering.system.domain.exception.DomainException;
 
 public class OrderDomainException extends DomainException {
+    private final OrderFailureReason reason;
 
     public OrderDomainException(String message) {
-        super(message);
+        this(message, OrderFailureReason.UNSPECIFIED);
     }
 
     public OrderDomainException(String message, Throwable cause) {
         super(message, cause);
+        this.reason = OrderFailureReason.UNSPECIFIED;
+    }
+
+    public OrderDomainException(String message, OrderFailureReason reason) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public OrderFailureReason getReason() {
+        return reason;
     }
 }
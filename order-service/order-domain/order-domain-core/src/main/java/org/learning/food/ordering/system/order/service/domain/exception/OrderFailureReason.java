@@ -0,0 +1,13 @@
+package org.learning.food.ordering.system.order.service.domain.exception;
+
+public enum OrderFailureReason {
+    UNSPECIFIED,
+    RESTAURANT_NOT_FOUND,
+    RESTAURANT_NOT_ACTIVE,
+    PRODUCT_NOT_AVAILABLE,
+    INVALID_ORDER_STATE,
+    INVALID_TOTAL_PRICE,
+    INVALID_ITEM_PRICE,
+    ITEMS_TOTAL_MISMATCH,
+    VERSION_CONFLICT
+}
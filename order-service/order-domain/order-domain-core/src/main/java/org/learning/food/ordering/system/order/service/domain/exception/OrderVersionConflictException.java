@@ -0,0 +1,23 @@
+package org.learning.food.ordering.system.order.service.domain.exception;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderId;
+
+public class OrderVersionConflictException extends OrderDomainException {
+    private final OrderId orderId;
+    private final long expectedVersion;
+
+    public OrderVersionConflictException(OrderId orderId, long expectedVersion) {
+        super("Order with id " + orderId.getValue() + " was modified concurrently, expected version " +
+                expectedVersion + "!", OrderFailureReason.VERSION_CONFLICT);
+        this.orderId = orderId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
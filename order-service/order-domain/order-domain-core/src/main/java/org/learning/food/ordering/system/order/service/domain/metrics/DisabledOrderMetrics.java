@@ -0,0 +1,27 @@
+package org.learning.food.ordering.system.order.service.domain.metrics;
+
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+
+final class DisabledOrderMetrics implements OrderMetrics {
+    static final DisabledOrderMetrics INSTANCE = new DisabledOrderMetrics();
+
+    private DisabledOrderMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordTransition(OrderTransition transition) {
+    }
+
+    @Override
+    public void recordFailure(OrderFailureReason reason) {
+    }
+
+    @Override
+    public void recordInitiationLatency(long nanos) {
+    }
+}
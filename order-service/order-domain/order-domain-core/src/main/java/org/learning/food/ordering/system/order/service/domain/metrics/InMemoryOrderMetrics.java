@@ -0,0 +1,62 @@
+package org.learning.food.ordering.system.order.service.domain.metrics;
+
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class InMemoryOrderMetrics implements OrderMetrics {
+    private static final OrderTransition[] TRANSITIONS = OrderTransition.values();
+    private static final OrderFailureReason[] FAILURE_REASONS = OrderFailureReason.values();
+
+    private final LongAdder[] transitionCounters = newCounters(TRANSITIONS.length);
+    private final LongAdder[] failureCounters = newCounters(FAILURE_REASONS.length);
+    private final LatencyHistogram initiationLatency;
+
+    public InMemoryOrderMetrics() {
+        this(new LatencyHistogram());
+    }
+
+    public InMemoryOrderMetrics(LatencyHistogram initiationLatency) {
+        this.initiationLatency = initiationLatency;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordTransition(OrderTransition transition) {
+        transitionCounters[transition.ordinal()].increment();
+    }
+
+    @Override
+    public void recordFailure(OrderFailureReason reason) {
+        failureCounters[reason.ordinal()].increment();
+    }
+
+    @Override
+    public void recordInitiationLatency(long nanos) {
+        initiationLatency.record(nanos);
+    }
+
+    public long transitionCount(OrderTransition transition) {
+        return transitionCounters[transition.ordinal()].sum();
+    }
+
+    public long failureCount(OrderFailureReason reason) {
+        return failureCounters[reason.ordinal()].sum();
+    }
+
+    public LatencyHistogram initiationLatency() {
+        return initiationLatency;
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
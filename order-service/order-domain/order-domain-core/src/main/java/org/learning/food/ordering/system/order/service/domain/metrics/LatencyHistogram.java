@@ -0,0 +1,106 @@
+package org.learning.food.ordering.system.order.service.domain.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of non-negative values (nanoseconds) with a fixed bucket array.
+ * Values below {@code 2^subBucketBits} are exact; above that each power of two is split into
+ * {@code 2^(subBucketBits - 1)} linear buckets, bounding the relative error by {@code 2^-(subBucketBits - 1)}.
+ * Values above {@code highestTrackableValue} are clamped. Recording never allocates.
+ */
+public class LatencyHistogram {
+    private static final int DEFAULT_SUB_BUCKET_BITS = 8;
+    private static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = TimeUnit.SECONDS.toNanos(60);
+
+    private final int subBucketBits;
+    private final int subBucketHalfCountMagnitude;
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public LatencyHistogram() {
+        this(DEFAULT_SUB_BUCKET_BITS, DEFAULT_HIGHEST_TRACKABLE_VALUE);
+    }
+
+    public LatencyHistogram(int subBucketBits, long highestTrackableValue) {
+        if (subBucketBits < 2 || subBucketBits > 16) {
+            throw new IllegalArgumentException("subBucketBits must be between 2 and 16");
+        }
+        if (highestTrackableValue < (1L << subBucketBits)) {
+            throw new IllegalArgumentException("highestTrackableValue must be at least 2^subBucketBits");
+        }
+        this.subBucketBits = subBucketBits;
+        this.subBucketHalfCountMagnitude = subBucketBits - 1;
+        this.highestTrackableValue = highestTrackableValue;
+        this.counts = new AtomicLongArray(bucketIndex(highestTrackableValue) + 1);
+    }
+
+    public void record(long value) {
+        long clamped = value < 0 ? 0 : Math.min(value, highestTrackableValue);
+        counts.getAndIncrement(bucketIndex(clamped));
+        totalCount.increment();
+        totalSum.add(clamped);
+        long currentMax = maxValue.get();
+        while (clamped > currentMax && !maxValue.compareAndSet(currentMax, clamped)) {
+            currentMax = maxValue.get();
+        }
+    }
+
+    public long count() {
+        return totalCount.sum();
+    }
+
+    public long max() {
+        return maxValue.get();
+    }
+
+    public double mean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0.0 : (double) totalSum.sum() / count;
+    }
+
+    public long valueAtPercentile(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long cumulative = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            cumulative += counts.get(index);
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(index), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    public int bucketCount() {
+        return counts.length();
+    }
+
+    public void reset() {
+        for (int index = 0; index < counts.length(); index++) {
+            counts.set(index, 0);
+        }
+        totalCount.reset();
+        totalSum.reset();
+        maxValue.set(0);
+    }
+
+    private int bucketIndex(long value) {
+        int magnitude = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - subBucketBits);
+        return (magnitude << subBucketHalfCountMagnitude) + (int) (value >>> magnitude);
+    }
+
+    private long highestEquivalentValue(int index) {
+        int magnitude = Math.max(0, (index >>> subBucketHalfCountMagnitude) - 1);
+        long subBucket = index - ((long) magnitude << subBucketHalfCountMagnitude);
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+}
@@ -0,0 +1,18 @@
+package org.learning.food.ordering.system.order.service.domain.metrics;
+
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+
+public interface OrderMetrics {
+
+    boolean isEnabled();
+
+    void recordTransition(OrderTransition transition);
+
+    void recordFailure(OrderFailureReason reason);
+
+    void recordInitiationLatency(long nanos);
+
+    static OrderMetrics disabled() {
+        return DisabledOrderMetrics.INSTANCE;
+    }
+}
@@ -0,0 +1,9 @@
+package org.learning.food.ordering.system.order.service.domain.metrics;
+
+public enum OrderTransition {
+    INITIATED,
+    PAID,
+    APPROVED,
+    CANCELLING,
+    CANCELLED
+}
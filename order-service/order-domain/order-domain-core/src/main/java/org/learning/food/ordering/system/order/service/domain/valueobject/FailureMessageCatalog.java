@@ -0,0 +1,138 @@
+package org.learning.food.ordering.system.order.service.domain.valueobject;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps known failure messages to small integer codes so that repeated reasons are held and stored once. Looking up
+ * a code never registers anything: only messages passed to {@link #register} get a code, from the
+ * {@link CodeAllocator}, which is a local sequence until a persistent allocator is installed. Any other message is
+ * kept as free text by {@link FailureMessages}, so free text from external services cannot fill the catalog.
+ * <p>
+ * Reads are lock-free. A code this instance has not seen, such as one registered by another instance after start-up,
+ * is resolved through the installed {@link MessageLookup} and cached.
+ */
+@Slf4j
+public final class FailureMessageCatalog {
+    public static final int NO_CODE = -1;
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final int MAX_MESSAGE_LENGTH = 512;
+
+    private static final FailureMessageCatalog SHARED = new FailureMessageCatalog(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final Map<String, Integer> codesByMessage = new ConcurrentHashMap<>();
+    private volatile String[] messagesByCode = new String[64];
+    private CodeAllocator codeAllocator;
+    private volatile MessageLookup messageLookup = code -> Optional.empty();
+    private int nextLocalCode;
+
+    public FailureMessageCatalog(int capacity) {
+        this.capacity = capacity;
+        this.codeAllocator = message -> nextLocalCode++;
+    }
+
+    public static FailureMessageCatalog shared() {
+        return SHARED;
+    }
+
+    public int code(String message) {
+        Integer code = codesByMessage.get(message);
+        return Objects.isNull(code) ? NO_CODE : code;
+    }
+
+    public int register(String message) {
+        Integer code = codesByMessage.get(message);
+        if (!Objects.isNull(code)) {
+            return code;
+        }
+        if (message.length() > MAX_MESSAGE_LENGTH || codesByMessage.size() >= capacity) {
+            return NO_CODE;
+        }
+        return allocate(message);
+    }
+
+    public String message(int code) {
+        String[] messages = messagesByCode;
+        String message = code >= 0 && code < messages.length ? messages[code] : null;
+        return Objects.isNull(message) ? resolve(code) : message;
+    }
+
+    public int size() {
+        return codesByMessage.size();
+    }
+
+    public synchronized void install(Map<Integer, String> knownMessages, CodeAllocator codeAllocator,
+                                     MessageLookup messageLookup) {
+        for (Map.Entry<String, Integer> entry : codesByMessage.entrySet()) {
+            if (!entry.getKey().equals(knownMessages.get(entry.getValue()))) {
+                throw new OrderDomainException("Failure message catalog already assigned code " + entry.getValue() +
+                        " to a message the installed catalog does not know!");
+            }
+        }
+        knownMessages.forEach(this::put);
+        this.codeAllocator = codeAllocator;
+        this.messageLookup = messageLookup;
+        log.info("Failure message catalog is installed with {} messages", knownMessages.size());
+    }
+
+    private String resolve(int code) {
+        Optional<String> message = code < 0 ? Optional.empty() : messageLookup.find(code);
+        if (message.isEmpty()) {
+            throw new OrderDomainException("Unknown failure message code: " + code + "!");
+        }
+        put(code, message.get());
+        return message.get();
+    }
+
+    private synchronized int allocate(String message) {
+        Integer code = codesByMessage.get(message);
+        if (!Objects.isNull(code)) {
+            return code;
+        }
+        int allocatedCode;
+        try {
+            allocatedCode = codeAllocator.allocate(message);
+        } catch (RuntimeException e) {
+            log.warn("Failure message could not be registered in catalog, keeping it as free text: {}",
+                    e.getMessage());
+            return NO_CODE;
+        }
+        put(allocatedCode, message);
+        return allocatedCode;
+    }
+
+    private synchronized void put(int code, String message) {
+        if (code < 0) {
+            throw new OrderDomainException("Failure message code must not be negative: " + code + "!");
+        }
+        String[] messages = messagesByCode;
+        if (code >= messages.length) {
+            messages = Arrays.copyOf(messages, Math.max(messages.length * 2, code + 1));
+        } else {
+            messages = messages.clone();
+        }
+        messages[code] = message;
+        messagesByCode = messages;
+        codesByMessage.put(message, code);
+        nextLocalCode = Math.max(nextLocalCode, code + 1);
+    }
+
+    @FunctionalInterface
+    public interface CodeAllocator {
+
+        int allocate(String message);
+    }
+
+    @FunctionalInterface
+    public interface MessageLookup {
+
+        Optional<String> find(int code);
+    }
+}
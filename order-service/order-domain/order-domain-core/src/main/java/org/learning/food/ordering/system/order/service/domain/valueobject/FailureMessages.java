@@ -0,0 +1,127 @@
+package org.learning.food.ordering.system.order.service.domain.valueobject;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of failure messages held as catalog codes. A message without a code is kept as free text in the
+ * overflow array and referenced by a negative code, {@code -1 - overflowIndex}. Messages are rendered from the
+ * catalog on access, so orders sharing a reason share one string.
+ */
+public final class FailureMessages extends AbstractList<String> implements RandomAccess {
+    private static final int[] NO_CODES = new int[0];
+    private static final FailureMessages EMPTY = new FailureMessages(FailureMessageCatalog.shared(), NO_CODES, null);
+
+    private final FailureMessageCatalog catalog;
+    private final int[] codes;
+    private final String[] overflow;
+
+    private FailureMessages(FailureMessageCatalog catalog, int[] codes, String[] overflow) {
+        this.catalog = catalog;
+        this.codes = codes;
+        this.overflow = overflow;
+    }
+
+    public static FailureMessages empty() {
+        return EMPTY;
+    }
+
+    public static FailureMessages of(List<String> messages) {
+        if (messages instanceof FailureMessages failureMessages) {
+            return failureMessages;
+        }
+        return encode(FailureMessageCatalog.shared(), messages, false);
+    }
+
+    public static FailureMessages ofNonBlank(List<String> messages) {
+        if (messages instanceof FailureMessages failureMessages && !failureMessages.hasBlankMessage()) {
+            return failureMessages;
+        }
+        return encode(FailureMessageCatalog.shared(), messages, true);
+    }
+
+    public static FailureMessages fromCodes(int[] codes, List<String> overflowMessages) {
+        return new FailureMessages(FailureMessageCatalog.shared(), codes.clone(),
+                Objects.isNull(overflowMessages) || overflowMessages.isEmpty() ? null :
+                        overflowMessages.toArray(String[]::new));
+    }
+
+    private static FailureMessages encode(FailureMessageCatalog catalog, List<String> messages, boolean skipBlank) {
+        int[] codes = new int[messages.size()];
+        String[] overflow = null;
+        int size = 0;
+        int overflowSize = 0;
+        for (String message : messages) {
+            if (skipBlank && message.isBlank()) {
+                continue;
+            }
+            int code = catalog.code(message);
+            if (code == FailureMessageCatalog.NO_CODE) {
+                if (Objects.isNull(overflow)) {
+                    overflow = new String[messages.size()];
+                }
+                overflow[overflowSize] = message;
+                code = -1 - overflowSize++;
+            }
+            codes[size++] = code;
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        return new FailureMessages(catalog, size == codes.length ? codes : Arrays.copyOf(codes, size),
+                Objects.isNull(overflow) ? null : Arrays.copyOf(overflow, overflowSize));
+    }
+
+    public FailureMessages concat(FailureMessages other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        int[] mergedCodes = Arrays.copyOf(codes, codes.length + other.codes.length);
+        int overflowSize = Objects.isNull(overflow) ? 0 : overflow.length;
+        for (int i = 0; i < other.codes.length; i++) {
+            int code = other.codes[i];
+            mergedCodes[codes.length + i] = code >= 0 ? code : code - overflowSize;
+        }
+        String[] mergedOverflow = overflow;
+        if (!Objects.isNull(other.overflow)) {
+            mergedOverflow = Arrays.copyOf(Objects.isNull(overflow) ? new String[0] : overflow,
+                    overflowSize + other.overflow.length);
+            System.arraycopy(other.overflow, 0, mergedOverflow, overflowSize, other.overflow.length);
+        }
+        return new FailureMessages(catalog, mergedCodes, mergedOverflow);
+    }
+
+    public int[] codes() {
+        return codes.clone();
+    }
+
+    public List<String> overflowMessages() {
+        return Objects.isNull(overflow) ? List.of() : List.of(overflow);
+    }
+
+    @Override
+    public String get(int index) {
+        int code = codes[index];
+        return code >= 0 ? catalog.message(code) : overflow[-1 - code];
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    private boolean hasBlankMessage() {
+        for (String message : this) {
+            if (message.isBlank()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package org.learning.food.ordering.system.order.service.domain.valueobject;
+
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+
+import java.util.Objects;
+
+public record OrderInitiationResult(Order order, OrderCreatedEvent orderCreatedEvent, OrderDomainException failure) {
+
+    public static OrderInitiationResult success(OrderCreatedEvent orderCreatedEvent) {
+        return new OrderInitiationResult(orderCreatedEvent.getOrder(), orderCreatedEvent, null);
+    }
+
+    public static OrderInitiationResult failure(Order order, OrderDomainException failure) {
+        return new OrderInitiationResult(order, null, failure);
+    }
+
+    public boolean isSuccessful() {
+        return Objects.nonNull(orderCreatedEvent);
+    }
+}
@@ -0,0 +1,151 @@
+package org.learning.food.ordering.system.order.service.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.entity.Order;
+import org.learning.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.learning.food.ordering.system.order.service.domain.entity.Product;
+import org.learning.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+import org.learning.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import org.learning.food.ordering.system.order.service.domain.valueobject.OrderInitiationResult;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderDomainServiceImplTest {
+    private static final Money PRICE = new Money(new BigDecimal("12.50"));
+    private static final ProductId PRODUCT_ID = new ProductId(UUID.randomUUID());
+
+    private final ExecutorService batchExecutor = OrderDomainServiceImpl.newBatchExecutor(4);
+    private final AtomicInteger batchTasks = new AtomicInteger();
+    private final OrderDomainServiceImpl orderDomainService = new OrderDomainServiceImpl(task -> {
+        batchTasks.incrementAndGet();
+        batchExecutor.execute(task);
+    }, 2, IdGenerator.timeOrdered(), OrderMetrics.disabled());
+
+    @AfterEach
+    void shutDown() {
+        batchExecutor.shutdownNow();
+    }
+
+    @Test
+    void ordersOfOneRestaurantAreSplitAcrossTasksAndTheRestaurantIsResolvedOnce() {
+        Restaurant restaurant = restaurant(true);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            orders.add(order(restaurant.getId()));
+        }
+        Map<RestaurantId, AtomicInteger> resolutions = new ConcurrentHashMap<>();
+
+        List<OrderInitiationResult> results = orderDomainService.validateAndInitiateOrders(orders, restaurantId -> {
+            resolutions.computeIfAbsent(restaurantId, id -> new AtomicInteger()).incrementAndGet();
+            return Optional.of(restaurant);
+        });
+
+        assertEquals(5, batchTasks.get());
+        assertEquals(1, resolutions.get(restaurant.getId()).get());
+        for (int i = 0; i < orders.size(); i++) {
+            assertTrue(results.get(i).isSuccessful());
+            assertSame(orders.get(i), results.get(i).order());
+            assertEquals(OrderStatus.PENDING, orders.get(i).getOrderStatus());
+        }
+    }
+
+    @Test
+    void domainFailuresAreReportedPerOrder() {
+        Restaurant active = restaurant(true);
+        Restaurant inactive = restaurant(false);
+        RestaurantId unknown = new RestaurantId(UUID.randomUUID());
+        List<Order> orders = List.of(order(active.getId()), order(inactive.getId()), order(unknown),
+                order(active.getId()));
+        Map<RestaurantId, Restaurant> restaurants = Map.of(active.getId(), active, inactive.getId(), inactive);
+
+        List<OrderInitiationResult> results = orderDomainService.validateAndInitiateOrders(orders,
+                restaurantId -> Optional.ofNullable(restaurants.get(restaurantId)));
+
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals(OrderFailureReason.RESTAURANT_NOT_ACTIVE, results.get(1).failure().getReason());
+        assertEquals(OrderFailureReason.RESTAURANT_NOT_FOUND, results.get(2).failure().getReason());
+        assertTrue(results.get(3).isSuccessful());
+    }
+
+    @Test
+    void productMissingFromTheMenuIsNotAvailable() {
+        Restaurant restaurant = Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(List.of(new Product(new ProductId(UUID.randomUUID()), "other product", PRICE)))
+                .active(true)
+                .build();
+
+        OrderDomainException failure = assertThrows(OrderDomainException.class,
+                () -> orderDomainService.validateAndInitiateOrder(order(restaurant.getId()), restaurant));
+
+        assertEquals(OrderFailureReason.PRODUCT_NOT_AVAILABLE, failure.getReason());
+    }
+
+    @Test
+    void resolverFailureFailsOnlyTheOrdersOfThatRestaurant() {
+        Restaurant available = restaurant(true);
+        RestaurantId failing = new RestaurantId(UUID.randomUUID());
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            orders.add(order(i % 2 == 0 ? failing : available.getId()));
+        }
+        AtomicInteger failingResolutions = new AtomicInteger();
+
+        List<OrderInitiationResult> results = orderDomainService.validateAndInitiateOrders(orders, restaurantId -> {
+            if (restaurantId.equals(failing)) {
+                failingResolutions.incrementAndGet();
+                throw new IllegalStateException("database is unavailable");
+            }
+            return Optional.of(available);
+        });
+
+        assertEquals(1, failingResolutions.get());
+        for (int i = 0; i < orders.size(); i++) {
+            OrderInitiationResult result = results.get(i);
+            assertSame(orders.get(i), result.order());
+            if (i % 2 == 0) {
+                assertFalse(result.isSuccessful());
+                assertEquals(OrderFailureReason.UNSPECIFIED, result.failure().getReason());
+                assertInstanceOf(IllegalStateException.class, result.failure().getCause());
+            } else {
+                assertTrue(result.isSuccessful());
+            }
+        }
+    }
+
+    private static Restaurant restaurant(boolean active) {
+        return Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(List.of(new Product(PRODUCT_ID, "product", PRICE)))
+                .active(active)
+                .build();
+    }
+
+    private static Order order(RestaurantId restaurantId) {
+        OrderItem orderItem = OrderItem.Builder.builder()
+                .product(new Product(PRODUCT_ID, null, PRICE))
+                .quantity(1)
+                .price(PRICE)
+                .subTotal(PRICE)
+                .build();
+        return Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(restaurantId)
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(PRICE)
+                .items(List.of(orderItem))
+                .build();
+    }
+}
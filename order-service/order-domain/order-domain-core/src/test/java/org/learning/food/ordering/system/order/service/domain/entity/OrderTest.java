@@ -0,0 +1,67 @@
+package org.learning.food.ordering.system.order.service.domain.entity;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.id.IdGenerator;
+import org.learning.food.ordering.system.domain.valueobject.*;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderFailureReason;
+import org.learning.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTest {
+    private static final ProductId PRODUCT_ID = new ProductId(UUID.randomUUID());
+
+    @Test
+    void trackingIdIsRandomEvenWithAPredictableOrderIdGenerator() {
+        UUID fixedId = new UUID(0L, 1L);
+        IdGenerator predictable = () -> fixedId;
+        Order first = order("10.00", 1, "10.00");
+        Order second = order("10.00", 1, "10.00");
+
+        first.initializeOrder(predictable);
+        second.initializeOrder(predictable);
+
+        assertEquals(fixedId, first.getId().getValue());
+        assertEquals(4, first.getTrackingId().getValue().version());
+        assertNotEquals(first.getTrackingId(), second.getTrackingId());
+    }
+
+    @Test
+    void subCentUnitPriceIsValidatedAgainstTheRoundedSubtotal() {
+        assertDoesNotThrow(() -> order("10.004", 3, "30.01").validateOrder());
+        assertDoesNotThrow(() -> order("10.00", 3, "30.0").validateOrder());
+        assertEquals(OrderFailureReason.ITEMS_TOTAL_MISMATCH, validationFailure(order("10.004", 3, "30.00")));
+    }
+
+    @Test
+    void totalPriceWithMoreThanTwoDecimalPlacesIsAValidationError() {
+        assertEquals(OrderFailureReason.INVALID_TOTAL_PRICE, validationFailure(order("10.004", 3, "30.012")));
+    }
+
+    private static OrderFailureReason validationFailure(Order order) {
+        return assertThrows(OrderDomainException.class, order::validateOrder).getReason();
+    }
+
+    static Order order(String itemPrice, int quantity, String orderPrice) {
+        Money price = new Money(new BigDecimal(itemPrice));
+        Money subTotal = new Money(new BigDecimal(orderPrice));
+        OrderItem orderItem = OrderItem.Builder.builder()
+                .product(new Product(PRODUCT_ID, "product", price))
+                .quantity(quantity)
+                .price(price)
+                .subTotal(subTotal)
+                .build();
+        return Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .streetAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(subTotal)
+                .items(List.of(orderItem))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package org.learning.food.ordering.system.order.service.domain.entity;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.Money;
+import org.learning.food.ordering.system.domain.valueobject.ProductId;
+import org.learning.food.ordering.system.domain.valueobject.RestaurantId;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductIndexTest {
+    private static final Money PRICE = new Money(new BigDecimal("12.50"));
+
+    @Test
+    void findsEveryProductOfALargeMenu() {
+        List<Product> menu = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            menu.add(product(UUID.randomUUID()));
+        }
+
+        ProductIndex productIndex = ProductIndex.of(menu);
+
+        assertEquals(menu.size(), productIndex.size());
+        for (Product product : menu) {
+            assertSame(product, productIndex.find(product.getId()).orElseThrow());
+        }
+        assertEquals(Optional.empty(), productIndex.find(new ProductId(UUID.randomUUID())));
+    }
+
+    @Test
+    void idsWithTheSameHashAreFoundAlongTheProbeChain() {
+        // The slot hash mixes msb ^ lsb, so every id below lands in the same home slot.
+        long sharedBits = 0x5DEECE66DL;
+        List<Product> menu = new ArrayList<>();
+        for (long lsb = 0; lsb < 64; lsb++) {
+            menu.add(product(new UUID(sharedBits ^ lsb, lsb)));
+        }
+
+        ProductIndex productIndex = ProductIndex.of(menu);
+
+        assertEquals(64, productIndex.size());
+        for (Product product : menu) {
+            assertSame(product, productIndex.find(product.getId()).orElseThrow());
+        }
+        assertEquals(Optional.empty(), productIndex.find(new ProductId(new UUID(sharedBits ^ 64, 64))));
+    }
+
+    @Test
+    void laterProductWithTheSameIdReplacesTheEarlierOne() {
+        UUID id = UUID.randomUUID();
+        Product first = product(id);
+        Product second = product(id);
+        Product other = product(UUID.randomUUID());
+
+        ProductIndex productIndex = ProductIndex.of(List.of(first, other, second));
+
+        assertEquals(2, productIndex.size());
+        assertSame(second, productIndex.find(new ProductId(id)).orElseThrow());
+        assertSame(other, productIndex.find(other.getId()).orElseThrow());
+    }
+
+    @Test
+    void missingOrNullMenuFindsNothing() {
+        assertEquals(0, ProductIndex.of(null).size());
+        assertEquals(Optional.empty(), ProductIndex.of(null).find(new ProductId(UUID.randomUUID())));
+        assertEquals(Optional.empty(), ProductIndex.of(List.of()).find(new ProductId(UUID.randomUUID())));
+    }
+
+    @Test
+    void restaurantIndexDoesNotFollowLaterChangesToTheCallersList() {
+        Product product = product(UUID.randomUUID());
+        List<Product> menu = new ArrayList<>(List.of(product));
+        Restaurant restaurant = Restaurant.Builder.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(menu)
+                .active(true)
+                .build();
+
+        Product added = product(UUID.randomUUID());
+        menu.add(added);
+        menu.remove(product);
+
+        assertEquals(List.of(product), restaurant.getProducts());
+        assertSame(product, restaurant.findProduct(product.getId()).orElseThrow());
+        assertEquals(Optional.empty(), restaurant.findProduct(added.getId()));
+    }
+
+    private static Product product(UUID id) {
+        return new Product(new ProductId(id), "product", PRICE);
+    }
+}
@@ -0,0 +1,69 @@
+package org.learning.food.ordering.system.order.service.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderDomainException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailureMessageCatalogTest {
+
+    @Test
+    void unknownMessagesAreKeptAsFreeTextWithoutRegistering() {
+        FailureMessageCatalog catalog = FailureMessageCatalog.shared();
+        String freeText = "Card declined for reference " + UUID.randomUUID();
+        int sizeBefore = catalog.size();
+
+        FailureMessages failureMessages = FailureMessages.of(List.of(freeText));
+
+        assertEquals(List.of(freeText), failureMessages);
+        assertEquals(List.of(freeText), failureMessages.overflowMessages());
+        assertEquals(FailureMessageCatalog.NO_CODE, catalog.code(freeText));
+        assertEquals(sizeBefore, catalog.size());
+    }
+
+    @Test
+    void registeredMessagesAreStoredAsCodes() {
+        String reason = "Registered reason " + UUID.randomUUID();
+        int code = FailureMessageCatalog.shared().register(reason);
+
+        FailureMessages failureMessages = FailureMessages.of(List.of(reason));
+
+        assertArrayEquals(new int[]{code}, failureMessages.codes());
+        assertTrue(failureMessages.overflowMessages().isEmpty());
+        assertEquals(reason, failureMessages.get(0));
+    }
+
+    @Test
+    void codeRegisteredElsewhereIsLookedUpAndCached() {
+        FailureMessageCatalog catalog = new FailureMessageCatalog(FailureMessageCatalog.DEFAULT_CAPACITY);
+        AtomicInteger lookups = new AtomicInteger();
+        catalog.install(Map.of(0, "known"), message -> 1, code -> {
+            lookups.incrementAndGet();
+            return code == 7 ? Optional.of("registered by another instance") : Optional.empty();
+        });
+
+        assertEquals("known", catalog.message(0));
+        assertEquals("registered by another instance", catalog.message(7));
+        assertEquals("registered by another instance", catalog.message(7));
+        assertEquals(7, catalog.code("registered by another instance"));
+        assertEquals(1, lookups.get());
+        assertThrows(OrderDomainException.class, () -> catalog.message(8));
+        assertThrows(OrderDomainException.class, () -> catalog.message(-1));
+    }
+
+    @Test
+    void registrationStopsAtCapacity() {
+        FailureMessageCatalog catalog = new FailureMessageCatalog(2);
+
+        assertEquals(0, catalog.register("first"));
+        assertEquals(1, catalog.register("second"));
+        assertEquals(FailureMessageCatalog.NO_CODE, catalog.register("third"));
+        assertEquals(0, catalog.register("first"));
+    }
+}
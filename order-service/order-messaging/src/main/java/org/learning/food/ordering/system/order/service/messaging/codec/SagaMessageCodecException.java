@@ -0,0 +1,14 @@
+package org.learning.food.ordering.system.order.service.messaging.codec;
+
+import org.learning.food.ordering.system.domain.exception.DomainException;
+
+public class SagaMessageCodecException extends DomainException {
+
+    public SagaMessageCodecException(String message) {
+        super(message);
+    }
+
+    public SagaMessageCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
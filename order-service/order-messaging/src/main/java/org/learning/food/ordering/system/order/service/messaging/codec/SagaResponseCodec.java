@@ -0,0 +1,316 @@
+package org.learning.food.ordering.system.order.service.messaging.codec;
+
+import org.learning.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import org.learning.food.ordering.system.domain.valueobject.PaymentStatus;
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Versioned binary layout for saga responses: version and message type bytes, a presence bitmask for nullable
+ * fields, UUIDs as two longs, instants as epoch nanoseconds, enums as ordinals and length-prefixed UTF-8 strings.
+ */
+@Component
+public final class SagaResponseCodec {
+    public static final byte VERSION = 1;
+    public static final byte PAYMENT_RESPONSE = 1;
+    public static final byte RESTAURANT_APPROVAL_RESPONSE = 2;
+
+    private static final int HEADER_SIZE = 2 + Short.BYTES;
+    private static final int UUID_SIZE = 2 * Long.BYTES;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final byte COMPACT_DECIMAL = 0;
+    private static final byte WIDE_DECIMAL = 1;
+    private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+    private static final OrderApprovalStatus[] ORDER_APPROVAL_STATUSES = OrderApprovalStatus.values();
+
+    public ByteBuffer encode(PaymentResponse paymentResponse) {
+        byte[] priceBytes = wideUnscaledValue(paymentResponse.price());
+        List<byte[]> failureMessages = encodeStrings(paymentResponse.failureMessages());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 5 * UUID_SIZE +
+                decimalSize(paymentResponse.price(), priceBytes) + Long.BYTES + 1 + stringsSize(failureMessages));
+        short presence = presence(paymentResponse.id(), paymentResponse.sagaId(), paymentResponse.orderId(),
+                paymentResponse.paymentId(), paymentResponse.customerId(), paymentResponse.price(),
+                paymentResponse.createdAt(), paymentResponse.paymentStatus(), paymentResponse.failureMessages());
+        buffer.put(VERSION).put(PAYMENT_RESPONSE).putShort(presence);
+        putUuid(buffer, paymentResponse.id());
+        putUuid(buffer, paymentResponse.sagaId());
+        putUuid(buffer, paymentResponse.orderId());
+        putUuid(buffer, paymentResponse.paymentId());
+        putUuid(buffer, paymentResponse.customerId());
+        putDecimal(buffer, paymentResponse.price(), priceBytes);
+        putInstant(buffer, paymentResponse.createdAt());
+        putOrdinal(buffer, paymentResponse.paymentStatus());
+        putStrings(buffer, failureMessages);
+        return buffer.flip();
+    }
+
+    public ByteBuffer encode(RestaurantApprovalResponse restaurantApprovalResponse) {
+        List<byte[]> failureMessages = encodeStrings(restaurantApprovalResponse.failureMessages());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 4 * UUID_SIZE + Long.BYTES + 1 +
+                stringsSize(failureMessages));
+        short presence = presence(restaurantApprovalResponse.id(), restaurantApprovalResponse.sagaId(),
+                restaurantApprovalResponse.orderId(), restaurantApprovalResponse.restaurantId(),
+                restaurantApprovalResponse.createdAt(), restaurantApprovalResponse.orderApprovalStatus(),
+                restaurantApprovalResponse.failureMessages());
+        buffer.put(VERSION).put(RESTAURANT_APPROVAL_RESPONSE).putShort(presence);
+        putUuid(buffer, restaurantApprovalResponse.id());
+        putUuid(buffer, restaurantApprovalResponse.sagaId());
+        putUuid(buffer, restaurantApprovalResponse.orderId());
+        putUuid(buffer, restaurantApprovalResponse.restaurantId());
+        putInstant(buffer, restaurantApprovalResponse.createdAt());
+        putOrdinal(buffer, restaurantApprovalResponse.orderApprovalStatus());
+        putStrings(buffer, failureMessages);
+        return buffer.flip();
+    }
+
+    public PaymentResponse decodePaymentResponse(ByteBuffer buffer) {
+        try {
+            short presence = readHeader(buffer, PAYMENT_RESPONSE);
+            return PaymentResponse.builder()
+                    .id(getUuid(buffer, presence, 0))
+                    .sagaId(getUuid(buffer, presence, 1))
+                    .orderId(getUuid(buffer, presence, 2))
+                    .paymentId(getUuid(buffer, presence, 3))
+                    .customerId(getUuid(buffer, presence, 4))
+                    .price(getDecimal(buffer, presence, 5))
+                    .createdAt(getInstant(buffer, presence, 6))
+                    .paymentStatus(getOrdinal(buffer, presence, 7, PAYMENT_STATUSES))
+                    .failureMessages(getFailureMessages(buffer, presence, 8))
+                    .build();
+        } catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException e) {
+            throw new SagaMessageCodecException("Could not decode PaymentResponse!", e);
+        }
+    }
+
+    public RestaurantApprovalResponse decodeRestaurantApprovalResponse(ByteBuffer buffer) {
+        try {
+            short presence = readHeader(buffer, RESTAURANT_APPROVAL_RESPONSE);
+            return RestaurantApprovalResponse.builder()
+                    .id(getUuid(buffer, presence, 0))
+                    .sagaId(getUuid(buffer, presence, 1))
+                    .orderId(getUuid(buffer, presence, 2))
+                    .restaurantId(getUuid(buffer, presence, 3))
+                    .createdAt(getInstant(buffer, presence, 4))
+                    .orderApprovalStatus(getOrdinal(buffer, presence, 5, ORDER_APPROVAL_STATUSES))
+                    .failureMessages(getFailureMessages(buffer, presence, 6))
+                    .build();
+        } catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException e) {
+            throw new SagaMessageCodecException("Could not decode RestaurantApprovalResponse!", e);
+        }
+    }
+
+    public byte messageType(ByteBuffer buffer) {
+        checkVersion(buffer.get(buffer.position()));
+        return buffer.get(buffer.position() + 1);
+    }
+
+    private short readHeader(ByteBuffer buffer, byte expectedType) {
+        checkVersion(buffer.get());
+        byte type = buffer.get();
+        if (type != expectedType) {
+            throw new SagaMessageCodecException("Unexpected saga message type: " + type + "!");
+        }
+        return buffer.getShort();
+    }
+
+    private void checkVersion(byte version) {
+        if (version != VERSION) {
+            throw new SagaMessageCodecException("Unsupported saga message version: " + version + "!");
+        }
+    }
+
+    private short presence(Object... fields) {
+        int presence = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (Objects.nonNull(fields[i])) {
+                presence |= 1 << i;
+            }
+        }
+        return (short) presence;
+    }
+
+    private boolean isPresent(short presence, int field) {
+        return (presence & (1 << field)) != 0;
+    }
+
+    private void putUuid(ByteBuffer buffer, String value) {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        } catch (IllegalArgumentException e) {
+            throw new SagaMessageCodecException("Saga message identifier is not a UUID: " + value + "!", e);
+        }
+    }
+
+    private String getUuid(ByteBuffer buffer, short presence, int field) {
+        return isPresent(presence, field) ? new UUID(buffer.getLong(), buffer.getLong()).toString() : null;
+    }
+
+    private byte[] wideUnscaledValue(BigDecimal value) {
+        if (Objects.isNull(value) || value.unscaledValue().bitLength() < Long.SIZE) {
+            return null;
+        }
+        return value.unscaledValue().toByteArray();
+    }
+
+    private int decimalSize(BigDecimal value, byte[] wideUnscaledValue) {
+        if (Objects.isNull(value)) {
+            return 0;
+        }
+        return Integer.BYTES + 1 + (Objects.isNull(wideUnscaledValue) ?
+                Long.BYTES : Integer.BYTES + wideUnscaledValue.length);
+    }
+
+    private void putDecimal(ByteBuffer buffer, BigDecimal value, byte[] wideUnscaledValue) {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        buffer.putInt(value.scale());
+        if (Objects.isNull(wideUnscaledValue)) {
+            buffer.put(COMPACT_DECIMAL).putLong(value.unscaledValue().longValue());
+        } else {
+            buffer.put(WIDE_DECIMAL).putInt(wideUnscaledValue.length).put(wideUnscaledValue);
+        }
+    }
+
+    private BigDecimal getDecimal(ByteBuffer buffer, short presence, int field) {
+        if (!isPresent(presence, field)) {
+            return null;
+        }
+        int scale = buffer.getInt();
+        byte encoding = buffer.get();
+        if (encoding == COMPACT_DECIMAL) {
+            return BigDecimal.valueOf(buffer.getLong(), scale);
+        }
+        if (encoding != WIDE_DECIMAL) {
+            throw new SagaMessageCodecException("Unknown decimal encoding: " + encoding + "!");
+        }
+        int length = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+            throw new SagaMessageCodecException("Invalid decimal length: " + length + "!");
+        }
+        byte[] unscaledValue = new byte[length];
+        buffer.get(unscaledValue);
+        return new BigDecimal(new BigInteger(unscaledValue), scale);
+    }
+
+    private void putInstant(ByteBuffer buffer, Instant value) {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        try {
+            buffer.putLong(Math.addExact(Math.multiplyExact(value.getEpochSecond(), NANOS_PER_SECOND),
+                    value.getNano()));
+        } catch (ArithmeticException e) {
+            throw new SagaMessageCodecException("Saga message instant is out of the epoch nanosecond range: " +
+                    value + "!", e);
+        }
+    }
+
+    private Instant getInstant(ByteBuffer buffer, short presence, int field) {
+        if (!isPresent(presence, field)) {
+            return null;
+        }
+        long epochNanos = buffer.getLong();
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                Math.floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+
+    private void putOrdinal(ByteBuffer buffer, Enum<?> value) {
+        if (Objects.nonNull(value)) {
+            buffer.put((byte) value.ordinal());
+        }
+    }
+
+    private <T extends Enum<T>> T getOrdinal(ByteBuffer buffer, short presence, int field, T[] values) {
+        if (!isPresent(presence, field)) {
+            return null;
+        }
+        int ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new SagaMessageCodecException("Unknown status ordinal: " + ordinal + "!");
+        }
+        return values[ordinal];
+    }
+
+    private List<byte[]> encodeStrings(List<String> values) {
+        if (Objects.isNull(values)) {
+            return null;
+        }
+        List<byte[]> encoded = new ArrayList<>(values.size());
+        for (String value : values) {
+            encoded.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return encoded;
+    }
+
+    private int stringsSize(List<byte[]> values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int size = Integer.BYTES;
+        for (byte[] value : values) {
+            size += Integer.BYTES + value.length;
+        }
+        return size;
+    }
+
+    private void putStrings(ByteBuffer buffer, List<byte[]> values) {
+        if (Objects.isNull(values)) {
+            return;
+        }
+        buffer.putInt(values.size());
+        for (byte[] value : values) {
+            buffer.putInt(value.length).put(value);
+        }
+    }
+
+    private FailureMessages getFailureMessages(ByteBuffer buffer, short presence, int field) {
+        if (!isPresent(presence, field)) {
+            return null;
+        }
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+            throw new SagaMessageCodecException("Invalid failure message count: " + count + "!");
+        }
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getString(buffer));
+        }
+        return FailureMessages.of(values);
+    }
+
+    private String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new SagaMessageCodecException("Invalid string length: " + length + "!");
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,133 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Drops saga responses whose id was already processed. A rotating Bloom filter answers "never seen" without any
+ * lookup; a "maybe" is confirmed against a bounded LRU of recent ids and, failing that, the processed message table.
+ * Messages older than the window are not remembered by the Bloom filter and fall through to the aggregate state check.
+ */
+@Slf4j
+public class DuplicateMessageFilter {
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final DuplicateMessageFilterConfig config;
+    private final Clock clock;
+    private final RotatingBloomFilter bloomFilter;
+    private final RecentMessageIds recentMessageIds;
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder recentHits = new LongAdder();
+    private final LongAdder repositoryHits = new LongAdder();
+    private final LongAdder repositoryMisses = new LongAdder();
+    private final LongAdder droppedDuplicates = new LongAdder();
+
+    public DuplicateMessageFilter(ProcessedMessageRepository processedMessageRepository,
+                                  DuplicateMessageFilterConfig config) {
+        this(processedMessageRepository, config, Clock.systemUTC());
+    }
+
+    public DuplicateMessageFilter(ProcessedMessageRepository processedMessageRepository,
+                                  DuplicateMessageFilterConfig config, Clock clock) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.config = config;
+        this.clock = clock;
+        this.bloomFilter = new RotatingBloomFilter(config.expectedMessagesPerWindow(), config.falsePositiveRate(),
+                config.window().toNanos(), config.generations(), System::nanoTime);
+        this.recentMessageIds = new RecentMessageIds(config.recentCapacity());
+    }
+
+    public void warmUp() {
+        OffsetDateTime since = OffsetDateTime.now(clock).minus(config.window());
+        long[] loaded = new long[1];
+        processedMessageRepository.replayProcessedSince(since, (messageType, messageId) -> {
+            remember(new MessageKey(messageType, messageId));
+            loaded[0]++;
+        });
+        log.info("Duplicate message filter is warmed up with {} processed messages since {}", loaded[0], since);
+    }
+
+    public <T> List<T> removeDuplicates(SagaResponseType messageType, List<T> messages,
+                                        Function<T, String> messageIdExtractor) {
+        List<T> uniqueMessages = new ArrayList<>(messages.size());
+        Set<String> batchMessageIds = new HashSet<>();
+        Map<String, T> unconfirmedMessages = new LinkedHashMap<>();
+        int duplicates = 0;
+        for (T message : messages) {
+            String messageId = messageIdExtractor.apply(message);
+            if (Objects.isNull(messageId)) {
+                uniqueMessages.add(message);
+                continue;
+            }
+            if (!batchMessageIds.add(messageId)) {
+                duplicates++;
+                continue;
+            }
+            MessageKey messageKey = new MessageKey(messageType, messageId);
+            if (!bloomFilter.mightContain(messageKey.hash64())) {
+                bloomNegatives.increment();
+                uniqueMessages.add(message);
+            } else if (recentMessageIds.contains(messageKey)) {
+                recentHits.increment();
+                duplicates++;
+            } else {
+                unconfirmedMessages.put(messageId, message);
+            }
+        }
+
+        if (!unconfirmedMessages.isEmpty()) {
+            Set<String> processed = processedMessageRepository.findProcessed(messageType,
+                    unconfirmedMessages.keySet());
+            repositoryHits.add(processed.size());
+            repositoryMisses.add(unconfirmedMessages.size() - processed.size());
+            for (Map.Entry<String, T> unconfirmedMessage : unconfirmedMessages.entrySet()) {
+                if (processed.contains(unconfirmedMessage.getKey())) {
+                    recentMessageIds.add(new MessageKey(messageType, unconfirmedMessage.getKey()));
+                    duplicates++;
+                } else {
+                    uniqueMessages.add(unconfirmedMessage.getValue());
+                }
+            }
+        }
+
+        if (duplicates > 0) {
+            droppedDuplicates.add(duplicates);
+            log.info("{} duplicate {} messages are dropped", duplicates, messageType);
+        }
+        return uniqueMessages;
+    }
+
+    public <T> void markProcessed(SagaResponseType messageType, List<T> messages,
+                                  Function<T, String> messageIdExtractor) {
+        List<String> messageIds = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            String messageId = messageIdExtractor.apply(message);
+            if (!Objects.isNull(messageId)) {
+                messageIds.add(messageId);
+            }
+        }
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        processedMessageRepository.saveAll(messageType, messageIds, OffsetDateTime.now(clock));
+        for (String messageId : messageIds) {
+            remember(new MessageKey(messageType, messageId));
+        }
+    }
+
+    public DuplicateMessageFilterStats stats() {
+        return new DuplicateMessageFilterStats(bloomNegatives.sum(), recentHits.sum(), repositoryHits.sum(),
+                repositoryMisses.sum(), droppedDuplicates.sum());
+    }
+
+    private void remember(MessageKey messageKey) {
+        bloomFilter.put(messageKey.hash64());
+        recentMessageIds.add(messageKey);
+    }
+}
@@ -0,0 +1,9 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import java.time.Duration;
+
+public record DuplicateMessageFilterConfig(long expectedMessagesPerWindow, double falsePositiveRate, Duration window,
+                                           int generations, int recentCapacity) {
+    public static final DuplicateMessageFilterConfig DEFAULT = new DuplicateMessageFilterConfig(
+            1_000_000, 0.01, Duration.ofHours(1), 4, 100_000);
+}
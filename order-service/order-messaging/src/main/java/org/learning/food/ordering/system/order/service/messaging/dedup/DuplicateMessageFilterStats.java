@@ -0,0 +1,5 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+public record DuplicateMessageFilterStats(long bloomNegatives, long recentHits, long repositoryHits,
+                                          long repositoryMisses, long droppedDuplicates) {
+}
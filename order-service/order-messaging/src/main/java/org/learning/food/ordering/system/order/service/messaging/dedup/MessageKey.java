@@ -0,0 +1,19 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+
+record MessageKey(SagaResponseType messageType, String messageId) {
+
+    long hash64() {
+        long hash = 0xcbf29ce484222325L ^ messageType.ordinal();
+        for (int i = 0; i < messageId.length(); i++) {
+            hash = (hash ^ messageId.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,29 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class RecentMessageIds {
+    private final LinkedHashMap<MessageKey, Boolean> messageIds;
+
+    RecentMessageIds(int capacity) {
+        this.messageIds = new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MessageKey, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized boolean contains(MessageKey messageKey) {
+        return messageIds.get(messageKey) != null;
+    }
+
+    synchronized void add(MessageKey messageKey) {
+        messageIds.put(messageKey, Boolean.TRUE);
+    }
+
+    synchronized int size() {
+        return messageIds.size();
+    }
+}
@@ -0,0 +1,120 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Bloom filter split into generations that each cover {@code window / generations}. On rotation the oldest
+ * generation is cleared and becomes the current one, so a key is remembered for at least
+ * {@code window * (generations - 1) / generations} and at most {@code window}, in fixed memory.
+ */
+final class RotatingBloomFilter {
+    private final AtomicLongArray[] generations;
+    private final long bitMask;
+    private final int hashCount;
+    private final long rotationIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile int current;
+    private volatile long rotatedAtNanos;
+
+    RotatingBloomFilter(long expectedInsertions, double falsePositiveRate, long windowNanos, int generationCount,
+                        LongSupplier nanoClock) {
+        if (generationCount < 2) {
+            throw new IllegalArgumentException("At least two generations are required");
+        }
+        long insertionsPerGeneration = Math.max(1, expectedInsertions / generationCount);
+        double generationFalsePositiveRate = falsePositiveRate / generationCount;
+        long optimalBits = (long) Math.ceil(-insertionsPerGeneration * Math.log(generationFalsePositiveRate) /
+                (Math.log(2) * Math.log(2)));
+        long bitCount = Math.max(64, Long.highestOneBit(optimalBits - 1) << 1);
+        if (bitCount / 64 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter is too large for " + expectedInsertions + " insertions");
+        }
+        this.bitMask = bitCount - 1;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertionsPerGeneration * Math.log(2)));
+        this.generations = new AtomicLongArray[generationCount];
+        for (int generation = 0; generation < generationCount; generation++) {
+            generations[generation] = new AtomicLongArray((int) (bitCount / 64));
+        }
+        this.rotationIntervalNanos = windowNanos / generationCount;
+        this.nanoClock = nanoClock;
+        this.rotatedAtNanos = nanoClock.getAsLong();
+    }
+
+    boolean mightContain(long hash) {
+        rotateIfDue();
+        for (AtomicLongArray generation : generations) {
+            if (containsIn(generation, hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void put(long hash) {
+        rotateIfDue();
+        AtomicLongArray generation = generations[current];
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + (long) i * h2) & bitMask;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long value = generation.get(word);
+            while ((value & mask) == 0 && !generation.compareAndSet(word, value, value | mask)) {
+                value = generation.get(word);
+            }
+        }
+    }
+
+    long bitCount() {
+        return bitMask + 1;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private boolean containsIn(AtomicLongArray generation, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + (long) i * h2) & bitMask;
+            if ((generation.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rotateIfDue() {
+        if (nanoClock.getAsLong() - rotatedAtNanos < rotationIntervalNanos) {
+            return;
+        }
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            if (now - rotatedAtNanos >= rotationIntervalNanos * generations.length) {
+                // Idle for a whole window: every generation is out of date.
+                for (AtomicLongArray generation : generations) {
+                    clear(generation);
+                }
+                current = (current + 1) % generations.length;
+                rotatedAtNanos = now;
+                return;
+            }
+            while (now - rotatedAtNanos >= rotationIntervalNanos) {
+                int next = (current + 1) % generations.length;
+                clear(generations[next]);
+                current = next;
+                rotatedAtNanos += rotationIntervalNanos;
+            }
+        }
+    }
+
+    private static void clear(AtomicLongArray generation) {
+        for (int word = 0; word < generation.length(); word++) {
+            generation.set(word, 0L);
+        }
+    }
+}
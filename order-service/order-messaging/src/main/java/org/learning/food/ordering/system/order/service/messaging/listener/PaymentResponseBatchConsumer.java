@@ -0,0 +1,55 @@
+package org.learning.food.ordering.system.order.service.messaging.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+import org.learning.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import org.learning.food.ordering.system.order.service.domain.saga.KeyedOrderExecutor;
+import org.learning.food.ordering.system.order.service.messaging.codec.SagaMessageCodecException;
+import org.learning.food.ordering.system.order.service.messaging.codec.SagaResponseCodec;
+import org.learning.food.ordering.system.order.service.messaging.dedup.DuplicateMessageFilter;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class PaymentResponseBatchConsumer {
+    private final PaymentResponseMessageListener paymentResponseMessageListener;
+    private final SagaResponseCodec sagaResponseCodec;
+    private final KeyedOrderExecutor keyedOrderExecutor;
+    private final DuplicateMessageFilter duplicateMessageFilter;
+
+    public PaymentResponseBatchConsumer(PaymentResponseMessageListener paymentResponseMessageListener,
+                                        SagaResponseCodec sagaResponseCodec,
+                                        KeyedOrderExecutor keyedOrderExecutor,
+                                        DuplicateMessageFilter duplicateMessageFilter) {
+        this.paymentResponseMessageListener = paymentResponseMessageListener;
+        this.sagaResponseCodec = sagaResponseCodec;
+        this.keyedOrderExecutor = keyedOrderExecutor;
+        this.duplicateMessageFilter = duplicateMessageFilter;
+    }
+
+    public void receive(List<ByteBuffer> messages) {
+        List<PaymentResponse> paymentResponses = new ArrayList<>(messages.size());
+        for (ByteBuffer message : messages) {
+            try {
+                paymentResponses.add(sagaResponseCodec.decodePaymentResponse(message));
+            } catch (SagaMessageCodecException e) {
+                log.error("Payment response message could not be decoded and is skipped", e);
+            }
+        }
+        log.info("{} payment responses received", paymentResponses.size());
+        List<PaymentResponse> uniqueResponses = duplicateMessageFilter.removeDuplicates(SagaResponseType.PAYMENT_RESPONSE,
+                paymentResponses, PaymentResponse::id);
+        if (!uniqueResponses.isEmpty()) {
+            keyedOrderExecutor.executeBatch(uniqueResponses, PaymentResponse::orderId, laneResponses -> {
+                VersionConflictRetry.run("Payment response", () ->
+                        paymentResponseMessageListener.paymentResponsesReceived(laneResponses));
+                duplicateMessageFilter.markProcessed(SagaResponseType.PAYMENT_RESPONSE, laneResponses, PaymentResponse::id);
+            });
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.learning.food.ordering.system.order.service.messaging.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+import org.learning.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import org.learning.food.ordering.system.order.service.domain.saga.KeyedOrderExecutor;
+import org.learning.food.ordering.system.order.service.messaging.codec.SagaMessageCodecException;
+import org.learning.food.ordering.system.order.service.messaging.codec.SagaResponseCodec;
+import org.learning.food.ordering.system.order.service.messaging.dedup.DuplicateMessageFilter;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class RestaurantApprovalResponseBatchConsumer {
+    private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+    private final SagaResponseCodec sagaResponseCodec;
+    private final KeyedOrderExecutor keyedOrderExecutor;
+    private final DuplicateMessageFilter duplicateMessageFilter;
+
+    public RestaurantApprovalResponseBatchConsumer(
+            RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
+            SagaResponseCodec sagaResponseCodec,
+            KeyedOrderExecutor keyedOrderExecutor,
+            DuplicateMessageFilter duplicateMessageFilter) {
+        this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
+        this.sagaResponseCodec = sagaResponseCodec;
+        this.keyedOrderExecutor = keyedOrderExecutor;
+        this.duplicateMessageFilter = duplicateMessageFilter;
+    }
+
+    public void receive(List<ByteBuffer> messages) {
+        List<RestaurantApprovalResponse> restaurantApprovalResponses = new ArrayList<>(messages.size());
+        for (ByteBuffer message : messages) {
+            try {
+                restaurantApprovalResponses.add(sagaResponseCodec.decodeRestaurantApprovalResponse(message));
+            } catch (SagaMessageCodecException e) {
+                log.error("Restaurant approval response message could not be decoded and is skipped", e);
+            }
+        }
+        log.info("{} restaurant approval responses received", restaurantApprovalResponses.size());
+        List<RestaurantApprovalResponse> uniqueResponses = duplicateMessageFilter.removeDuplicates(
+                SagaResponseType.RESTAURANT_APPROVAL_RESPONSE, restaurantApprovalResponses, RestaurantApprovalResponse::id);
+        if (!uniqueResponses.isEmpty()) {
+            keyedOrderExecutor.executeBatch(uniqueResponses, RestaurantApprovalResponse::orderId, laneResponses -> {
+                VersionConflictRetry.run("Restaurant approval response", () ->
+                        restaurantApprovalResponseMessageListener.restaurantApprovalResponsesReceived(laneResponses));
+                duplicateMessageFilter.markProcessed(SagaResponseType.RESTAURANT_APPROVAL_RESPONSE, laneResponses,
+                        RestaurantApprovalResponse::id);
+            });
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.learning.food.ordering.system.order.service.messaging.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.exception.OrderVersionConflictException;
+
+@Slf4j
+final class VersionConflictRetry {
+    static final int MAX_ATTEMPTS = 3;
+
+    private VersionConflictRetry() {
+    }
+
+    /**
+     * Each attempt runs in its own transaction, so a conflicting batch is rolled back and reapplied on freshly
+     * loaded orders. Responses that were already applied by the concurrent writer fail their state check and are skipped.
+     */
+    static void run(String batchName, Runnable batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                batch.run();
+                return;
+            } catch (OrderVersionConflictException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("{} batch hit a version conflict on order with id: {}, retrying ({}/{})", batchName,
+                        e.getOrderId().getValue(), attempt, MAX_ATTEMPTS);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.learning.food.ordering.system.order.service.messaging.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import org.learning.food.ordering.system.order.service.domain.ports.output.message.publisher.OrderOutboxMessagePublisher;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Publishes STARTED outbox messages in batches and marks the published ones COMPLETED. Messages of the same order are
+ * published one after another and the order's remaining messages are left for the next poll after a failure, so a
+ * retry never overtakes an earlier event of that order.
+ * <p>
+ * Each batch is fetched, published and marked in one transaction of the given {@link TransactionOperations}, which
+ * keeps the claimed rows locked until they are marked. Relays sharing a database need a real transaction manager.
+ */
+@Slf4j
+public class OrderOutboxRelay implements AutoCloseable {
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxMessagePublisher orderOutboxMessagePublisher;
+    private final OrderOutboxRelayConfig config;
+    private final TransactionOperations transactionOperations;
+    private final Semaphore inFlightPermits;
+    private final ScheduledExecutorService scheduler;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderOutboxMessagePublisher orderOutboxMessagePublisher,
+                            OrderOutboxRelayConfig config) {
+        this(orderOutboxRepository, orderOutboxMessagePublisher, config, TransactionOperations.withoutTransaction());
+    }
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderOutboxMessagePublisher orderOutboxMessagePublisher,
+                            OrderOutboxRelayConfig config, TransactionOperations transactionOperations) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderOutboxMessagePublisher = orderOutboxMessagePublisher;
+        this.config = config;
+        this.transactionOperations = transactionOperations;
+        this.inFlightPermits = new Semaphore(config.concurrency());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::relay, 0, config.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Order outbox relay is started with batch size: {}, poll interval: {} and concurrency: {}",
+                config.batchSize(), config.pollInterval(), config.concurrency());
+    }
+
+    public int relayPending() {
+        int relayed = 0;
+        BatchResult batchResult;
+        do {
+            batchResult = Objects.requireNonNull(transactionOperations.execute(status -> relayBatch()));
+            relayed += batchResult.published();
+        } while (batchResult.fetched() == config.batchSize() && batchResult.published() > 0);
+        return relayed;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(config.pollInterval().toMillis() * 10, TimeUnit.MILLISECONDS)) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void relay() {
+        try {
+            int relayed = relayPending();
+            if (relayed > 0) {
+                log.debug("{} order outbox messages are relayed", relayed);
+            }
+        } catch (RuntimeException e) {
+            log.error("Order outbox relay failed", e);
+        }
+    }
+
+    private BatchResult relayBatch() {
+        List<OrderOutboxMessage> batch = orderOutboxRepository.findByOutboxStatus(OutboxStatus.STARTED,
+                config.batchSize());
+        return new BatchResult(batch.size(), publishBatch(batch));
+    }
+
+    private int publishBatch(List<OrderOutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, List<OrderOutboxMessage>> messagesByOrder = new LinkedHashMap<>();
+        for (OrderOutboxMessage orderOutboxMessage : batch) {
+            messagesByOrder.computeIfAbsent(orderOutboxMessage.orderId(), orderId -> new ArrayList<>(1))
+                    .add(orderOutboxMessage);
+        }
+        Queue<UUID> publishedIds = new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] publishFutures = new CompletableFuture<?>[messagesByOrder.size()];
+        int order = 0;
+        for (List<OrderOutboxMessage> orderMessages : messagesByOrder.values()) {
+            inFlightPermits.acquireUninterruptibly();
+            publishFutures[order++] = publishInOrder(orderMessages, 0, publishedIds)
+                    .whenComplete((result, throwable) -> inFlightPermits.release());
+        }
+        CompletableFuture.allOf(publishFutures).exceptionally(throwable -> null).join();
+
+        if (!publishedIds.isEmpty()) {
+            orderOutboxRepository.updateOutboxStatus(List.copyOf(publishedIds), OutboxStatus.COMPLETED,
+                    OffsetDateTime.now(ZoneOffset.UTC));
+        }
+        return publishedIds.size();
+    }
+
+    private CompletableFuture<Void> publishInOrder(List<OrderOutboxMessage> orderMessages, int index,
+                                                   Queue<UUID> publishedIds) {
+        OrderOutboxMessage orderOutboxMessage = orderMessages.get(index);
+        return publish(orderOutboxMessage).handle((result, throwable) -> {
+            if (throwable != null) {
+                log.error("Order outbox message with id: {} could not be published for order id: {}",
+                        orderOutboxMessage.id(), orderOutboxMessage.orderId(), throwable);
+                return false;
+            }
+            publishedIds.add(orderOutboxMessage.id());
+            return true;
+        }).thenCompose(published -> published && index + 1 < orderMessages.size() ?
+                publishInOrder(orderMessages, index + 1, publishedIds) : CompletableFuture.completedFuture(null));
+    }
+
+    private CompletableFuture<Void> publish(OrderOutboxMessage orderOutboxMessage) {
+        try {
+            return orderOutboxMessagePublisher.publish(orderOutboxMessage);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private record BatchResult(int fetched, int published) {
+    }
+}
@@ -0,0 +1,7 @@
+package org.learning.food.ordering.system.order.service.messaging.outbox;
+
+import java.time.Duration;
+
+public record OrderOutboxRelayConfig(int batchSize, Duration pollInterval, int concurrency) {
+    public static final OrderOutboxRelayConfig DEFAULT = new OrderOutboxRelayConfig(500, Duration.ofMillis(100), 64);
+}
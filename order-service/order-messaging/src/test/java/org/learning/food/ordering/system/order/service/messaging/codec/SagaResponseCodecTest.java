@@ -0,0 +1,141 @@
+package org.learning.food.ordering.system.order.service.messaging.codec;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import org.learning.food.ordering.system.domain.valueobject.PaymentStatus;
+import org.learning.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import org.learning.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import org.learning.food.ordering.system.order.service.domain.valueobject.FailureMessages;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SagaResponseCodecTest {
+    private static final int PRICE_OFFSET = 4 + 5 * 2 * Long.BYTES;
+
+    private final SagaResponseCodec codec = new SagaResponseCodec();
+
+    @Test
+    void paymentResponseRoundTripsThroughHeapAndDirectBuffers() {
+        PaymentResponse paymentResponse = paymentResponse(new BigDecimal("125.50"),
+                Instant.parse("2024-03-01T10:15:30.123456789Z"));
+        ByteBuffer encoded = codec.encode(paymentResponse);
+
+        assertEquals(paymentResponse, codec.decodePaymentResponse(encoded.duplicate()));
+        assertEquals(paymentResponse, codec.decodePaymentResponse(direct(encoded)));
+        assertEquals(paymentResponse, codec.decodePaymentResponse(encoded.asReadOnlyBuffer()));
+    }
+
+    @Test
+    void restaurantApprovalResponseRoundTripsThroughHeapAndDirectBuffers() {
+        RestaurantApprovalResponse restaurantApprovalResponse = RestaurantApprovalResponse.builder()
+                .id(uuid())
+                .sagaId(uuid())
+                .orderId(uuid())
+                .restaurantId(uuid())
+                .createdAt(Instant.parse("2024-03-01T10:15:30Z"))
+                .orderApprovalStatus(OrderApprovalStatus.REJECTED)
+                .failureMessages(FailureMessages.of(List.of("Product is not available", "Ürün yok")))
+                .build();
+        ByteBuffer encoded = codec.encode(restaurantApprovalResponse);
+
+        assertEquals(SagaResponseCodec.RESTAURANT_APPROVAL_RESPONSE, codec.messageType(encoded));
+        assertEquals(restaurantApprovalResponse, codec.decodeRestaurantApprovalResponse(encoded.duplicate()));
+        assertEquals(restaurantApprovalResponse, codec.decodeRestaurantApprovalResponse(direct(encoded)));
+    }
+
+    @Test
+    void nullFieldsRoundTrip() {
+        PaymentResponse paymentResponse = PaymentResponse.builder().build();
+        RestaurantApprovalResponse restaurantApprovalResponse = RestaurantApprovalResponse.builder().build();
+
+        assertEquals(paymentResponse, codec.decodePaymentResponse(codec.encode(paymentResponse)));
+        assertEquals(restaurantApprovalResponse,
+                codec.decodeRestaurantApprovalResponse(codec.encode(restaurantApprovalResponse)));
+    }
+
+    @Test
+    void wideDecimalsRoundTrip() {
+        for (String price : List.of("123456789012345678901234567890.123456789", "-92233720368547758.08",
+                "9223372036854775807", "0.000000000000000000001")) {
+            PaymentResponse paymentResponse = paymentResponse(new BigDecimal(price), Instant.EPOCH);
+
+            assertEquals(paymentResponse, codec.decodePaymentResponse(direct(codec.encode(paymentResponse))), price);
+        }
+    }
+
+    @Test
+    void preEpochInstantsRoundTrip() {
+        for (Instant createdAt : List.of(Instant.parse("1969-12-31T23:59:59.999999999Z"),
+                Instant.ofEpochSecond(-5_000_000_000L, 1), Instant.ofEpochSecond(-1, 0))) {
+            PaymentResponse paymentResponse = paymentResponse(BigDecimal.TEN, createdAt);
+
+            assertEquals(createdAt, codec.decodePaymentResponse(codec.encode(paymentResponse)).createdAt());
+        }
+    }
+
+    @Test
+    void instantOutsideTheEpochNanosecondRangeIsRejected() {
+        PaymentResponse paymentResponse = paymentResponse(BigDecimal.TEN, Instant.MAX);
+
+        assertThrows(SagaMessageCodecException.class, () -> codec.encode(paymentResponse));
+    }
+
+    @Test
+    void truncatedInputIsRejected() {
+        ByteBuffer encoded = codec.encode(paymentResponse(new BigDecimal("123456789012345678901234567890.12"),
+                Instant.EPOCH));
+
+        for (int length = 0; length < encoded.remaining(); length++) {
+            ByteBuffer truncated = encoded.duplicate().limit(length);
+            assertThrows(SagaMessageCodecException.class, () -> codec.decodePaymentResponse(truncated),
+                    "length " + length);
+        }
+    }
+
+    @Test
+    void corruptDecimalLengthIsRejected() {
+        ByteBuffer encoded = codec.encode(paymentResponse(new BigDecimal("123456789012345678901234567890.12"),
+                Instant.EPOCH));
+        int lengthOffset = PRICE_OFFSET + Integer.BYTES + 1;
+
+        for (int length : new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, -1, 0}) {
+            ByteBuffer corrupt = copy(encoded).putInt(lengthOffset, length);
+            assertThrows(SagaMessageCodecException.class, () -> codec.decodePaymentResponse(corrupt),
+                    "length " + length);
+        }
+        ByteBuffer unknownEncoding = copy(encoded).put(PRICE_OFFSET + Integer.BYTES, (byte) 7);
+        assertThrows(SagaMessageCodecException.class, () -> codec.decodePaymentResponse(unknownEncoding));
+    }
+
+    private static PaymentResponse paymentResponse(BigDecimal price, Instant createdAt) {
+        return PaymentResponse.builder()
+                .id(uuid())
+                .sagaId(uuid())
+                .orderId(uuid())
+                .paymentId(uuid())
+                .customerId(uuid())
+                .price(price)
+                .createdAt(createdAt)
+                .paymentStatus(PaymentStatus.FAILED)
+                .failureMessages(FailureMessages.of(List.of("Customer has not enough credit")))
+                .build();
+    }
+
+    private static String uuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer) {
+        return ByteBuffer.allocate(buffer.remaining()).put(buffer.duplicate()).flip();
+    }
+
+    private static ByteBuffer direct(ByteBuffer buffer) {
+        return ByteBuffer.allocateDirect(buffer.remaining()).put(buffer.duplicate()).flip();
+    }
+}
@@ -0,0 +1,154 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateMessageFilterTest {
+    private static final SagaResponseType PAYMENT = SagaResponseType.PAYMENT_RESPONSE;
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final Function<String, String> ID = Function.identity();
+
+    private final InMemoryProcessedMessageRepository repository = new InMemoryProcessedMessageRepository();
+
+    @Test
+    void newMessagesPassWithoutARepositoryLookup() {
+        DuplicateMessageFilter filter = newFilter(DuplicateMessageFilterConfig.DEFAULT);
+
+        assertEquals(List.of("a", "b", "c"), filter.removeDuplicates(PAYMENT, List.of("a", "b", "c"), ID));
+
+        assertEquals(0, repository.lookups);
+    }
+
+    @Test
+    void processedMessagesAndRepeatsWithinTheBatchAreDropped() {
+        DuplicateMessageFilter filter = newFilter(DuplicateMessageFilterConfig.DEFAULT);
+        filter.markProcessed(PAYMENT, List.of("a", "b"), ID);
+
+        List<String> unique = filter.removeDuplicates(PAYMENT, List.of("a", "c", "c", "b", "d"), ID);
+
+        assertEquals(List.of("c", "d"), unique);
+        assertEquals(Set.of("a", "b"), repository.processed(PAYMENT));
+        assertEquals(3, filter.stats().droppedDuplicates());
+        assertEquals(2, filter.stats().recentHits());
+    }
+
+    @Test
+    void processedIdOfAnotherMessageTypeIsNotADuplicate() {
+        DuplicateMessageFilter filter = newFilter(DuplicateMessageFilterConfig.DEFAULT);
+        filter.markProcessed(SagaResponseType.RESTAURANT_APPROVAL_RESPONSE, List.of("a"), ID);
+
+        assertEquals(List.of("a"), filter.removeDuplicates(PAYMENT, List.of("a"), ID));
+    }
+
+    @Test
+    void messagesWithoutIdAlwaysPass() {
+        DuplicateMessageFilter filter = newFilter(DuplicateMessageFilterConfig.DEFAULT);
+        List<String> messages = Arrays.asList("a", "no-id", "no-id");
+        Function<String, String> idExtractor = message -> message.equals("no-id") ? null : message;
+        filter.markProcessed(PAYMENT, messages, idExtractor);
+
+        assertEquals(List.of("no-id", "no-id"), filter.removeDuplicates(PAYMENT, messages, idExtractor));
+        assertEquals(Set.of("a"), repository.processed(PAYMENT));
+    }
+
+    @Test
+    void evictedRecentIdIsConfirmedAgainstTheRepository() {
+        DuplicateMessageFilter filter = newFilter(new DuplicateMessageFilterConfig(1_000, 0.01, Duration.ofHours(1),
+                4, 1));
+        filter.markProcessed(PAYMENT, List.of("a", "b"), ID);
+
+        assertEquals(List.of(), filter.removeDuplicates(PAYMENT, List.of("a", "b"), ID));
+
+        assertEquals(1, repository.lookups);
+        assertEquals(1, filter.stats().repositoryHits());
+        assertEquals(1, filter.stats().recentHits());
+    }
+
+    @Test
+    void bloomFilterFalsePositivesAreNotDropped() {
+        // A filter sized for a single message saturates quickly, so every new id is a "maybe" that only the
+        // repository can settle.
+        DuplicateMessageFilter filter = newFilter(new DuplicateMessageFilterConfig(1, 0.5, Duration.ofHours(1), 4,
+                1));
+        List<String> processed = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            processed.add("processed-" + i);
+        }
+        filter.markProcessed(PAYMENT, processed, ID);
+        List<String> fresh = List.of("fresh-1", "fresh-2", "fresh-3");
+
+        assertEquals(fresh, filter.removeDuplicates(PAYMENT, fresh, ID));
+
+        assertEquals(3, filter.stats().repositoryMisses());
+        assertEquals(0, filter.stats().droppedDuplicates());
+    }
+
+    @Test
+    void warmUpRemembersMessagesProcessedWithinTheWindow() {
+        repository.saveAll(PAYMENT, List.of("old"), OffsetDateTime.now(CLOCK).minusHours(2));
+        repository.saveAll(PAYMENT, List.of("recent"), OffsetDateTime.now(CLOCK).minusMinutes(5));
+        DuplicateMessageFilter filter = newFilter(DuplicateMessageFilterConfig.DEFAULT);
+
+        filter.warmUp();
+
+        assertEquals(List.of("new"), filter.removeDuplicates(PAYMENT, List.of("recent", "new"), ID));
+        assertEquals(1, filter.stats().recentHits());
+        assertEquals(0, repository.lookups);
+    }
+
+    private DuplicateMessageFilter newFilter(DuplicateMessageFilterConfig config) {
+        return new DuplicateMessageFilter(repository, config, CLOCK);
+    }
+
+    private static final class InMemoryProcessedMessageRepository implements ProcessedMessageRepository {
+        private final Map<SagaResponseType, Map<String, OffsetDateTime>> processedAtById =
+                new EnumMap<>(SagaResponseType.class);
+        private int lookups;
+
+        Set<String> processed(SagaResponseType messageType) {
+            return processedAtById.getOrDefault(messageType, Map.of()).keySet();
+        }
+
+        @Override
+        public Set<String> findProcessed(SagaResponseType messageType, Collection<String> messageIds) {
+            lookups++;
+            Set<String> processed = new HashSet<>(messageIds);
+            processed.retainAll(processed(messageType));
+            return processed;
+        }
+
+        @Override
+        public void saveAll(SagaResponseType messageType, Collection<String> messageIds,
+                            OffsetDateTime processedAt) {
+            Map<String, OffsetDateTime> processed = processedAtById.computeIfAbsent(messageType,
+                    type -> new HashMap<>());
+            messageIds.forEach(messageId -> processed.putIfAbsent(messageId, processedAt));
+        }
+
+        @Override
+        public void replayProcessedSince(OffsetDateTime processedAt, BiConsumer<SagaResponseType, String> consumer) {
+            processedAtById.forEach((messageType, processed) -> processed.forEach((messageId, at) -> {
+                if (!at.isBefore(processedAt)) {
+                    consumer.accept(messageType, messageId);
+                }
+            }));
+        }
+
+        @Override
+        public int deleteProcessedBefore(OffsetDateTime processedAt) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.order.service.domain.dto.message.SagaResponseType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentMessageIdsTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedIdPastCapacity() {
+        RecentMessageIds recentMessageIds = new RecentMessageIds(2);
+        MessageKey first = key("first");
+        MessageKey second = key("second");
+        recentMessageIds.add(first);
+        recentMessageIds.add(second);
+
+        assertTrue(recentMessageIds.contains(first));
+        recentMessageIds.add(key("third"));
+
+        assertEquals(2, recentMessageIds.size());
+        assertTrue(recentMessageIds.contains(first));
+        assertFalse(recentMessageIds.contains(second));
+        assertTrue(recentMessageIds.contains(key("third")));
+    }
+
+    @Test
+    void sameIdOfAnotherMessageTypeIsADifferentKey() {
+        RecentMessageIds recentMessageIds = new RecentMessageIds(10);
+        recentMessageIds.add(key("id"));
+
+        assertFalse(recentMessageIds.contains(new MessageKey(SagaResponseType.RESTAURANT_APPROVAL_RESPONSE, "id")));
+    }
+
+    private static MessageKey key(String messageId) {
+        return new MessageKey(SagaResponseType.PAYMENT_RESPONSE, messageId);
+    }
+}
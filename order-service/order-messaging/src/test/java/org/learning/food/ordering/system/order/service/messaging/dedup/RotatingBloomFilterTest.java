@@ -0,0 +1,77 @@
+package org.learning.food.ordering.system.order.service.messaging.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotatingBloomFilterTest {
+    private static final long WINDOW_NANOS = 4_000;
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @Test
+    void insertedKeysAreAlwaysReportedAndUnseenKeysRarely() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(40_000, 0.01, WINDOW_NANOS, 4, nanoClock::get);
+        SplittableRandom random = new SplittableRandom(11L);
+        long[] inserted = new long[10_000];
+        for (int i = 0; i < inserted.length; i++) {
+            inserted[i] = random.nextLong();
+            filter.put(inserted[i]);
+        }
+
+        for (long hash : inserted) {
+            assertTrue(filter.mightContain(hash));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 1_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void keyIsRememberedForAllButTheLastGenerationOfTheWindow() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.01, WINDOW_NANOS, 4, nanoClock::get);
+        long hash = 0x9E3779B97F4A7C15L;
+        filter.put(hash);
+
+        nanoClock.set(WINDOW_NANOS * 3 / 4 + WINDOW_NANOS / 8);
+        assertTrue(filter.mightContain(hash));
+
+        nanoClock.set(WINDOW_NANOS);
+        assertFalse(filter.mightContain(hash));
+    }
+
+    @Test
+    void longIdlePeriodClearsEveryGeneration() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.01, WINDOW_NANOS, 4, nanoClock::get);
+        long hash = 42L;
+        filter.put(hash);
+
+        nanoClock.set(WINDOW_NANOS * 1_000);
+
+        assertFalse(filter.mightContain(hash));
+        filter.put(hash);
+        assertTrue(filter.mightContain(hash));
+    }
+
+    @Test
+    void sizesTheFilterAsAPowerOfTwo() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000_000, 0.01, WINDOW_NANOS, 4, nanoClock::get);
+
+        assertEquals(1, Long.bitCount(filter.bitCount()));
+        assertTrue(filter.bitCount() >= 250_000 * 10);
+        assertTrue(filter.hashCount() >= 1);
+    }
+
+    @Test
+    void rejectsASingleGeneration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RotatingBloomFilter(1_000, 0.01, WINDOW_NANOS, 1, nanoClock::get));
+    }
+}
@@ -0,0 +1,133 @@
+package org.learning.food.ordering.system.order.service.messaging.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.learning.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import org.learning.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderOutboxRelayTest {
+    private static final OrderOutboxRelayConfig CONFIG = new OrderOutboxRelayConfig(10, Duration.ofMillis(100), 4);
+
+    @Test
+    void failedMessageHoldsBackLaterMessagesOfTheSameOrder() {
+        InMemoryOrderOutboxRepository repository = new InMemoryOrderOutboxRepository();
+        UUID failingOrderId = UUID.randomUUID();
+        UUID otherOrderId = UUID.randomUUID();
+        OrderOutboxMessage created = repository.add(failingOrderId, OrderOutboxEventType.ORDER_CREATED);
+        OrderOutboxMessage paid = repository.add(failingOrderId, OrderOutboxEventType.ORDER_PAID);
+        OrderOutboxMessage otherCreated = repository.add(otherOrderId, OrderOutboxEventType.ORDER_CREATED);
+
+        List<UUID> publishedIds = new ArrayList<>();
+        Set<UUID> failOnce = new HashSet<>(Set.of(created.id()));
+        OrderOutboxRelay relay = new OrderOutboxRelay(repository, message -> {
+            if (failOnce.remove(message.id())) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+            }
+            synchronized (publishedIds) {
+                publishedIds.add(message.id());
+            }
+            return CompletableFuture.completedFuture(null);
+        }, CONFIG);
+
+        assertEquals(1, relay.relayPending());
+        assertEquals(List.of(otherCreated.id()), publishedIds);
+        assertEquals(OutboxStatus.STARTED, repository.status(created.id()));
+        assertEquals(OutboxStatus.STARTED, repository.status(paid.id()));
+
+        assertEquals(2, relay.relayPending());
+        assertEquals(List.of(otherCreated.id(), created.id(), paid.id()), publishedIds);
+        assertEquals(OutboxStatus.COMPLETED, repository.status(paid.id()));
+    }
+
+    @Test
+    void messagesOfOneOrderArePublishedInCreationOrder() {
+        InMemoryOrderOutboxRepository repository = new InMemoryOrderOutboxRepository();
+        UUID orderId = UUID.randomUUID();
+        OrderOutboxMessage created = repository.add(orderId, OrderOutboxEventType.ORDER_CREATED);
+        OrderOutboxMessage paid = repository.add(orderId, OrderOutboxEventType.ORDER_PAID);
+        OrderOutboxMessage cancelling = repository.add(orderId, OrderOutboxEventType.ORDER_CANCELLING);
+
+        List<UUID> publishedIds = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> slowBroker = new CompletableFuture<>();
+        OrderOutboxRelay relay = new OrderOutboxRelay(repository, message -> {
+            publishedIds.add(message.id());
+            return message.id().equals(created.id()) ?
+                    slowBroker.completeAsync(() -> null) : CompletableFuture.completedFuture(null);
+        }, CONFIG);
+
+        assertEquals(3, relay.relayPending());
+        assertEquals(List.of(created.id(), paid.id(), cancelling.id()), publishedIds);
+    }
+
+    private static final class InMemoryOrderOutboxRepository implements OrderOutboxRepository {
+        private final List<OrderOutboxMessage> messages = new ArrayList<>();
+        private final OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC);
+
+        OrderOutboxMessage add(UUID orderId, OrderOutboxEventType eventType) {
+            OrderOutboxMessage message = OrderOutboxMessage.builder()
+                    .id(UUID.randomUUID())
+                    .orderId(orderId)
+                    .eventType(eventType)
+                    .payload("{}")
+                    .createdAt(createdAt.plusNanos(messages.size()))
+                    .outboxStatus(OutboxStatus.STARTED)
+                    .build();
+            messages.add(message);
+            return message;
+        }
+
+        OutboxStatus status(UUID id) {
+            return messages.stream().filter(message -> message.id().equals(id)).findFirst().orElseThrow()
+                    .outboxStatus();
+        }
+
+        @Override
+        public void save(OrderOutboxMessage orderOutboxMessage) {
+            messages.add(orderOutboxMessage);
+        }
+
+        @Override
+        public void saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+            messages.addAll(orderOutboxMessages);
+        }
+
+        @Override
+        public synchronized List<OrderOutboxMessage> findByOutboxStatus(OutboxStatus outboxStatus, int limit) {
+            return messages.stream()
+                    .filter(message -> message.outboxStatus() == outboxStatus)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public synchronized int updateOutboxStatus(Collection<UUID> ids, OutboxStatus outboxStatus,
+                                                   OffsetDateTime processedAt) {
+            int updated = 0;
+            for (int i = 0; i < messages.size(); i++) {
+                OrderOutboxMessage message = messages.get(i);
+                if (ids.contains(message.id())) {
+                    messages.set(i, OrderOutboxMessage.builder()
+                            .id(message.id())
+                            .orderId(message.orderId())
+                            .eventType(message.eventType())
+                            .payload(message.payload())
+                            .createdAt(message.createdAt())
+                            .processedAt(processedAt)
+                            .outboxStatus(outboxStatus)
+                            .build());
+                    updated++;
+                }
+            }
+            return updated;
+        }
+    }
+}